@@ -0,0 +1,40 @@
+package com.example.todo_backend.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts second-level cache entries for rows changed by native statements,
+ * which Hibernate cannot track on its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCompletion(Class<?> entityClass, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(entityClass, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(entityClass, id);
+            }
+        });
+    }
+
+    public void evict(Class<?> entityClass, Object id) {
+        entityManagerFactory.getCache().evict(entityClass, id);
+    }
+
+    public void evictAll(Class<?> entityClass) {
+        entityManagerFactory.getCache().evict(entityClass);
+    }
+}
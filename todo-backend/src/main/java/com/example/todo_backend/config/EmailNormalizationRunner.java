@@ -0,0 +1,71 @@
+package com.example.todo_backend.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.todo_backend.entities.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Emails are lower-cased on write and looked up lower-cased, so rows written
+ * before that would no longer be found. This rewrites them once, on startup.
+ * Where several accounts differ only in case, the one already stored
+ * lower-cased, or else the oldest, gets the address; the others keep theirs
+ * unchanged, so the unique constraint holds, and are logged to be merged by
+ * hand. They can still sign in by username.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailNormalizationRunner implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email <> LOWER(TRIM(email))", Long.class);
+        if (pending == null || pending == 0) {
+            return;
+        }
+        Map<String, List<Account>> byEmail = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM users WHERE email IS NOT NULL ORDER BY id", row -> {
+            Account account = new Account(row.getLong("id"), row.getString("email"));
+            byEmail.computeIfAbsent(User.normalizeEmail(account.email()), email -> new ArrayList<>()).add(account);
+        });
+
+        List<Object[]> updates = new ArrayList<>();
+        byEmail.forEach((email, accounts) -> {
+            Account owner = accounts.stream()
+                    .filter(account -> account.email().equals(email))
+                    .findFirst()
+                    .orElse(accounts.get(0));
+            if (!owner.email().equals(email)) {
+                updates.add(new Object[] { email, owner.id() });
+            }
+            if (accounts.size() > 1) {
+                log.warn("Accounts {} share the email {} apart from case; account {} keeps it, merge the others by hand",
+                        accounts.stream().map(Account::id).toList(), email, owner.id());
+            }
+        });
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE users SET email = ? WHERE id = ?", updates);
+        entityManagerFactory.getCache().evict(User.class);
+        log.info("Lower-cased the email of {} accounts", updates.size());
+    }
+
+    private record Account(long id, String email) {}
+}
@@ -0,0 +1,30 @@
+package com.example.todo_backend.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.example.todo_backend.services.AuditService;
+import com.example.todo_backend.services.NotificationRetentionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Converts the notifications and audit tables to monthly partitions on first
+ * start when {@code todo.notifications.partitioning.enabled} or
+ * {@code todo.audit.partitioning.enabled} is set, and makes sure the upcoming
+ * months exist.
+ */
+@Component
+@RequiredArgsConstructor
+public class PartitionRunner implements ApplicationRunner {
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final AuditService auditService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        notificationRetentionService.preparePartitions();
+        auditService.preparePartitions();
+    }
+}
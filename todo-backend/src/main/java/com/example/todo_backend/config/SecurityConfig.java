@@ -1,5 +1,6 @@
 package com.example.todo_backend.config;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -20,11 +21,14 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.example.todo_backend.security.BCryptCalibration;
+import com.example.todo_backend.security.BoundedPasswordEncoder;
 import com.example.todo_backend.security.CustomOAuth2UserService;
 import com.example.todo_backend.security.CustomUserDetailsService;
 import com.example.todo_backend.security.JwtAuthFilter;
 import com.example.todo_backend.security.OAuth2AuthenticationSuccessHandler;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -41,6 +45,23 @@ public class SecurityConfig {
     @Value("${cors.allowed-origin}")
     private String allowedOrigin;
 
+    /** Fixed BCrypt work factor; 0 calibrates it at startup against {@code bcryptTarget}. */
+    @Value("${todo.security.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${todo.security.bcrypt.target:250ms}")
+    private Duration bcryptTarget;
+
+    /** Hashing threads; 0 uses half the available cores. */
+    @Value("${todo.security.password-hash.threads:0}")
+    private int hashThreads;
+
+    @Value("${todo.security.password-hash.queue-capacity:100}")
+    private int hashQueueCapacity;
+
+    @Value("${todo.security.password-hash.wait-timeout:5s}")
+    private Duration hashWaitTimeout;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -96,14 +117,17 @@ public class SecurityConfig {
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int strength = bcryptStrength > 0 ? bcryptStrength : BCryptCalibration.strengthFor(bcryptTarget);
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, hashQueueCapacity,
+                hashWaitTimeout, meterRegistry);
     }
 }
@@ -0,0 +1,64 @@
+package com.example.todo_backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entities moved from IDENTITY columns to pooled sequences. On databases that
+ * already hold rows, Hibernate creates the sequences starting at 1, so we push
+ * each one past the current max(id) before the first insert hands out a
+ * colliding block. Only runs against PostgreSQL; it never moves a sequence backwards.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceAlignmentRunner implements ApplicationRunner {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("users", "users_seq");
+        SEQUENCES.put("boards", "boards_seq");
+        SEQUENCES.put("board_members", "board_members_seq");
+        SEQUENCES.put("lists", "lists_seq");
+        SEQUENCES.put("cards", "cards_seq");
+        SEQUENCES.put("card_members", "card_members_seq");
+        SEQUENCES.put("comments", "comments_seq");
+        SEQUENCES.put("notifications", "notifications_seq");
+        SEQUENCES.put("activities", "activities_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isPostgres()) {
+            return;
+        }
+        SEQUENCES.forEach((table, sequence) -> {
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST("
+                            + "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + ", "
+                            + "(SELECT last_value FROM " + sequence + ")))",
+                    Long.class);
+            log.debug("Sequence {} aligned to {}", sequence, value);
+        });
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("postgres");
+    }
+}
@@ -2,19 +2,40 @@ package com.example.todo_backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.example.todo_backend.websocket.CompressionHandshakeHandler;
+import com.example.todo_backend.websocket.OutboundFrameMetricsInterceptor;
+import com.example.todo_backend.websocket.SlowConsumerProtection;
+import com.example.todo_backend.websocket.StompAuthChannelInterceptor;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final OutboundFrameMetricsInterceptor outboundFrameMetricsInterceptor;
+    private final CompressionHandshakeHandler compressionHandshakeHandler;
+    private final SlowConsumerProtection slowConsumerProtection;
+
     @Value("${cors.allowed-origin}")
     private String allowedOrigin;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
+                .setHandshakeHandler(compressionHandshakeHandler)
                 .setAllowedOrigins(allowedOrigin) 
                 .withSockJS(); 
     }
@@ -22,6 +43,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic");
+        registry.setUserDestinationPrefix("/user");
+        registry.enableSimpleBroker("/topic", "/queue");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(outboundFrameMetricsInterceptor);
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) slowConsumerProtection.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(slowConsumerProtection.getBufferSizeLimit())
+                .addDecoratorFactory(slowConsumerProtection);
     }
 }
@@ -0,0 +1,77 @@
+package com.example.todo_backend.controllers;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.todo_backend.dtos.AttachmentDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.services.AttachmentService;
+import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.storage.BlobStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Card attachments. An upload is the raw request body, typed by its
+ * {@code Content-Type} and named by the {@code name} parameter, and is
+ * streamed to the store as it arrives.
+ */
+@RestController
+@RequestMapping("/api/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final AuthService authenticationService;
+    private final BlobStore blobStore;
+
+    @PostMapping("/uploadAttachment/{cardId}")
+    public ResponseEntity<AttachmentDTO> uploadAttachment(@PathVariable Long cardId, @RequestParam String name,
+                                                          HttpServletRequest request) throws IOException {
+        Long userId = authenticationService.getCurrentUserId();
+        AttachmentDTO attachment = attachmentService.uploadAttachment(cardId, userId, name, request.getContentType(),
+                request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.status(201).body(attachment);
+    }
+
+    @GetMapping("/getAttachmentsByCard/{cardId}")
+    public ResponseEntity<List<AttachmentDTO>> getAttachmentsByCard(@PathVariable Long cardId) {
+        return ResponseEntity.ok(attachmentService.getAttachmentsByCardId(cardId));
+    }
+
+    @GetMapping("/{id}/content")
+    public void getContent(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        BlobResponses.send(blobStore, attachmentService.getContent(id), false, request, response);
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    public void getThumbnail(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        BlobResponses.send(blobStore, attachmentService.getThumbnail(id), true, request, response);
+    }
+
+    @DeleteMapping("/deleteAttachment/{id}")
+    public ResponseEntity<Void> deleteAttachment(@PathVariable Long id) {
+        attachmentService.deleteAttachment(id, authenticationService.getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequest(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+}
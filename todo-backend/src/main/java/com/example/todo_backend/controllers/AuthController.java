@@ -1,8 +1,6 @@
 package com.example.todo_backend.controllers;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -28,7 +26,6 @@ public class AuthController {
 
     private final AuthService authService;
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
     private final PasswordResetService passwordResetService;
 
     @PostMapping("/register")
@@ -40,8 +37,7 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<JwtResponse> loginUser(@RequestBody LoginRequest request) {
         User user = authService.authenticate(request);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
         return ResponseEntity.ok(new JwtResponse(token));
     }
 
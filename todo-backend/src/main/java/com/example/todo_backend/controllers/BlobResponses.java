@@ -0,0 +1,130 @@
+package com.example.todo_backend.controllers;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
+import com.example.todo_backend.storage.BlobContent;
+import com.example.todo_backend.storage.BlobStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes a stored blob as the response body. The content hash is the strong
+ * ETag, so {@code If-None-Match} answers 304 and {@code If-Range} is exact. A
+ * single {@code Range} is answered with 206; several ranges, or a range
+ * header that does not parse, get the whole blob, which HTTP allows.
+ *
+ * Under Tomcat, bodies of at least {@value #SENDFILE_MIN_SIZE} bytes are
+ * handed to the connector's sendfile support, which has the kernel send the
+ * file after the handler returns and without holding the request thread.
+ * Smaller bodies, and servers without sendfile, are written through
+ * {@link BlobStore#transferTo} into the response stream. That copies every
+ * byte through the JDK's and the connector's small heap buffers, so memory
+ * stays flat but the copy is not free.
+ */
+final class BlobResponses {
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private BlobResponses() {
+    }
+
+    static void send(BlobStore blobStore, BlobContent content, boolean inline,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = blobStore.path(content.hash());
+        long length;
+        try {
+            length = Files.size(file);
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Content", "hash", content.hash());
+        }
+
+        String eTag = "\"" + content.hash() + "\"";
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ETags.REVALIDATE.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(content.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(content.fileName(), inline));
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, eTag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length;
+            }
+            if (start >= length || start > end) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        blobStore.transferTo(content.hash(), start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /** Plain {@code filename} for ASCII names; others get the UTF-8 {@code filename*} form as well. */
+    private static String contentDisposition(String fileName, boolean inline) {
+        ContentDisposition.Builder builder = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        if (StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)) {
+            builder.filename(fileName);
+        } else {
+            builder.filename(fileName, StandardCharsets.UTF_8);
+        }
+        return builder.build().toString();
+    }
+
+    private static HttpRange requestedRange(HttpServletRequest request, String eTag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(eTag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.todo_backend.controllers;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,13 +12,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.todo_backend.dtos.AuditPageDTO;
+import com.example.todo_backend.dtos.BoardChangesDTO;
+import com.example.todo_backend.dtos.BoardCloneDTO;
 import com.example.todo_backend.dtos.BoardDTO;
 import com.example.todo_backend.dtos.BoardUpdateDTO;
+import com.example.todo_backend.dtos.BoardViewerDTO;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.BoardService;
+import com.example.todo_backend.services.PresenceService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +43,14 @@ public class BoardController {
 
     private final BoardService boardService;
 
+    private final PresenceService presenceService;
+
+    private final BoardRevisionService boardRevisionService;
+
+    private final BoardChangeService boardChangeService;
+
+    private final AuditService auditService;
+
     @PostMapping("/createBoard")
     public ResponseEntity<BoardDTO> createBoard(@RequestBody BoardDTO boardDTO) {
         Long userId = authenticationService.getCurrentUserId();
@@ -40,14 +61,29 @@ public class BoardController {
 
     @PutMapping("/updateBoard")
     public ResponseEntity<BoardDTO> updateBoard(
-            @RequestBody BoardUpdateDTO updateDTO) {
+            @RequestBody BoardUpdateDTO updateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Long userId = authenticationService.getCurrentUserId();
-        return ResponseEntity.ok(boardService.updateBoard(updateDTO, userId));
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch);
+        if (expectedVersion != null) {
+            updateDTO.setVersion(expectedVersion);
+        }
+        BoardDTO board = boardService.updateBoard(updateDTO, userId);
+        return ETags.withVersion(ResponseEntity.ok(), board.getVersion(), board);
+    }
+
+    @PostMapping("/{id}/clone")
+    public ResponseEntity<BoardDTO> cloneBoard(@PathVariable Long id, @RequestBody BoardCloneDTO cloneDTO) {
+        Long userId = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(boardService.cloneBoard(id, cloneDTO, userId));
     }
 
     @GetMapping("/getBoard/{id}")
-    public ResponseEntity<BoardDTO> getBoardById(@PathVariable Long id) {
-        return ResponseEntity.ok(boardService.getBoardById(id));
+    public ResponseEntity<BoardDTO> getBoardById(@PathVariable Long id, WebRequest request) {
+        if (ETags.notModified(request, boardRevisionService.getBoardRevision(id))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(boardService.getBoardById(id));
     }
 
     @GetMapping("/getBoardByUser")
@@ -56,12 +92,35 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getBoardsByUserId(userId));
     }
 
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<BoardChangesDTO> getBoardChanges(@PathVariable Long id, @RequestParam long since) {
+        return ResponseEntity.ok(boardChangeService.getChangesSince(id, since));
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<AuditPageDTO> getBoardHistory(@PathVariable Long id,
+                                                        @RequestParam(required = false) Long before,
+                                                        @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(auditService.getBoardHistory(id, before, limit));
+    }
+
+    @GetMapping("/{id}/presence")
+    public ResponseEntity<List<BoardViewerDTO>> getBoardPresence(@PathVariable Long id) {
+        Long userId = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(presenceService.getBoardViewers(id, userId));
+    }
+
     @DeleteMapping("/deleteBoard/{id}")
     public ResponseEntity<Void> deleteBoard(@PathVariable Long id) {
         boardService.deleteBoard(id);
         return ResponseEntity.noContent().build();
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         if (ex.getMessage().contains("not found")) {
@@ -2,6 +2,7 @@ package com.example.todo_backend.controllers;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,11 +12,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.todo_backend.dtos.AuditPageDTO;
 import com.example.todo_backend.dtos.CardDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.CardService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +36,8 @@ public class CardController {
 
     private final CardService cardService;
     private final AuthService authenticationService;
+    private final BoardRevisionService boardRevisionService;
+    private final AuditService auditService;
 
     @PostMapping("/createCard")
     public ResponseEntity<CardDTO> createCard(@RequestBody CardDTO cardDTO) {
@@ -37,14 +48,29 @@ public class CardController {
     }
 
     @PutMapping("/updateCard/{cardId}")
-    public ResponseEntity<CardDTO> updateCard(@PathVariable Long cardId, @RequestBody CardDTO cardDTO) {
+    public ResponseEntity<CardDTO> updateCard(@PathVariable Long cardId, @RequestBody CardDTO cardDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch);
+        if (expectedVersion != null) {
+            cardDTO.setVersion(expectedVersion);
+        }
         CardDTO updatedCard = cardService.updateCard(cardId, cardDTO);
-        return ResponseEntity.ok(updatedCard);
+        return ETags.withVersion(ResponseEntity.ok(), updatedCard.getVersion(), updatedCard);
     }
 
     @GetMapping("/getCardsByList/{listId}")
-    public ResponseEntity<List<CardDTO>> getCardsByList(@PathVariable Long listId) {
-        return ResponseEntity.ok(cardService.getCardsByListId(listId));
+    public ResponseEntity<List<CardDTO>> getCardsByList(@PathVariable Long listId, WebRequest request) {
+        if (ETags.notModified(request, boardRevisionService.getListRevision(listId))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(cardService.getCardsByListId(listId));
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<AuditPageDTO> getCardHistory(@PathVariable Long id,
+                                                       @RequestParam(required = false) Long before,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(auditService.getCardHistory(id, before, limit));
     }
 
     @DeleteMapping("/deleteCard/{id}")
@@ -53,6 +79,28 @@ public class CardController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/watch")
+    public ResponseEntity<Void> watchCard(@PathVariable Long id) {
+        cardService.watchCard(id, authenticationService.getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/watch")
+    public ResponseEntity<Void> unwatchCard(@PathVariable Long id) {
+        cardService.unwatchCard(id, authenticationService.getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequest(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         if (ex.getMessage().toLowerCase().contains("not found")) {
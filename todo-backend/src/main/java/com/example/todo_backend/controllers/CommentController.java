@@ -12,9 +12,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.todo_backend.dtos.CommentDTO;
+import com.example.todo_backend.dtos.CommentPageDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.services.AuthService;
 import com.example.todo_backend.services.CommentService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class CommentController {
 
     private final CommentService commentService;
+    private final AuthService authenticationService;
 
     @PostMapping("/createComment") 
     public ResponseEntity<CommentDTO> createComment(@RequestBody CommentDTO commentDTO, Principal principal) {
@@ -39,12 +44,39 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/getCommentPage/{cardId}")
+    public ResponseEntity<CommentPageDTO> getCommentPage(@PathVariable Long cardId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int limit,
+                                                         @RequestParam(defaultValue = "false") boolean threaded) {
+        return ResponseEntity.ok(commentService.getCommentPage(cardId, cursor, limit, threaded));
+    }
+
+    @GetMapping("/getReplyPage/{commentId}")
+    public ResponseEntity<CommentPageDTO> getReplyPage(@PathVariable Long commentId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(commentService.getReplyPage(commentId, cursor, limit));
+    }
+
+    @GetMapping("/getMentions")
+    public ResponseEntity<CommentPageDTO> getMentions(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int limit) {
+        Long userId = authenticationService.getCurrentUserId();
+        return ResponseEntity.ok(commentService.getMentions(userId, cursor, limit));
+    }
+
     @DeleteMapping("/deleteComment/{id}") 
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
         commentService.deleteComment(id);
         return ResponseEntity.noContent().build();
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequest(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         if (ex.getMessage().toLowerCase().contains("not found")) {
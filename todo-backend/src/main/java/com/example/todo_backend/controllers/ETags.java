@@ -0,0 +1,58 @@
+package com.example.todo_backend.controllers;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+
+/**
+ * Entity versions as HTTP validators: responses carry the version as a strong
+ * {@code ETag}, and an {@code If-Match} header on an update names the version
+ * the client last saw. Board reads are validated by the board revision
+ * instead, tagged {@code "r<revision>"} so the two are never confused.
+ */
+final class ETags {
+
+    /**
+     * Lets browsers keep board reads and revalidate them on every poll; without
+     * it the default {@code no-store} means they never send {@code If-None-Match}.
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    static <T> ResponseEntity<T> withVersion(ResponseEntity.BodyBuilder response, Long version, T body) {
+        if (version != null) {
+            response.eTag("\"" + version + "\"");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Answers a board read from its revision: true when {@code If-None-Match}
+     * still matches and the response is already a 304, otherwise the ETag is set
+     * and the caller builds the body. Read the revision before the payload, so
+     * a concurrent write can only make the tag older than the body, never newer.
+     */
+    static boolean notModified(WebRequest request, Long revision) {
+        return revision != null && request.checkNotModified("\"r" + revision + "\"");
+    }
+
+    /** Version named by an {@code If-Match} header, or null when there is none or it is {@code *}. */
+    static Long ifMatchVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not name a version: " + ifMatch);
+        }
+    }
+}
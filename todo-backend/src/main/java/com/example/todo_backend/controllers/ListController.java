@@ -2,6 +2,7 @@ package com.example.todo_backend.controllers;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,10 +12,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.todo_backend.dtos.ListDTO;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.ListService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 public class ListController {
 
     private final ListService listService;
+    private final BoardRevisionService boardRevisionService;
 
     @PostMapping("/createList")
     public ResponseEntity<ListDTO> createList(@RequestBody ListDTO listDTO) {
@@ -34,15 +40,23 @@ public class ListController {
     }
 
     @PutMapping("/updateList")
-    public ResponseEntity<ListDTO> updateList(@RequestBody ListDTO listDTO) {
+    public ResponseEntity<ListDTO> updateList(@RequestBody ListDTO listDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch);
+        if (expectedVersion != null) {
+            listDTO.setVersion(expectedVersion);
+        }
         ListDTO createdList = listService.updateList(listDTO);
-        return ResponseEntity.status(201).body(createdList);
+        return ETags.withVersion(ResponseEntity.status(201), createdList.getVersion(), createdList);
     }
 
 
     @GetMapping("/getListsByBoard/{boardId}")
-    public ResponseEntity<List<ListDTO>> getListsByBoard(@PathVariable Long boardId) {
-        return ResponseEntity.ok(listService.getListsByBoardId(boardId));
+    public ResponseEntity<List<ListDTO>> getListsByBoard(@PathVariable Long boardId, WebRequest request) {
+        if (ETags.notModified(request, boardRevisionService.getBoardRevision(boardId))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ETags.REVALIDATE).body(listService.getListsByBoardId(boardId));
     }
 
     @DeleteMapping("/deleteList/{id}")
@@ -51,6 +65,11 @@ public class ListController {
         return ResponseEntity.noContent().build();
     }
     
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<String> handleRuntimeException(RuntimeException ex) {
         if (ex.getMessage().toLowerCase().contains("not found")) {
@@ -0,0 +1,36 @@
+package com.example.todo_backend.controllers;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.todo_backend.dtos.UndoStateDTO;
+import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.UndoService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/undo")
+@RequiredArgsConstructor
+public class UndoController {
+
+    private final UndoService undoService;
+    private final AuthService authenticationService;
+
+    @GetMapping
+    public UndoStateDTO getState() {
+        return undoService.getState(authenticationService.getCurrentUserId());
+    }
+
+    @PostMapping
+    public UndoStateDTO undo() {
+        return undoService.undo(authenticationService.getCurrentUserId());
+    }
+
+    @PostMapping("/redo")
+    public UndoStateDTO redo() {
+        return undoService.redo(authenticationService.getCurrentUserId());
+    }
+}
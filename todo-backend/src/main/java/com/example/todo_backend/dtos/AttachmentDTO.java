@@ -0,0 +1,10 @@
+package com.example.todo_backend.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * A card attachment. {@code contentHash} is the ETag its content is served
+ * with; {@code thumbnail} turns true once a thumbnail of an image has been made.
+ */
+public record AttachmentDTO(Long id, Long cardId, String fileName, String contentType, long size,
+                            String contentHash, boolean thumbnail, Long uploadedBy, LocalDateTime createdAt) {}
@@ -0,0 +1,17 @@
+package com.example.todo_backend.dtos;
+
+import java.time.LocalDateTime;
+
+import com.example.todo_backend.entities.AuditEventType;
+
+public record AuditEventDTO(
+        Long id,
+        AuditEventType type,
+        Long actorId,
+        String actorName,
+        Long boardId,
+        Long listId,
+        Long cardId,
+        String detail,
+        LocalDateTime timestamp
+        ) {}
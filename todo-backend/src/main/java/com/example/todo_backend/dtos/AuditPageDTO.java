@@ -0,0 +1,9 @@
+package com.example.todo_backend.dtos;
+
+import java.util.List;
+
+/**
+ * One page of history, newest first. Pass {@code nextBefore} as
+ * {@code before} to get the next page; it is null on the last one.
+ */
+public record AuditPageDTO(List<AuditEventDTO> events, Long nextBefore) {}
@@ -0,0 +1,26 @@
+package com.example.todo_backend.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * What changed on a board after a given revision. {@code board} and
+ * {@code lists} are sent whole whenever anything changed, since their counters
+ * move with every card; cards are sent only when they were written. When
+ * {@code resync} is set the log no longer reaches back that far and the client
+ * has to reload the board.
+ */
+@Data
+public class BoardChangesDTO {
+    private Long boardId;
+    private long since;
+    private long revision;
+    private boolean resync;
+    private BoardDTO board;
+    private List<ListDTO> lists = new ArrayList<>();
+    private List<CardDTO> cards = new ArrayList<>();
+    private List<Long> deletedListIds = new ArrayList<>();
+    private List<Long> deletedCardIds = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.example.todo_backend.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardCloneDTO {
+    private String name;
+    private boolean includeMembers;
+}
@@ -10,6 +10,9 @@ import lombok.NoArgsConstructor;
 public class BoardDTO {
     private Long id;
     private String name;
+    private int cardCount;
+    private int commentCount;
     private List<BoardMemberDTO> members;
     private List<ListDTO> lists;
+    private Long version;
 }
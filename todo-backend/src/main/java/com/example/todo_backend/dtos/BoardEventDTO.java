@@ -0,0 +1,15 @@
+package com.example.todo_backend.dtos;
+
+import java.time.LocalDateTime;
+
+import com.example.todo_backend.entities.NotificationType;
+
+public record BoardEventDTO(
+        Long id,
+        NotificationType type,
+        Long actorId,
+        Long boardId,
+        Long entityId,
+        String title,
+        LocalDateTime timestamp
+        ) {}
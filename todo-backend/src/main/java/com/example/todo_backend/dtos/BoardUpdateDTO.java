@@ -13,5 +13,6 @@ public class BoardUpdateDTO {
     private String newName;
     private List<Long> userIds; 
     private String role; 
+    private Long version;
     
 }
@@ -0,0 +1,6 @@
+package com.example.todo_backend.dtos;
+
+public record BoardViewerDTO(
+        Long userId,
+        String username
+        ) {}
@@ -17,4 +17,5 @@ public class CardDTO {
     private Long listId;
     private List<CardMemberDTO> members;
     private List<CommentDTO> comments;
+    private Long version;
 }
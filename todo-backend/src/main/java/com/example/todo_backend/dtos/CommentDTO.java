@@ -1,6 +1,8 @@
 package com.example.todo_backend.dtos;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,4 +16,8 @@ public class CommentDTO {
     private Long cardId;
     private UserDTO user;
     private LocalDateTime createdAt;
+    private Long parentId;
+    private List<CommentDTO> replies;
+    private Long replyCount;
+    private String repliesCursor;
 }
@@ -0,0 +1,9 @@
+package com.example.todo_backend.dtos;
+
+import java.util.List;
+
+/**
+ * One page of comments. Pass {@code nextCursor} back as {@code cursor} to get
+ * the next page; it is null on the last one.
+ */
+public record CommentPageDTO(List<CommentDTO> comments, String nextCursor) {}
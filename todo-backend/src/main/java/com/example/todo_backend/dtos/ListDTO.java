@@ -14,5 +14,8 @@ public class ListDTO {
     private String name;
     private String color;
     private Long boardId;
+    private int cardCount;
+    private int commentCount;
     private List<CardDTO> cards;
+    private Long version;
 }
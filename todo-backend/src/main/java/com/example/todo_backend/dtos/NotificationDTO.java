@@ -2,10 +2,18 @@ package com.example.todo_backend.dtos;
 
 import java.time.LocalDateTime;
 
+import com.example.todo_backend.entities.NotificationType;
+
 public record NotificationDTO(
         Long id,
         boolean seen,
         String message,
         Long userId,
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        NotificationType type,
+        Long actorId,
+        Long boardId,
+        Long entityId,
+        String title,
+        int eventCount
         ) {}
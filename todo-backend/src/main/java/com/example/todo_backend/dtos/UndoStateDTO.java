@@ -0,0 +1,10 @@
+package com.example.todo_backend.dtos;
+
+import java.util.List;
+
+/**
+ * A user's undo and redo stacks, most recent first. After an undo or redo,
+ * {@code applied} describes what was just done and {@code boardId} is the
+ * board it changed.
+ */
+public record UndoStateDTO(String applied, Long boardId, List<String> undo, List<String> redo) {}
@@ -0,0 +1,61 @@
+package com.example.todo_backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A file attached to a card. The bytes live in the blob store under
+ * {@code contentHash}; cards holding the same file share one blob. The
+ * thumbnail, for images, is a blob of its own and is filled in by a
+ * background worker some time after the upload.
+ */
+@Entity
+@Table(name = "attachments", indexes = {
+        @Index(name = "idx_attachments_card", columnList = "card_id, id"),
+        @Index(name = "idx_attachments_content", columnList = "content_hash"),
+        @Index(name = "idx_attachments_thumbnail", columnList = "thumbnail_hash")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Attachment {
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachments_seq")
+  @SequenceGenerator(name = "attachments_seq", sequenceName = "attachments_seq", allocationSize = 50)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  private Card card;
+
+  /** Plain id, so that purging the uploader does not have to touch attachments. */
+  private Long uploadedBy;
+
+  @Column(nullable = false)
+  private String fileName;
+
+  @Column(nullable = false)
+  private String contentType;
+
+  private long size;
+
+  @Column(nullable = false, length = 64)
+  private String contentHash;
+
+  @Column(length = 64)
+  private String thumbnailHash;
+
+  private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,77 @@
+package com.example.todo_backend.entities;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the append-only audit log. Rows are never updated and hold
+ * plain ids rather than foreign keys, so the history of a card, list or board
+ * outlives the row it describes and survives purges.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_card", columnList = "card_id, id"),
+        @Index(name = "idx_audit_events_board", columnList = "board_id, id"),
+        @Index(name = "idx_audit_events_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEvent {
+    private static final int DETAIL_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_events_seq")
+    @SequenceGenerator(name = "audit_events_seq", sequenceName = "audit_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.ORDINAL)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
+    @Column(nullable = false, updatable = false)
+    private AuditEventType type;
+
+    @Column(updatable = false)
+    private Long actorId;
+
+    @Column(nullable = false, updatable = false)
+    private Long boardId;
+
+    @Column(updatable = false)
+    private Long listId;
+
+    @Column(updatable = false)
+    private Long cardId;
+
+    @Column(length = DETAIL_LENGTH, updatable = false)
+    private String detail;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public static AuditEvent of(AuditEventType type, Long actorId, Long boardId, Long listId, Long cardId, String detail) {
+        AuditEvent event = new AuditEvent();
+        event.setType(type);
+        event.setActorId(actorId);
+        event.setBoardId(boardId);
+        event.setListId(listId);
+        event.setCardId(cardId);
+        event.setDetail(detail != null && detail.length() > DETAIL_LENGTH ? detail.substring(0, DETAIL_LENGTH) : detail);
+        return event;
+    }
+}
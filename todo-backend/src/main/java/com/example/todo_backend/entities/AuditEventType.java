@@ -0,0 +1,26 @@
+package com.example.todo_backend.entities;
+
+/**
+ * Stored by ordinal to keep audit rows small: only ever append new types at
+ * the end, never reorder or remove one.
+ */
+public enum AuditEventType {
+    CARD_CREATED,
+    CARD_UPDATED,
+    CARD_MOVED,
+    CARD_DELETED,
+    COMMENT_ADDED,
+    COMMENT_DELETED,
+    LIST_CREATED,
+    LIST_UPDATED,
+    LIST_DELETED,
+    BOARD_CREATED,
+    BOARD_UPDATED,
+    BOARD_MEMBERS_ADDED,
+    BOARD_CLONED,
+    BOARD_DELETED,
+    LIST_RESTORED,
+    CARD_RESTORED,
+    ATTACHMENT_ADDED,
+    ATTACHMENT_DELETED
+}
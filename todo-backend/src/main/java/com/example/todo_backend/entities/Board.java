@@ -1,34 +1,78 @@
 package com.example.todo_backend.entities;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "boards")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Board {
   @Id 
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "boards_seq")
+  @SequenceGenerator(name = "boards_seq", sequenceName = "boards_seq", allocationSize = 50)
   private Long id;
 
   private String name;
 
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
+
+  /**
+   * Bumped by {@code BoardRepository.bumpRevision*} on every write to the board
+   * or anything shown on it, and read back on its own for conditional GETs.
+   * Never read it from a cached entity.
+   */
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long revision;
+
+  /** Oldest revision the change log can still answer from; see {@code BoardChangeService}. */
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long changeLogFloor;
+
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private int cardCount;
+
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private int commentCount;
+
+  /**
+   * Set when the board is deleted. Deleted boards are hidden at once and their
+   * lists, cards, comments and members are removed later by {@code PurgeService}.
+   */
+  private LocalDateTime deletedAt;
+
   @OneToMany(mappedBy = "board", cascade = CascadeType.ALL)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "boards-members")
   @JsonIgnore
   private List<BoardMember> members = new ArrayList<>();
 
@@ -0,0 +1,52 @@
+package com.example.todo_backend.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a board's change log: the entity that was written or deleted at
+ * a given board revision. Only identities are logged; a delta sync loads the
+ * current state of each upserted entity when it is requested.
+ */
+@Entity
+@Table(name = "board_changes", indexes = {
+        @Index(name = "idx_board_changes_board_revision", columnList = "board_id, revision"),
+        @Index(name = "idx_board_changes_board_entity", columnList = "board_id, entity_type, entity_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_changes_seq")
+    @SequenceGenerator(name = "board_changes_seq", sequenceName = "board_changes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private BoardChangeType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+}
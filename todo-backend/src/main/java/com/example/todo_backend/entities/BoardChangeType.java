@@ -0,0 +1,7 @@
+package com.example.todo_backend.entities;
+
+public enum BoardChangeType {
+    BOARD,
+    LIST,
+    CARD
+}
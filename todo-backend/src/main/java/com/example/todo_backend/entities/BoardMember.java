@@ -1,25 +1,35 @@
 package com.example.todo_backend.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "board_members")
+@Table(name = "board_members", indexes = {
+        @Index(name = "idx_board_members_board", columnList = "board_id"),
+        @Index(name = "idx_board_members_user", columnList = "user_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-members")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardMember {
   @Id 
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_members_seq")
+  @SequenceGenerator(name = "board_members_seq", sequenceName = "board_members_seq", allocationSize = 50)
   private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
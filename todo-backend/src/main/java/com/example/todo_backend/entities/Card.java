@@ -2,26 +2,35 @@ package com.example.todo_backend.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "cards")
+@Table(name = "cards", indexes = {
+        @Index(name = "idx_cards_list", columnList = "list_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Card {
   @Id 
-@GeneratedValue(strategy = GenerationType.IDENTITY)
+@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cards_seq")
+@SequenceGenerator(name = "cards_seq", sequenceName = "cards_seq", allocationSize = 50)
   private Long id;
 
   private String title;
@@ -29,6 +38,11 @@ public class Card {
 
   private String description;
 
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
+
   @ManyToOne
   private ListEntity list;
 
@@ -37,4 +51,7 @@ public class Card {
 
   @OneToMany(mappedBy = "card", cascade = CascadeType.ALL)
   private List<Comment> comments;
+
+  @OneToMany(mappedBy = "card", cascade = CascadeType.ALL)
+  private List<Attachment> attachments;
 }
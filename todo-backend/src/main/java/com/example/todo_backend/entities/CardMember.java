@@ -4,20 +4,26 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "card_members")
+@Table(name = "card_members", indexes = {
+        @Index(name = "idx_card_members_card", columnList = "card_id"),
+        @Index(name = "idx_card_members_user", columnList = "user_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class CardMember {
   @Id 
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_members_seq")
+  @SequenceGenerator(name = "card_members_seq", sequenceName = "card_members_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne
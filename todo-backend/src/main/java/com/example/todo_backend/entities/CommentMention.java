@@ -0,0 +1,51 @@
+package com.example.todo_backend.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A user @mentioned in a comment. The unique {@code (user_id, comment_id)}
+ * index is what the "comments mentioning me" page walks. Rows hold plain ids
+ * so that cascading card and list deletes do not have to know about them; a
+ * mention whose comment is gone simply no longer joins.
+ */
+@Entity
+@Table(name = "comment_mentions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_mentions_user_comment", columnNames = { "user_id", "comment_id" })
+}, indexes = {
+        @Index(name = "idx_comment_mentions_comment", columnList = "comment_id"),
+        @Index(name = "idx_comment_mentions_board", columnList = "board_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentMention {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_mentions_seq")
+    @SequenceGenerator(name = "comment_mentions_seq", sequenceName = "comment_mentions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private Long commentId;
+
+    @Column(nullable = false, updatable = false)
+    private Long boardId;
+
+    public static CommentMention of(Long userId, Long commentId, Long boardId) {
+        return new CommentMention(null, userId, commentId, boardId);
+    }
+}
@@ -2,31 +2,56 @@ package com.example.todo_backend.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "lists")
+@Table(name = "lists", indexes = {
+        @Index(name = "idx_lists_board", columnList = "board_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lists")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ListEntity {
   @Id 
-@GeneratedValue(strategy = GenerationType.IDENTITY)  
+@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lists_seq")
+@SequenceGenerator(name = "lists_seq", sequenceName = "lists_seq", allocationSize = 50)
 private Long id;
 
   private String name;
   private String color;
 
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private long version;
+
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private int cardCount;
+
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private int commentCount;
+
   @ManyToOne
   private Board board;
 
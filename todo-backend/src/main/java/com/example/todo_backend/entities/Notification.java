@@ -2,26 +2,38 @@ package com.example.todo_backend.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_created_at", columnList = "created_at"),
+        @Index(name = "idx_notifications_event", columnList = "event_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
+    /** Text of rows stored before notification events; new rows leave it null. */
     private String message;
 
     private boolean seen = false;
@@ -30,7 +42,24 @@ public class Notification {
 
     @ManyToOne
     private User user;
-    
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    private NotificationEvent event;
+
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int eventCount = 1;
+
+    /** Set once a digest has folded in events by more than one actor. */
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean severalActors = false;
+
+    /** Set once a digest has folded in more than one type of event. */
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean severalTypes = false;
+
+    private Long pendingOutboxId;
 }
 
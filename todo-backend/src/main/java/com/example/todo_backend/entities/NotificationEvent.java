@@ -0,0 +1,63 @@
+package com.example.todo_backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What happened, stored once per action. Recipient {@link Notification} rows
+ * reference it and the text is rendered when it is read.
+ */
+@Entity
+@Table(name = "notification_events", indexes = {
+        @Index(name = "idx_notification_events_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+    private static final int TITLE_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_events_seq")
+    @SequenceGenerator(name = "notification_events_seq", sequenceName = "notification_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private NotificationType type;
+
+    private Long actorId;
+
+    private Long boardId;
+
+    private Long entityId;
+
+    @Column(length = TITLE_LENGTH)
+    private String title;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public static NotificationEvent of(NotificationType type, User actor, Board board, Long entityId, String title) {
+        NotificationEvent event = new NotificationEvent();
+        event.setType(type);
+        event.setActorId(actor.getId());
+        event.setBoardId(board == null ? null : board.getId());
+        event.setEntityId(entityId);
+        event.setTitle(title != null && title.length() > TITLE_LENGTH ? title.substring(0, TITLE_LENGTH) : title);
+        return event;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_backend.entities;
+
+/**
+ * Templates take the actor name, the event title and the board name, in that order.
+ * Only types with a verb are folded into per-board digests.
+ */
+public enum NotificationType {
+    CARD_CREATED("%1$s created card: %2$s in board: %3$s", "created", "card", "cards"),
+    CARD_MOVED("%1$s moved card: %2$s in board: %3$s", "moved", "card", "cards"),
+    CARD_DELETED("%1$s deleted card: %2$s from board: %3$s", "deleted", "card", "cards"),
+    LIST_CREATED("%1$s created new list: %2$s in board: %3$s", "created", "list", "lists"),
+    LIST_DELETED("%1$s deleted list: %2$s from board: %3$s", "deleted", "list", "lists"),
+    COMMENT_ADDED("%1$s added a new comment on card: %2$s in board: %3$s", "added", "comment", "comments"),
+    COMMENT_DELETED("%1$s deleted a comment from card: %2$s in board: %3$s", "deleted", "comment", "comments"),
+    BOARD_DELETED("%1$s deleted board: %2$s"),
+    BOARD_MEMBERS_ADDED("%1$s added new users to board: %3$s"),
+    BOARD_CLONED("%1$s created board: %3$s as a copy of %2$s"),
+    ACTIVITY_CREATED("You have been added by %1$s to a new %2$s"),
+    ACTIVITY_DELETED("%1$s deleted %2$s");
+
+    private final String template;
+    private final String verb;
+    private final String singular;
+    private final String plural;
+
+    NotificationType(String template) {
+        this(template, null, null, null);
+    }
+
+    NotificationType(String template, String verb, String singular, String plural) {
+        this.template = template;
+        this.verb = verb;
+        this.singular = singular;
+        this.plural = plural;
+    }
+
+    public String render(String actor, String title, String board) {
+        return String.format(template, actor, title, board);
+    }
+
+    public boolean isCoalescible() {
+        return verb != null;
+    }
+
+    public String describe(int count) {
+        return String.format("%s %d %s", verb, count, count == 1 ? singular : plural);
+    }
+}
@@ -4,7 +4,10 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,33 +18,61 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+        @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User  implements UserDetails{
+  public static final String UK_USERNAME = "uk_users_username";
+  public static final String UK_EMAIL = "uk_users_email";
+
   @Id 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
   private Long id;
 
   private String username;
   private String email;
   private String password;
-  private String resetToken;
-  private LocalDateTime tokenExpiryDate;
+
+  /**
+   * Set when the account is deleted, together with clearing its username, email
+   * and password so they are free again and nobody can sign in as it.
+   * {@code PurgeService} removes what hangs off the account afterwards.
+   */
+  private LocalDateTime deletedAt;
+
+  /** Set once the purge is done but comments or activities still point at the account. */
+  private LocalDateTime purgedAt;
 
   @OneToMany(mappedBy= "user", cascade = CascadeType.ALL)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users-board-memberships")
   private List<BoardMember> boardMemberships;
 
   @OneToMany(mappedBy= "user", cascade= CascadeType.ALL)
   private List<CardMember> cardMemberships;
 
+    /** Emails are stored lower-cased so the unique index on them is case-insensitive. */
+    public void setEmail(String email) {
+        this.email = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority("USER"));
     }
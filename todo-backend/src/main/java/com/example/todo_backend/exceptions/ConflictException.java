@@ -0,0 +1,7 @@
+package com.example.todo_backend.exceptions;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
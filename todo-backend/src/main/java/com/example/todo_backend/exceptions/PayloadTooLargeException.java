@@ -0,0 +1,7 @@
+package com.example.todo_backend.exceptions;
+
+public class PayloadTooLargeException extends RuntimeException {
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.todo_backend.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.todo_backend.exceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
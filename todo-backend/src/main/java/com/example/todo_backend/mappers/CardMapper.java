@@ -13,5 +13,6 @@ public interface CardMapper {
     CardDTO toDto(Card card);
 
     @Mapping(source = "listId", target = "list.id")
+    @Mapping(target = "attachments", ignore = true)
     Card toEntity(CardDTO dto);
 }
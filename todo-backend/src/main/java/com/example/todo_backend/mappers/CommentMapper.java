@@ -10,6 +10,7 @@ import com.example.todo_backend.entities.Comment;
 public interface CommentMapper {
 
     @Mapping(source = "card.id", target = "cardId")
+    @Mapping(target = "replies", ignore = true)
     CommentDTO toDto(Comment comment);
 
     @Mapping(source = "cardId", target = "card.id")
@@ -12,6 +12,10 @@ public interface ListMapper {
     @Mapping(source = "board.id", target = "boardId")
     ListDTO toDto(ListEntity listEntity);
 
+    @Mapping(source = "board.id", target = "boardId")
+    @Mapping(target = "cards", ignore = true)
+    ListDTO toSummaryDto(ListEntity listEntity);
+
     @Mapping(source = "boardId", target = "board.id")
     ListEntity toEntity(ListDTO dto);
 }
@@ -1,13 +1,30 @@
 package com.example.todo_backend.mappers;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import com.example.todo_backend.dtos.BoardEventDTO;
 import com.example.todo_backend.dtos.NotificationDTO;
 import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
 
 @Mapper(componentModel = "spring")
 public interface NotificationMapper {
 
-    NotificationDTO toDTO(Notification notification);
+    @Mapping(target = "id", source = "notification.id")
+    @Mapping(target = "seen", source = "notification.seen")
+    @Mapping(target = "message", source = "message")
+    @Mapping(target = "userId", source = "notification.user.id")
+    @Mapping(target = "timestamp", source = "notification.createdAt")
+    @Mapping(target = "type", source = "notification.event.type", conditionExpression = "java(!notification.isSeveralTypes())")
+    @Mapping(target = "actorId", source = "notification.event.actorId", conditionExpression = "java(!notification.isSeveralActors())")
+    @Mapping(target = "boardId", source = "notification.event.boardId")
+    @Mapping(target = "entityId", source = "notification.event.entityId")
+    @Mapping(target = "title", source = "notification.event.title")
+    @Mapping(target = "eventCount", source = "notification.eventCount")
+    NotificationDTO toDTO(Notification notification, String message);
 
     Notification toEntity(NotificationDTO dto);
+
+    @Mapping(target = "timestamp", source = "createdAt")
+    BoardEventDTO toBoardEvent(NotificationEvent event);
 }
@@ -0,0 +1,95 @@
+package com.example.todo_backend.mappers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.todo_backend.dtos.NotificationDTO;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Turns stored notification events into display text. Actor and board names
+ * are looked up once per call for the whole list, so renaming a user or board
+ * is reflected in existing notifications. Rows written before events existed
+ * keep their stored message.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRenderer {
+    private static final String UNKNOWN_USER = "Someone";
+    private static final String DELETED_BOARD = "a deleted board";
+
+    private final NotificationMapper notificationMapper;
+    private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
+
+    public NotificationDTO render(Notification notification) {
+        return render(List.of(notification)).get(0);
+    }
+
+    public List<NotificationDTO> render(List<Notification> notifications) {
+        Set<Long> actorIds = new HashSet<>();
+        Set<Long> boardIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            NotificationEvent event = notification.getEvent();
+            if (event != null) {
+                actorIds.add(event.getActorId());
+                boardIds.add(event.getBoardId());
+            }
+        }
+        actorIds.remove(null);
+        boardIds.remove(null);
+        Map<Long, String> actorNames = actorIds.isEmpty() ? Map.of() : userRepository.findAllById(actorIds).stream()
+                .filter(user -> user.getUsername() != null)
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+        Map<Long, String> boardNames = boardIds.isEmpty() ? Map.of() : boardRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(Board::getId, Board::getName));
+
+        return notifications.stream()
+                .map(notification -> notificationMapper.toDTO(notification,
+                        createMessage(notification, actorNames, boardNames)))
+                .toList();
+    }
+
+    private String createMessage(Notification notification, Map<Long, String> actorNames, Map<Long, String> boardNames) {
+        NotificationEvent event = notification.getEvent();
+        if (event == null) {
+            return notification.getMessage();
+        }
+        String actor = nameOf(actorNames, event.getActorId(), UNKNOWN_USER);
+        String board = nameOf(boardNames, event.getBoardId(), DELETED_BOARD);
+        if (notification.getEventCount() > 1) {
+            return createDigestMessage(notification, actor, board);
+        }
+        return event.getType().render(actor, event.getTitle(), board);
+    }
+
+    private String nameOf(Map<Long, String> names, Long id, String fallback) {
+        String name = id == null ? null : names.get(id);
+        return name == null ? fallback : name;
+    }
+
+    private String createDigestMessage(Notification digest, String actor, String board) {
+        if (digest.isSeveralActors()) {
+            return String.format("%d changes by several members in board: %s",
+                digest.getEventCount(), board);
+        }
+        if (digest.isSeveralTypes()) {
+            return String.format("%s made %d changes in board: %s",
+                actor, digest.getEventCount(), board);
+        }
+        return String.format("%s %s in board: %s",
+            actor, digest.getEvent().getType().describe(digest.getEventCount()), board);
+    }
+}
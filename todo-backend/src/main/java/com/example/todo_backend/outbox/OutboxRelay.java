@@ -0,0 +1,293 @@
+package com.example.todo_backend.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.entities.OutboxMessage;
+import com.example.todo_backend.repositories.OutboxMessageRepository;
+import com.example.todo_backend.repositories.OutboxMessageRepository.PendingHead;
+import com.example.todo_backend.websocket.WebSocketSessionRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox on its own thread pool. Each worker claims a batch of due
+ * messages (rows locked by another worker are skipped), delivers them grouped
+ * per destination in id order, one frame per message, and marks them
+ * delivered in the same transaction. A failed send reschedules the rest of
+ * that destination's group with exponential backoff, so delivery is
+ * at-least-once and clients drop repeats using the {@value #DEDUP_HEADER}
+ * header.
+ * <p>
+ * A destination's messages are never delivered past an older one that is
+ * still pending: the claim leaves out messages queued behind one that is
+ * backing off, and messages queued behind one that another relay has claimed
+ * are left for a later round. A message scheduled for later, like a
+ * notification digest, is not pending in this sense and holds nothing up.
+ * <p>
+ * Messages for {@code /queue/...} destinations go to the recipient's own
+ * sessions through user destinations. When the recipient has no session on
+ * this node the message is marked delivered without sending; the client loads
+ * stored notifications over REST when it connects. This, like the in-memory
+ * broker it sends through, assumes a single node: with several, a relay would
+ * drop messages for users connected to another node.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    public static final String DEDUP_HEADER = "dedup-id";
+    public static final String USER_QUEUE_PREFIX = "/queue/";
+
+    private static final Duration METRICS_REFRESH = Duration.ofSeconds(10);
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+    private static final int MAX_ROUNDS_PER_DRAIN = 50;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Timer deliveryLag;
+    private volatile boolean running;
+
+    @Value("${todo.outbox.workers:2}")
+    private int workers;
+
+    @Value("${todo.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${todo.outbox.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Value("${todo.outbox.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    @Value("${todo.outbox.retention:1d}")
+    private Duration retention;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       SimpMessagingTemplate messagingTemplate,
+                       WebSocketSessionRegistry sessionRegistry,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.sessionRegistry = sessionRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deliveredCounter = meterRegistry.counter("todo.outbox.delivered");
+        this.failedCounter = meterRegistry.counter("todo.outbox.failed");
+        this.skippedCounter = meterRegistry.counter("todo.outbox.skipped");
+        this.deliveryLag = Timer.builder("todo.outbox.delivery.lag")
+                .description("Time between a message being written and being delivered")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("todo.outbox.pending", pending, AtomicLong::get)
+                .description("Messages waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("todo.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age in seconds of the oldest undelivered message")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        scheduler.setPoolSize(workers + 1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.initialize();
+        for (int i = 0; i < workers; i++) {
+            scheduler.scheduleWithFixedDelay(this::drainSafely, pollInterval);
+        }
+        scheduler.scheduleAtFixedRate(this::refreshMetricsSafely, METRICS_REFRESH);
+        scheduler.scheduleAtFixedRate(this::purgeSafely, PURGE_INTERVAL);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Starts a drain right away instead of waiting for the next poll. */
+    public void wakeUp() {
+        if (running && wakeUpPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                wakeUpPending.set(false);
+                drainSafely();
+            });
+        }
+    }
+
+    public int drain() {
+        int total = 0;
+        for (int round = 0; round < MAX_ROUNDS_PER_DRAIN; round++) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            int count = relayed == null ? 0 : relayed;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    public void refreshMetrics() {
+        pending.set(outboxMessageRepository.countByDeliveredAtIsNull());
+        LocalDateTime oldest = outboxMessageRepository.findOldestPendingCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+    }
+
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch = outboxMessageRepository.claimPending(now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Map<String, Long> heldElsewhere = findHeldElsewhere(batch, now);
+        Map<String, List<OutboxMessage>> byDestination = batch.stream()
+                .collect(Collectors.groupingBy(this::deliveryKey, LinkedHashMap::new, Collectors.toList()));
+        byDestination.forEach((key, messages) -> deliver(messages, heldElsewhere.get(key)));
+        return batch.size();
+    }
+
+    /** Per delivery key, the id of an older pending message that another relay has claimed. */
+    private Map<String, Long> findHeldElsewhere(List<OutboxMessage> batch, LocalDateTime now) {
+        Long lastId = batch.get(batch.size() - 1).getId();
+        Set<String> destinations = batch.stream().map(OutboxMessage::getDestination).collect(Collectors.toSet());
+        List<Long> claimedIds = batch.stream().map(OutboxMessage::getId).toList();
+        return outboxMessageRepository.findPendingHeads(lastId, now, destinations, claimedIds).stream()
+                .collect(Collectors.toMap(head -> deliveryKey(head.getDestination(), head.getRecipientId()),
+                        PendingHead::getFirstId, Math::min));
+    }
+
+    private void deliver(List<OutboxMessage> messages, Long heldFrom) {
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            if (heldFrom != null && message.getId() > heldFrom) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (isUserMessage(message) && !sessionRegistry.isOnline(message.getRecipientId())) {
+                message.setDeliveredAt(now);
+                skippedCounter.increment();
+                continue;
+            }
+            try {
+                send(message);
+            } catch (RuntimeException e) {
+                log.warn("Outbox delivery to {} failed, retrying later: {}", deliveryKey(message), e.getMessage());
+                messages.subList(i, messages.size()).forEach(this::reschedule);
+                return;
+            }
+            message.setDeliveredAt(now);
+            message.setAttempts(message.getAttempts() + 1);
+            deliveredCounter.increment();
+            deliveryLag.record(Duration.between(message.getCreatedAt(), now));
+        }
+    }
+
+    private void send(OutboxMessage message) {
+        Map<String, Object> headers = Map.of(DEDUP_HEADER, message.getDedupId());
+        if (isUserMessage(message)) {
+            messagingTemplate.convertAndSendToUser(String.valueOf(message.getRecipientId()),
+                    message.getDestination(), message.getPayload(), headers);
+        } else {
+            messagingTemplate.convertAndSend(message.getDestination(), message.getPayload(), headers);
+        }
+    }
+
+    private boolean isUserMessage(OutboxMessage message) {
+        return message.getRecipientId() != null && message.getDestination().startsWith(USER_QUEUE_PREFIX);
+    }
+
+    private String deliveryKey(OutboxMessage message) {
+        return deliveryKey(message.getDestination(), message.getRecipientId());
+    }
+
+    private static String deliveryKey(String destination, Long recipientId) {
+        return recipientId != null && destination.startsWith(USER_QUEUE_PREFIX)
+                ? "/user/" + recipientId + destination
+                : destination;
+    }
+
+    private void reschedule(OutboxMessage message) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setAvailableAt(LocalDateTime.now().plus(backoff(attempts)));
+        failedCounter.increment();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void purge() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxMessageRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} delivered outbox messages", purged);
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed", e);
+        }
+    }
+
+    private void refreshMetricsSafely() {
+        try {
+            refreshMetrics();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh outbox metrics: {}", e.getMessage());
+        }
+    }
+
+    private void purgeSafely() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Could not purge delivered outbox messages: {}", e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.todo_backend.repositories;
 
 import com.example.todo_backend.entities.Activity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -30,4 +34,12 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
                                            @Param("start") LocalDateTime start, 
                                            @Param("end") LocalDateTime end);
 
-}
\ No newline at end of file
+    boolean existsByOrganizerId(Long organizerId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "activity_participants"))
+    @Query(value = "DELETE FROM activity_participants WHERE user_id = :userId AND activity_id IN " +
+           "(SELECT activity_id FROM activity_participants WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteParticipationChunk(@Param("userId") Long userId, @Param("limit") int limit);
+}
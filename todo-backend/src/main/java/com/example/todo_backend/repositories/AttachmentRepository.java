@@ -0,0 +1,47 @@
+package com.example.todo_backend.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.Attachment;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByCardIdOrderById(Long cardId);
+
+    @Query("SELECT a FROM Attachment a WHERE a.card.list.id = :listId")
+    List<Attachment> findByListId(@Param("listId") Long listId);
+
+    /** A thumbnail already made for the same content by another attachment, if any. */
+    @Query("SELECT a.thumbnailHash FROM Attachment a WHERE a.contentHash = :contentHash AND a.thumbnailHash IS NOT NULL")
+    List<String> findThumbnailHashes(@Param("contentHash") String contentHash, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnailHash = :thumbnailHash WHERE a.id = :id")
+    int setThumbnailHash(@Param("id") Long id, @Param("thumbnailHash") String thumbnailHash);
+
+    /** The hashes among {@code hashes} that some attachment still uses, as content or thumbnail. */
+    @Query("SELECT a.contentHash FROM Attachment a WHERE a.contentHash IN :hashes " +
+           "UNION SELECT a.thumbnailHash FROM Attachment a WHERE a.thumbnailHash IN :hashes")
+    Set<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "attachments"))
+    @Query(value = "DELETE FROM attachments WHERE id IN (SELECT a.id FROM attachments a " +
+           "JOIN cards c ON a.card_id = c.id JOIN lists l ON c.list_id = l.id " +
+           "WHERE l.board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+}
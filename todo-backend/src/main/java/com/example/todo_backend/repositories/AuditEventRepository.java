@@ -0,0 +1,20 @@
+package com.example.todo_backend.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.AuditEvent;
+
+/**
+ * History is read newest first by keyset on id, so a page costs one index
+ * range scan however deep into the history it starts.
+ */
+@Repository
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+    List<AuditEvent> findByCardIdAndIdLessThanOrderByIdDesc(Long cardId, Long before, Limit limit);
+
+    List<AuditEvent> findByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long before, Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.example.todo_backend.repositories;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.BoardChange;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface BoardChangeRepository extends JpaRepository<BoardChange, Long> {
+    String SPACE = "board_changes";
+
+    List<BoardChange> findByBoardIdAndRevisionGreaterThanOrderByRevision(Long boardId, long revision);
+
+    long countByBoardId(Long boardId);
+
+    @Query(value = "SELECT board_id FROM board_changes GROUP BY board_id HAVING COUNT(*) > :threshold",
+           nativeQuery = true)
+    List<Long> findBoardIdsWithMoreThan(@Param("threshold") long threshold);
+
+    /** Deletes every entry that a later entry for the same entity makes redundant. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SPACE))
+    @Query(value = "DELETE FROM board_changes c WHERE c.board_id = :boardId AND EXISTS (" +
+           "SELECT 1 FROM board_changes n WHERE n.board_id = c.board_id AND n.entity_type = c.entity_type " +
+           "AND n.entity_id = c.entity_id AND n.revision > c.revision)", nativeQuery = true)
+    int deleteSuperseded(@Param("boardId") Long boardId);
+
+    /** Revision of the newest entry beyond the {@code keep} most recent ones. */
+    @Query(value = "SELECT revision FROM board_changes WHERE board_id = :boardId " +
+           "ORDER BY revision DESC LIMIT 1 OFFSET :keep", nativeQuery = true)
+    Optional<Long> findRevisionBeyond(@Param("boardId") Long boardId, @Param("keep") long keep);
+
+    @Modifying
+    @Query("DELETE FROM BoardChange c WHERE c.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("DELETE FROM BoardChange c WHERE c.boardId = :boardId AND c.revision <= :revision")
+    int deleteUpTo(@Param("boardId") Long boardId, @Param("revision") long revision);
+}
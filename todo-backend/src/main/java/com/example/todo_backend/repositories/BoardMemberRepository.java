@@ -1,9 +1,30 @@
 package com.example.todo_backend.repositories;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.BoardMember;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface BoardMemberRepository extends JpaRepository<BoardMember, Long> {}
+public interface BoardMemberRepository extends JpaRepository<BoardMember, Long> {
+    boolean existsByBoardIdAndUserId(Long boardId, Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_members"))
+    @Query(value = "DELETE FROM board_members WHERE id IN (SELECT id FROM board_members " +
+           "WHERE board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_members"))
+    @Query(value = "DELETE FROM board_members WHERE id IN (SELECT id FROM board_members " +
+           "WHERE user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
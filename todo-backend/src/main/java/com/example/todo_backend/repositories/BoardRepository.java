@@ -1,13 +1,73 @@
 package com.example.todo_backend.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.Board;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-     List<Board> findByMembers_User_Id(Long userId);
-}
\ No newline at end of file
+     String COUNTER_SPACE = "board_counters";
+     String REVISION_SPACE = "board_revisions";
+
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+     List<Board> findByMembers_User_IdAndDeletedAtIsNull(Long userId);
+
+     @Query("SELECT b.id FROM Board b WHERE b.deletedAt IS NOT NULL ORDER BY b.deletedAt")
+     List<Long> findDeletedIds();
+
+     @Modifying
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+     @Query(value = "UPDATE boards SET card_count = card_count + :cards, " +
+            "comment_count = comment_count + :comments WHERE id = :boardId", nativeQuery = true)
+     int adjustCounters(@Param("boardId") Long boardId,
+                        @Param("cards") int cards,
+                        @Param("comments") int comments);
+
+     @Modifying
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+     @Query(value = "UPDATE boards b SET " +
+            "card_count = (SELECT COALESCE(SUM(l.card_count), 0) FROM lists l WHERE l.board_id = b.id), " +
+            "comment_count = (SELECT COALESCE(SUM(l.comment_count), 0) FROM lists l WHERE l.board_id = b.id), " +
+            "revision = b.revision + 1 " +
+            "WHERE b.card_count <> (SELECT COALESCE(SUM(l.card_count), 0) FROM lists l WHERE l.board_id = b.id) " +
+            "OR b.comment_count <> (SELECT COALESCE(SUM(l.comment_count), 0) FROM lists l WHERE l.board_id = b.id)",
+            nativeQuery = true)
+     int reconcileCounters();
+
+     @Query("SELECT b.revision FROM Board b WHERE b.id = :boardId AND b.deletedAt IS NULL")
+     Optional<Long> findRevision(@Param("boardId") Long boardId);
+
+     @Query("SELECT l.board.revision FROM ListEntity l WHERE l.id = :listId AND l.board.deletedAt IS NULL")
+     Optional<Long> findRevisionByListId(@Param("listId") Long listId);
+
+     @Modifying
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REVISION_SPACE))
+     @Query(value = "UPDATE boards SET revision = revision + 1 WHERE id = :boardId", nativeQuery = true)
+     int bumpRevision(@Param("boardId") Long boardId);
+
+     @Modifying
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REVISION_SPACE))
+     @Query(value = "UPDATE boards SET revision = revision + 1 " +
+            "WHERE id IN (SELECT m.board_id FROM board_members m WHERE m.user_id = :userId)", nativeQuery = true)
+     int bumpRevisionByMemberId(@Param("userId") Long userId);
+
+     @Query("SELECT b.changeLogFloor FROM Board b WHERE b.id = :boardId")
+     Optional<Long> findChangeLogFloor(@Param("boardId") Long boardId);
+
+     @Modifying
+     @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = REVISION_SPACE))
+     @Query(value = "UPDATE boards SET change_log_floor = GREATEST(change_log_floor, :floor) WHERE id = :boardId",
+            nativeQuery = true)
+     int raiseChangeLogFloor(@Param("boardId") Long boardId, @Param("floor") long floor);
+}
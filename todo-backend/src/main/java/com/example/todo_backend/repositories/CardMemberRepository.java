@@ -1,9 +1,49 @@
 package com.example.todo_backend.repositories;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.CardMember;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface CardMemberRepository extends JpaRepository<CardMember, Long> {}
+public interface CardMemberRepository extends JpaRepository<CardMember, Long> {
+
+    @Query("SELECT cm FROM CardMember cm JOIN FETCH cm.user WHERE cm.card.list.board.id = :boardId")
+    List<CardMember> findByBoardId(@Param("boardId") Long boardId);
+
+    @Query("SELECT cm FROM CardMember cm WHERE cm.card.list.id = :listId")
+    List<CardMember> findByListId(@Param("listId") Long listId);
+
+    List<CardMember> findByCardId(Long cardId);
+
+    @Query("SELECT cm.user.id FROM CardMember cm WHERE cm.card.id = :cardId")
+    List<Long> findUserIdsByCardId(@Param("cardId") Long cardId);
+
+    boolean existsByCardIdAndUserId(Long cardId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM CardMember cm WHERE cm.card.id = :cardId AND cm.user.id = :userId")
+    int deleteByCardIdAndUserId(@Param("cardId") Long cardId, @Param("userId") Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "card_members"))
+    @Query(value = "DELETE FROM card_members WHERE id IN (SELECT cm.id FROM card_members cm " +
+           "JOIN cards c ON cm.card_id = c.id JOIN lists l ON c.list_id = l.id " +
+           "WHERE l.board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "card_members"))
+    @Query(value = "DELETE FROM card_members WHERE id IN (SELECT id FROM card_members " +
+           "WHERE user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
@@ -1,14 +1,54 @@
 package com.example.todo_backend.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.Card;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
-    List<Card> findByListId(Long listId);
-}
+    @Query("SELECT c FROM Card c WHERE c.list.id = :listId AND c.list.board.deletedAt IS NULL")
+    List<Card> findByListId(@Param("listId") Long listId);
+
+    @Query("SELECT c FROM Card c JOIN FETCH c.list WHERE c.list.board.id = :boardId ORDER BY c.id")
+    List<Card> findByBoardId(@Param("boardId") Long boardId);
+
+    /** The content of a card as it is now, read without loading the card. */
+    @Query("SELECT c.title AS title, c.description AS description FROM Card c WHERE c.id = :id")
+    Optional<CardContent> findContentById(@Param("id") Long id);
 
+    /**
+     * Updates a card's content in one statement when it is still in
+     * {@code listId} and, if {@code version} is given, still at that version.
+     * Returns 0 when any of that does not hold.
+     */
+    @Modifying
+    @Query("UPDATE Card c SET c.title = :title, c.description = :description, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND c.list.id = :listId AND (:version IS NULL OR c.version = :version)")
+    int updateContent(@Param("id") Long id,
+                      @Param("listId") Long listId,
+                      @Param("version") Long version,
+                      @Param("title") String title,
+                      @Param("description") String description);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cards"))
+    @Query(value = "DELETE FROM cards WHERE id IN (SELECT c.id FROM cards c JOIN lists l ON c.list_id = l.id " +
+           "WHERE l.board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    interface CardContent {
+        String getTitle();
+        String getDescription();
+    }
+}
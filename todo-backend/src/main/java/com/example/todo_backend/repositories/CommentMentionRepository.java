@@ -0,0 +1,43 @@
+package com.example.todo_backend.repositories;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.CommentMention;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface CommentMentionRepository extends JpaRepository<CommentMention, Long> {
+
+    /** Newest first by comment id, walking the {@code (user_id, comment_id)} index; comments on deleted boards are left out. */
+    @Query("SELECT c FROM CommentMention m JOIN Comment c ON c.id = m.commentId LEFT JOIN FETCH c.user " +
+           "JOIN Board b ON b.id = m.boardId " +
+           "WHERE m.userId = :userId AND m.commentId < :before AND b.deletedAt IS NULL ORDER BY m.commentId DESC")
+    List<Comment> findMentioning(@Param("userId") Long userId, @Param("before") Long before, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM CommentMention m WHERE m.commentId = :commentId")
+    int deleteByCommentId(@Param("commentId") Long commentId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment_mentions"))
+    @Query(value = "DELETE FROM comment_mentions WHERE id IN (SELECT id FROM comment_mentions " +
+           "WHERE board_id = :boardId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment_mentions"))
+    @Query(value = "DELETE FROM comment_mentions WHERE id IN (SELECT id FROM comment_mentions " +
+           "WHERE user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+}
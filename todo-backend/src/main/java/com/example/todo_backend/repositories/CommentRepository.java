@@ -1,13 +1,84 @@
 package com.example.todo_backend.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.Comment;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
    List<Comment> findByCardId(Long cardId);
+
+   @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.card.id = :cardId ORDER BY c.createdAt, c.id")
+   List<Comment> findWithUserByCardId(@Param("cardId") Long cardId);
+
+   /**
+    * One page of a card's comments after the {@code (createdAt, id)} cursor,
+    * read along the {@code (card_id, created_at, id)} index. With
+    * {@code rootsOnly} replies are skipped.
+    */
+   @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.card.id = :cardId " +
+          "AND (c.createdAt > :afterTime OR (c.createdAt = :afterTime AND c.id > :afterId)) " +
+          "AND (:rootsOnly = false OR c.parentId IS NULL) ORDER BY c.createdAt, c.id")
+   List<Comment> findPage(@Param("cardId") Long cardId,
+                          @Param("afterTime") LocalDateTime afterTime,
+                          @Param("afterId") Long afterId,
+                          @Param("rootsOnly") boolean rootsOnly,
+                          Limit limit);
+
+   /**
+    * The ids of the first {@code perParent} replies of each parent in
+    * {@code (createdAt, id)} order, each with its parent's total reply count,
+    * so a busy thread costs no more rows than a quiet one.
+    */
+   @Query(value = "SELECT id, parent, total FROM (SELECT id, parent_id AS parent, " +
+          "ROW_NUMBER() OVER (PARTITION BY parent_id ORDER BY created_at, id) AS position, " +
+          "COUNT(*) OVER (PARTITION BY parent_id) AS total " +
+          "FROM comments WHERE parent_id IN (:parentIds)) r WHERE position <= :perParent", nativeQuery = true)
+   List<ReplySlot> findFirstReplies(@Param("parentIds") Collection<Long> parentIds, @Param("perParent") int perParent);
+
+   @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.createdAt, c.id")
+   List<Comment> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+   /** One page of a comment's replies after the {@code (createdAt, id)} cursor. */
+   @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.parentId = :parentId " +
+          "AND (c.createdAt > :afterTime OR (c.createdAt = :afterTime AND c.id > :afterId)) ORDER BY c.createdAt, c.id")
+   List<Comment> findReplyPage(@Param("parentId") Long parentId,
+                               @Param("afterTime") LocalDateTime afterTime,
+                               @Param("afterId") Long afterId,
+                               Limit limit);
+
+   @Modifying
+   @Query("UPDATE Comment c SET c.parentId = NULL WHERE c.parentId = :parentId")
+   int detachReplies(@Param("parentId") Long parentId);
+   long countByCardId(Long cardId);
+   boolean existsByUserId(Long userId);
+
+   @Query("SELECT c FROM Comment c WHERE c.card.list.id = :listId")
+   List<Comment> findByListId(@Param("listId") Long listId);
+
+   @Modifying
+   @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comments"))
+   @Query(value = "DELETE FROM comments WHERE id IN (SELECT cm.id FROM comments cm " +
+          "JOIN cards c ON cm.card_id = c.id JOIN lists l ON c.list_id = l.id " +
+          "WHERE l.board_id = :boardId LIMIT :limit)", nativeQuery = true)
+   int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+   interface ReplySlot {
+       Long getId();
+       Long getParent();
+       Long getTotal();
+   }
 }
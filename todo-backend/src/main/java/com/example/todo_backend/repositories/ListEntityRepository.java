@@ -2,12 +2,59 @@ package com.example.todo_backend.repositories;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.ListEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ListEntityRepository extends JpaRepository<ListEntity, Long> {
-    List<ListEntity> findByBoardId(Long boardId);
+    String COUNTER_SPACE = "list_counters";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT l FROM ListEntity l WHERE l.board.id = :boardId AND l.board.deletedAt IS NULL")
+    List<ListEntity> findByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE lists SET card_count = card_count + :cards, " +
+           "comment_count = comment_count + :comments WHERE id = :listId", nativeQuery = true)
+    int adjustCounters(@Param("listId") Long listId,
+                       @Param("cards") int cards,
+                       @Param("comments") int comments);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE lists l SET " +
+           "card_count = (SELECT COUNT(*) FROM cards c WHERE c.list_id = l.id), " +
+           "comment_count = (SELECT COUNT(*) FROM comments cm JOIN cards c ON cm.card_id = c.id WHERE c.list_id = l.id) " +
+           "WHERE l.card_count <> (SELECT COUNT(*) FROM cards c WHERE c.list_id = l.id) " +
+           "OR l.comment_count <> (SELECT COUNT(*) FROM comments cm JOIN cards c ON cm.card_id = c.id WHERE c.list_id = l.id)",
+           nativeQuery = true)
+    int reconcileCounters();
+
+    /** Re-inserts a deleted list under its old id, with its counters already final. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lists"))
+    @Query(value = "INSERT INTO lists (id, name, color, version, card_count, comment_count, board_id) " +
+           "VALUES (:id, :name, :color, 0, :cards, :comments, :boardId)", nativeQuery = true)
+    int insertRestored(@Param("id") Long id,
+                       @Param("name") String name,
+                       @Param("color") String color,
+                       @Param("cards") int cards,
+                       @Param("comments") int comments,
+                       @Param("boardId") Long boardId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lists"))
+    @Query(value = "DELETE FROM lists WHERE id IN (SELECT id FROM lists WHERE board_id = :boardId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
 }
@@ -0,0 +1,21 @@
+package com.example.todo_backend.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.NotificationEvent;
+
+@Repository
+public interface NotificationEventRepository extends JpaRepository<NotificationEvent, Long> {
+
+    @Modifying
+    @Query(value = "DELETE FROM notification_events WHERE id IN (SELECT e.id FROM notification_events e " +
+           "WHERE e.created_at < :cutoff AND NOT EXISTS (SELECT 1 FROM notifications n WHERE n.event_id = e.id) " +
+           "LIMIT :limit)", nativeQuery = true)
+    int deleteOrphanedChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,15 +1,47 @@
 package com.example.todo_backend.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.Notification;
 import com.example.todo_backend.entities.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
+    @EntityGraph(attributePaths = "event")
     List<Notification> findByUserId(Long userId);
+
+    @Query("SELECT n FROM Notification n JOIN FETCH n.user JOIN FETCH n.event e " +
+           "WHERE e.boardId = :boardId AND n.user.id IN :userIds " +
+           "AND n.seen = false AND n.createdAt >= :since ORDER BY n.createdAt")
+    List<Notification> findOpenDigests(@Param("boardId") Long boardId,
+                                       @Param("userIds") Collection<Long> userIds,
+                                       @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications " +
+           "WHERE (seen = true AND created_at < :seenCutoff) OR (seen = false AND created_at < :unseenCutoff) " +
+           "LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredChunk(@Param("seenCutoff") LocalDateTime seenCutoff,
+                           @Param("unseenCutoff") LocalDateTime unseenCutoff,
+                           @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"))
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications " +
+           "WHERE user_id = :userId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
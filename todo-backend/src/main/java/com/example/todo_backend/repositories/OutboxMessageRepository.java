@@ -0,0 +1,72 @@
+package com.example.todo_backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.todo_backend.entities.OutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /** Lock timeout -2 renders as SKIP LOCKED, so concurrent relays never claim the same rows. */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Due messages in id order, leaving out any that has an older undelivered
+     * message for the same destination still waiting out its backoff. A
+     * message merely scheduled for later, such as a digest, holds nothing up.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT m FROM OutboxMessage m WHERE m.deliveredAt IS NULL AND m.availableAt <= :now " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxMessage o WHERE o.deliveredAt IS NULL AND o.availableAt > :now " +
+           "AND o.attempts > 0 AND o.id < m.id AND o.destination = m.destination " +
+           "AND (o.recipientId = m.recipientId OR (o.recipientId IS NULL AND m.recipientId IS NULL))) " +
+           "ORDER BY m.id")
+    List<OutboxMessage> claimPending(@Param("now") LocalDateTime now, Pageable page);
+
+    /**
+     * Per destination, the oldest due message before {@code beforeId} that is
+     * not one of {@code claimedIds}, i.e. one another relay holds.
+     */
+    @Query("SELECT m.destination AS destination, m.recipientId AS recipientId, MIN(m.id) AS firstId " +
+           "FROM OutboxMessage m WHERE m.deliveredAt IS NULL AND m.availableAt <= :now AND m.id < :beforeId " +
+           "AND m.destination IN :destinations AND m.id NOT IN :claimedIds " +
+           "GROUP BY m.destination, m.recipientId")
+    List<PendingHead> findPendingHeads(@Param("beforeId") Long beforeId,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("destinations") Collection<String> destinations,
+                                       @Param("claimedIds") Collection<Long> claimedIds);
+
+    interface PendingHead {
+        String getDestination();
+        Long getRecipientId();
+        Long getFirstId();
+    }
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.payload = :payload WHERE m.id = :id AND m.deliveredAt IS NULL")
+    int updatePendingPayload(@Param("id") Long id, @Param("payload") String payload);
+
+    long countByDeliveredAtIsNull();
+
+    @Query("SELECT MIN(m.createdAt) FROM OutboxMessage m WHERE m.deliveredAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
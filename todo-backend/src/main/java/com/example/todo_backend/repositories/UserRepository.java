@@ -1,17 +1,29 @@
 package com.example.todo_backend.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.todo_backend.entities.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
+    boolean existsByEmailAndIdNot(String email, Long id);
+    boolean existsByUsernameAndIdNot(String username, Long id);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
-    Optional<User> findByResetToken(String resetToken);
+    List<User> findByDeletedAtIsNull();
+
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL AND u.purgedAt IS NULL ORDER BY u.deletedAt")
+    List<Long> findIdsToPurge();
 }
@@ -0,0 +1,56 @@
+package com.example.todo_backend.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the BCrypt work factor for this machine. One hash at the baseline
+ * strength is timed and the strength is raised while the projected cost,
+ * which doubles with every step, stays within the target. The result never
+ * goes below the baseline, so slow hardware does not weaken stored hashes.
+ */
+@Slf4j
+public final class BCryptCalibration {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCalibration() {
+    }
+
+    public static int strengthFor(Duration target) {
+        long baseline = measure(MIN_STRENGTH);
+        int strength = strengthFor(target, Duration.ofNanos(baseline));
+        log.info("BCrypt strength {} chosen for a {} ms target (strength {} took {} ms)",
+                strength, target.toMillis(), MIN_STRENGTH, baseline / 1_000_000);
+        return strength;
+    }
+
+    static int strengthFor(Duration target, Duration baselineCost) {
+        int strength = MIN_STRENGTH;
+        long cost = Math.max(1, baselineCost.toNanos());
+        while (strength < MAX_STRENGTH && cost * 2 <= target.toNanos()) {
+            cost *= 2;
+            strength++;
+        }
+        return strength;
+    }
+
+    /** Fastest of a few runs, after one warm-up, so a stray pause does not lower the result. */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -33,11 +33,11 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         String email = oAuth2User.getAttribute("email");
         String name = oAuth2User.getAttribute("name");
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByEmail(User.normalizeEmail(email))
                 .orElseGet(() -> {
                     User newUser = new User();
                     newUser.setEmail(email);
-                    newUser.setUsername(name);
+                    newUser.setUsername(availableUsername(name));
                     newUser.setPassword("");
                     return userRepository.save(newUser);
                 });
@@ -52,4 +52,13 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         String redirectUrl = allowedOrigin+"/oauth2/redirect?token=" + token;
         getRedirectStrategy().sendRedirect(request, response, redirectUrl);
     }
+
+    /** Google display names are not unique, so a taken name gets a numeric suffix. */
+    private String availableUsername(String name) {
+        String candidate = name;
+        for (int suffix = 2; userRepository.existsByUsername(candidate); suffix++) {
+            candidate = name + suffix;
+        }
+        return candidate;
+    }
 }
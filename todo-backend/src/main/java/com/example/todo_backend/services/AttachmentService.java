@@ -0,0 +1,18 @@
+package com.example.todo_backend.services;
+
+import java.io.InputStream;
+import java.util.List;
+
+import com.example.todo_backend.dtos.AttachmentDTO;
+import com.example.todo_backend.storage.BlobContent;
+
+public interface AttachmentService {
+    AttachmentDTO uploadAttachment(Long cardId, Long userId, String fileName, String contentType,
+                                   long contentLength, InputStream content);
+    List<AttachmentDTO> getAttachmentsByCardId(Long cardId);
+    BlobContent getContent(Long attachmentId);
+    BlobContent getThumbnail(Long attachmentId);
+    void deleteAttachment(Long attachmentId, Long userId);
+
+    int deleteUnreferencedBlobs();
+}
@@ -0,0 +1,12 @@
+package com.example.todo_backend.services;
+
+import com.example.todo_backend.dtos.AuditPageDTO;
+import com.example.todo_backend.entities.AuditEvent;
+
+public interface AuditService {
+    public void record(AuditEvent event);
+    public AuditPageDTO getCardHistory(Long cardId, Long before, int limit);
+    public AuditPageDTO getBoardHistory(Long boardId, Long before, int limit);
+    public void preparePartitions();
+    public int dropExpiredPartitions();
+}
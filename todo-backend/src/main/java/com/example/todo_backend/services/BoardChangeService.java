@@ -0,0 +1,16 @@
+package com.example.todo_backend.services;
+
+import java.util.Collection;
+
+import com.example.todo_backend.dtos.BoardChangesDTO;
+import com.example.todo_backend.entities.BoardChangeType;
+
+public interface BoardChangeService {
+    void recordUpsert(Long boardId, BoardChangeType type, Long entityId);
+    void recordUpserts(Long boardId, BoardChangeType type, Collection<Long> entityIds);
+    void recordRemoval(Long boardId, BoardChangeType type, Long entityId);
+    void recordRemovals(Long boardId, BoardChangeType type, Collection<Long> entityIds);
+    void boardDeleted(Long boardId);
+    BoardChangesDTO getChangesSince(Long boardId, long since);
+    int compactChangeLogs();
+}
@@ -0,0 +1,7 @@
+package com.example.todo_backend.services;
+
+public interface BoardRevisionService {
+    Long getBoardRevision(Long boardId);
+    Long getListRevision(Long listId);
+    void memberChanged(Long userId);
+}
@@ -2,6 +2,7 @@ package com.example.todo_backend.services;
 
 import java.util.List;
 
+import com.example.todo_backend.dtos.BoardCloneDTO;
 import com.example.todo_backend.dtos.BoardDTO;
 import com.example.todo_backend.dtos.BoardUpdateDTO;
 
@@ -11,5 +12,6 @@ public interface BoardService {
     BoardDTO getBoardById(Long id);
     void deleteBoard(Long id);
     BoardDTO updateBoard(BoardUpdateDTO updateDTO, Long currentUserId);
+    BoardDTO cloneBoard(Long boardId, BoardCloneDTO cloneDTO, Long currentUserId);
 
 }
\ No newline at end of file
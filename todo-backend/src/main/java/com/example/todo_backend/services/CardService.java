@@ -10,4 +10,7 @@ public interface CardService {
 
     List<CardDTO> getCardsByListId(Long listId);
     void deleteCard(Long id);
+
+    void watchCard(Long cardId, Long userId);
+    void unwatchCard(Long cardId, Long userId);
 }
\ No newline at end of file
@@ -3,9 +3,13 @@ package com.example.todo_backend.services;
 import java.util.List;
 
 import com.example.todo_backend.dtos.CommentDTO;
+import com.example.todo_backend.dtos.CommentPageDTO;
 
 public interface CommentService {
     CommentDTO createComment(CommentDTO dto, String username);
     List<CommentDTO> getCommentsByCardId(Long cardId);
+    CommentPageDTO getCommentPage(Long cardId, String cursor, int limit, boolean threaded);
+    CommentPageDTO getReplyPage(Long commentId, String cursor, int limit);
+    CommentPageDTO getMentions(Long userId, String cursor, int limit);
     void deleteComment(Long id);
 }
\ No newline at end of file
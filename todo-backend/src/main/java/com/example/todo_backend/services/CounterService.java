@@ -0,0 +1,16 @@
+package com.example.todo_backend.services;
+
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+
+public interface CounterService {
+    void cardAdded(ListEntity list);
+    void cardRestored(ListEntity list, int comments);
+    void cardRemoved(Card card);
+    void cardMoved(Card card, ListEntity from, ListEntity to);
+    void commentAdded(Card card);
+    void commentRemoved(Card card);
+    void listRemoved(ListEntity list);
+    void listRestored(ListEntity list);
+    void reconcileCounters();
+}
@@ -0,0 +1,7 @@
+package com.example.todo_backend.services;
+
+import org.springframework.mail.SimpleMailMessage;
+
+public interface MailService {
+    public void send(SimpleMailMessage message);
+}
@@ -0,0 +1,6 @@
+package com.example.todo_backend.services;
+
+public interface NotificationRetentionService {
+    public int purgeExpired();
+    public void preparePartitions();
+}
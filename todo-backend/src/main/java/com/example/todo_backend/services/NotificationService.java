@@ -2,11 +2,12 @@ package com.example.todo_backend.services;
 
 import java.util.List;
 import com.example.todo_backend.dtos.NotificationDTO;
+import com.example.todo_backend.entities.NotificationEvent;
 import com.example.todo_backend.entities.User;
 
 
 public interface NotificationService {
-    public void sendNotification(User user, String message);
+    public void sendNotification(List<User> recipients, NotificationEvent event);
     public List<NotificationDTO> getUserNotifications(Long userId);
     public void markAsRead(Long id);
 }
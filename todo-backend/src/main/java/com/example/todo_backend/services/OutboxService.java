@@ -0,0 +1,9 @@
+package com.example.todo_backend.services;
+
+import java.time.LocalDateTime;
+
+public interface OutboxService {
+    public Long enqueue(String destination, Long recipientId, String payload);
+    public Long enqueue(String destination, Long recipientId, String payload, LocalDateTime availableAt);
+    public boolean replacePending(Long messageId, String payload);
+}
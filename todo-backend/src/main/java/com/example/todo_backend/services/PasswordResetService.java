@@ -19,6 +19,7 @@ public interface PasswordResetService {
     public void createPasswordResetToken(String email);
     public void resetPassword(String token, String newPassword);
     public void sendEmail(String to, String resetUrl);
+    public int purgeExpiredTokens();
 
 
     
@@ -0,0 +1,9 @@
+package com.example.todo_backend.services;
+
+import java.util.List;
+
+import com.example.todo_backend.dtos.BoardViewerDTO;
+
+public interface PresenceService {
+    List<BoardViewerDTO> getBoardViewers(Long boardId, Long userId);
+}
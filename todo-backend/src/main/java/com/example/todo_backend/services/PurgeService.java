@@ -0,0 +1,5 @@
+package com.example.todo_backend.services;
+
+public interface PurgeService {
+    int purgeDeleted();
+}
@@ -0,0 +1,20 @@
+package com.example.todo_backend.services;
+
+import com.example.todo_backend.dtos.UndoStateDTO;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+
+public interface UndoService {
+    public void listCreated(Long userId, ListEntity list);
+    public void listUpdated(Long userId, ListEntity list, String previousName, String previousColor);
+    public void listDeleted(Long userId, ListEntity list);
+    public void cardCreated(Long userId, Card card);
+    public void cardUpdated(Long userId, Card card, String previousTitle, String previousDescription);
+    public void cardMoved(Long userId, Card card, ListEntity from);
+    public void cardDeleted(Long userId, Card card);
+    public void boardRenamed(Long userId, Board board, String previousName);
+    public UndoStateDTO getState(Long userId);
+    public UndoStateDTO undo(Long userId);
+    public UndoStateDTO redo(Long userId);
+}
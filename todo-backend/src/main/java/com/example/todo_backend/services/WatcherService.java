@@ -0,0 +1,14 @@
+package com.example.todo_backend.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.User;
+
+public interface WatcherService {
+    public Set<Long> getWatcherIds(Long cardId);
+    public List<User> getRecipients(Card card, Collection<Long> mentionedUserIds, Long actorId);
+    public void watchersChanged(Long cardId);
+}
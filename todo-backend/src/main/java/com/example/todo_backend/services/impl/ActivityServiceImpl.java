@@ -5,6 +5,8 @@ import com.example.todo_backend.dtos.CreateActivityRequest;
 import com.example.todo_backend.dtos.UpdateActivityRequest;
 import com.example.todo_backend.entities.Activity;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.repositories.ActivityRepository;
@@ -163,24 +165,30 @@ public class ActivityServiceImpl implements ActivityService {
     }
     private void notifyMembersAboutActivityDeletion(Activity activity) {
         User currentUser = findUserById(authService.getCurrentUserId());
-        String notificationMessage = String.format("%s deleted %s : %s ", 
-            currentUser.getUsername(),activity.getType() , activity.getTitle());
-        
-        activity.getParticipants().stream()
+        List<User> recipients = activity.getParticipants().stream()
             .filter(member -> !isCurrentUser(member))
-            .forEach(member -> 
-                notificationService.sendNotification(member, notificationMessage)
-            );
+            .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        notificationService.sendNotification(recipients,
+            NotificationEvent.of(NotificationType.ACTIVITY_DELETED, currentUser, null, activity.getId(), createActivityTitle(activity)));
     }
     private void notifyMembersAboutActivityCreate(Activity activity, User creattingUser) {
-        String notificationMessage = String.format("You have been added by %s to a new %s : %s ", 
-            creattingUser.getUsername(), activity.getType(), activity.getTitle());
-        
-        activity.getParticipants().stream()
+        List<User> recipients = activity.getParticipants().stream()
             .filter(member -> !isCurrentUser(member))
-            .forEach(member -> 
-                notificationService.sendNotification(member, notificationMessage)
-            );
+            .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        notificationService.sendNotification(recipients,
+            NotificationEvent.of(NotificationType.ACTIVITY_CREATED, creattingUser, null, activity.getId(), createActivityTitle(activity)));
+    }
+
+    private String createActivityTitle(Activity activity) {
+        return String.format("%s : %s", activity.getType(), activity.getTitle());
     }
 
     private boolean isCurrentUser(User user) {
@@ -0,0 +1,330 @@
+package com.example.todo_backend.services.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.example.todo_backend.dtos.AttachmentDTO;
+import com.example.todo_backend.entities.Attachment;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.PayloadTooLargeException;
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.services.AttachmentService;
+import com.example.todo_backend.services.AuditService;
+import com.example.todo_backend.storage.BlobContent;
+import com.example.todo_backend.storage.BlobStore;
+import com.example.todo_backend.storage.BlobStore.StoredBlob;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Card attachments over the content-addressed {@link BlobStore}. An upload is
+ * streamed into the store before the card is even looked up, so no database
+ * connection is held while the body arrives; the row is written afterwards in
+ * a short transaction of its own. An upload to a missing card leaves a blob
+ * nobody references, which the hourly sweep removes once it is older than
+ * {@code todo.attachments.orphan-grace}. Deleting an attachment, or the card
+ * or list holding it, only removes rows; blobs go the same way.
+ *
+ * Thumbnails of images are rendered after commit by {@code todo.attachments.thumbnail.workers}
+ * threads with a bounded queue. When the queue is full the thumbnail is
+ * skipped rather than the upload slowed down. Attachments sharing content
+ * share its thumbnail too.
+ */
+@Slf4j
+@Service
+public class AttachmentServiceImpl implements AttachmentService, SmartLifecycle {
+
+    private static final int THUMBNAIL_SIZE = 256;
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final AttachmentRepository attachmentRepository;
+    private final CardRepository cardRepository;
+    private final BlobStore blobStore;
+    private final AuditService auditService;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolTaskExecutor thumbnailExecutor = new ThreadPoolTaskExecutor();
+    private final MeterRegistry meterRegistry;
+    private final Counter uploadedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter sweptCounter;
+    private final Map<String, Counter> thumbnailCounters = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    @Value("${todo.attachments.max-size:100MB}")
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    @Value("${todo.attachments.orphan-grace:1d}")
+    private Duration orphanGrace = Duration.ofDays(1);
+
+    @Value("${todo.attachments.thumbnail.workers:2}")
+    private int thumbnailWorkers = 2;
+
+    @Value("${todo.attachments.thumbnail.queue-capacity:200}")
+    private int thumbnailQueueCapacity = 200;
+
+    @Value("${todo.attachments.thumbnail.max-pixels:50000000}")
+    private long thumbnailMaxPixels = 50_000_000;
+
+    public AttachmentServiceImpl(AttachmentRepository attachmentRepository,
+                                 CardRepository cardRepository,
+                                 BlobStore blobStore,
+                                 AuditService auditService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.attachmentRepository = attachmentRepository;
+        this.cardRepository = cardRepository;
+        this.blobStore = blobStore;
+        this.auditService = auditService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.uploadedCounter = meterRegistry.counter("todo.attachments.uploaded");
+        this.deduplicatedCounter = meterRegistry.counter("todo.attachments.deduplicated");
+        this.sweptCounter = meterRegistry.counter("todo.attachments.swept");
+        Gauge.builder("todo.attachments.thumbnail.queued", this,
+                        service -> service.running ? service.thumbnailExecutor.getQueueSize() : 0)
+                .description("Thumbnails waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        thumbnailExecutor.setCorePoolSize(thumbnailWorkers);
+        thumbnailExecutor.setMaxPoolSize(thumbnailWorkers);
+        thumbnailExecutor.setQueueCapacity(thumbnailQueueCapacity);
+        thumbnailExecutor.setThreadNamePrefix("thumbnail-");
+        thumbnailExecutor.initialize();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thumbnailExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public AttachmentDTO uploadAttachment(Long cardId, Long userId, String fileName, String contentType,
+                                          long contentLength, InputStream content) {
+        String name = cleanFileName(fileName);
+        String type = cleanContentType(contentType);
+        if (contentLength > maxSize.toBytes()) {
+            throw new PayloadTooLargeException("Attachments are limited to " + maxSize.toMegabytes() + " MB");
+        }
+        StoredBlob blob;
+        try {
+            blob = blobStore.store(content, maxSize.toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store attachment " + name, e);
+        }
+        uploadedCounter.increment();
+        if (!blob.created()) {
+            deduplicatedCounter.increment();
+        }
+
+        Attachment attachment = transaction.execute(status -> {
+            Card card = cardRepository.findById(cardId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Card", "id", cardId));
+            Attachment saved = attachmentRepository.save(new Attachment(null, card, userId, name, type,
+                    blob.size(), blob.hash(), null, LocalDateTime.now()));
+            audit(AuditEventType.ATTACHMENT_ADDED, userId, card, name);
+            if (Thumbnails.supports(type)) {
+                afterCommit(() -> submitThumbnail(saved.getId(), saved.getContentHash()));
+            }
+            return saved;
+        });
+        return toDto(attachment, cardId);
+    }
+
+    @Override
+    public List<AttachmentDTO> getAttachmentsByCardId(Long cardId) {
+        return attachmentRepository.findByCardIdOrderById(cardId).stream()
+                .map(attachment -> toDto(attachment, cardId))
+                .toList();
+    }
+
+    @Override
+    public BlobContent getContent(Long attachmentId) {
+        Attachment attachment = findAttachmentById(attachmentId);
+        return new BlobContent(attachment.getContentHash(), attachment.getContentType(), attachment.getFileName());
+    }
+
+    @Override
+    public BlobContent getThumbnail(Long attachmentId) {
+        Attachment attachment = findAttachmentById(attachmentId);
+        if (attachment.getThumbnailHash() == null) {
+            throw new ResourceNotFoundException("Thumbnail", "attachment", attachmentId);
+        }
+        return new BlobContent(attachment.getThumbnailHash(), MediaType.IMAGE_PNG_VALUE,
+                baseName(attachment.getFileName()) + "-thumbnail.png");
+    }
+
+    @Override
+    @Transactional
+    public void deleteAttachment(Long attachmentId, Long userId) {
+        Attachment attachment = findAttachmentById(attachmentId);
+        audit(AuditEventType.ATTACHMENT_DELETED, userId, attachment.getCard(), attachment.getFileName());
+        attachmentRepository.delete(attachment);
+    }
+
+    @Override
+    @Scheduled(cron = "${todo.attachments.sweep-cron:0 30 * * * *}")
+    public int deleteUnreferencedBlobs() {
+        try {
+            int deleted = blobStore.deleteUnreferenced(Instant.now().minus(orphanGrace),
+                    attachmentRepository::findReferencedHashes);
+            sweptCounter.increment(deleted);
+            if (deleted > 0) {
+                log.info("Removed {} unreferenced attachment blobs", deleted);
+            }
+            return deleted;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Sweeping the attachment store failed", e);
+            return 0;
+        }
+    }
+
+    private void submitThumbnail(Long attachmentId, String contentHash) {
+        if (!running) {
+            countThumbnail("dropped");
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> createThumbnail(attachmentId, contentHash));
+        } catch (TaskRejectedException e) {
+            countThumbnail("dropped");
+            log.debug("Thumbnail queue is full, skipping attachment {}", attachmentId);
+        }
+    }
+
+    void createThumbnail(Long attachmentId, String contentHash) {
+        try {
+            String thumbnailHash = attachmentRepository.findThumbnailHashes(contentHash, Limit.of(1)).stream()
+                    .findFirst()
+                    .orElse(null);
+            if (thumbnailHash == null) {
+                byte[] png = Thumbnails.render(blobStore.path(contentHash), THUMBNAIL_SIZE, thumbnailMaxPixels);
+                if (png == null) {
+                    countThumbnail("skipped");
+                    return;
+                }
+                thumbnailHash = blobStore.store(new ByteArrayInputStream(png), png.length).hash();
+            }
+            String hash = thumbnailHash;
+            transaction.executeWithoutResult(status -> attachmentRepository.setThumbnailHash(attachmentId, hash));
+            countThumbnail("created");
+        } catch (IOException | RuntimeException e) {
+            countThumbnail("failed");
+            log.warn("Could not create a thumbnail for attachment {}: {}", attachmentId, e.getMessage());
+        }
+    }
+
+    private void countThumbnail(String result) {
+        thumbnailCounters.computeIfAbsent(result, name -> Counter.builder("todo.attachments.thumbnails")
+                        .description("Thumbnails by outcome")
+                        .tag("result", name)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void audit(AuditEventType type, Long actorId, Card card, String detail) {
+        auditService.record(AuditEvent.of(type, actorId, card.getList().getBoard().getId(),
+                card.getList().getId(), card.getId(), detail));
+    }
+
+    private Attachment findAttachmentById(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+    }
+
+    /** The last path segment, without control characters, since browsers send full paths now and then. */
+    private static String cleanFileName(String fileName) {
+        String name = fileName == null ? "" : fileName.replaceAll("\\p{Cntrl}", "");
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            throw new BadRequestException("Attachment needs a file name");
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    /**
+     * The upload is the raw request body; a form would already have been
+     * consumed by the servlet container when it parsed the parameters.
+     */
+    private static String cleanContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        MediaType type;
+        try {
+            type = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new BadRequestException("Invalid content type: " + contentType);
+        }
+        if (type.isCompatibleWith(MediaType.APPLICATION_FORM_URLENCODED) || type.isCompatibleWith(MediaType.MULTIPART_FORM_DATA)) {
+            throw new BadRequestException("Send the file as the request body, not as a form");
+        }
+        return type.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private static AttachmentDTO toDto(Attachment attachment, Long cardId) {
+        return new AttachmentDTO(attachment.getId(), cardId, attachment.getFileName(), attachment.getContentType(),
+                attachment.getSize(), attachment.getContentHash(), attachment.getThumbnailHash() != null,
+                attachment.getUploadedBy(), attachment.getCreatedAt());
+    }
+}
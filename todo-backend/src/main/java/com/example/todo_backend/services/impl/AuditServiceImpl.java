@@ -0,0 +1,256 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.dtos.AuditEventDTO;
+import com.example.todo_backend.dtos.AuditPageDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.AuditEventRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only audit log of card, list and board events. Writers only put the
+ * event on a bounded in-memory queue, after their transaction commits; a
+ * single appender thread takes whatever has accumulated, up to the batch size,
+ * and inserts it in one transaction as one JDBC batch. When the queue is full
+ * events are dropped and counted rather than slowing the request down, and
+ * what is still queued at shutdown is written before the node stops.
+ *
+ * History is paged newest first by keyset on id. On PostgreSQL the table can
+ * be range-partitioned by month on {@code created_at}; whole months older than
+ * {@code todo.audit.retention} are then dropped. Without partitioning the log
+ * is kept forever.
+ */
+@Slf4j
+@Service
+public class AuditServiceImpl implements AuditService, SmartLifecycle {
+
+    private static final String TABLE = "audit_events";
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final AuditEventRepository auditEventRepository;
+    private final UserRepository userRepository;
+    private final MonthlyPartitions partitions;
+    private final TransactionTemplate appendTransaction;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private volatile BlockingQueue<AuditEvent> queue = new LinkedBlockingQueue<>(1);
+    private volatile boolean running;
+
+    @Value("${todo.audit.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    @Value("${todo.audit.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${todo.audit.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Value("${todo.audit.partitioning.months-ahead:2}")
+    private int monthsAhead = 2;
+
+    @Value("${todo.audit.retention:0d}")
+    private Duration retention = Duration.ZERO;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public AuditServiceImpl(AuditEventRepository auditEventRepository,
+                            UserRepository userRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.auditEventRepository = auditEventRepository;
+        this.userRepository = userRepository;
+        this.partitions = new MonthlyPartitions(jdbcTemplate, TABLE);
+        this.appendTransaction = new TransactionTemplate(transactionManager);
+        this.appendTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writtenCounter = meterRegistry.counter("todo.audit.written");
+        this.droppedCounter = meterRegistry.counter("todo.audit.dropped");
+        this.failedCounter = meterRegistry.counter("todo.audit.failed");
+        Gauge.builder("todo.audit.queued", this, service -> service.queue.size())
+                .description("Audit events waiting for the appender")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("audit-");
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.initialize();
+        running = true;
+        scheduler.execute(this::work);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        List<AuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            append(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void record(AuditEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    @Override
+    public AuditPageDTO getCardHistory(Long cardId, Long before, int limit) {
+        int size = pageSize(limit);
+        return toPage(auditEventRepository.findByCardIdAndIdLessThanOrderByIdDesc(
+                cardId, upperBound(before), Limit.of(size + 1)), size);
+    }
+
+    @Override
+    public AuditPageDTO getBoardHistory(Long boardId, Long before, int limit) {
+        int size = pageSize(limit);
+        return toPage(auditEventRepository.findByBoardIdAndIdLessThanOrderByIdDesc(
+                boardId, upperBound(before), Limit.of(size + 1)), size);
+    }
+
+    @Override
+    public void preparePartitions() {
+        if (!partitioningEnabled || !partitions.isPostgres()) {
+            return;
+        }
+        if (!partitions.isPartitioned()) {
+            appendTransaction.executeWithoutResult(status -> partitions.convert(monthsAhead, List.of(),
+                    List.of("CREATE INDEX idx_audit_events_card ON " + TABLE + " (card_id, id)",
+                            "CREATE INDEX idx_audit_events_board ON " + TABLE + " (board_id, id)",
+                            "CREATE INDEX idx_audit_events_created_at ON " + TABLE + " (created_at)")));
+        }
+        partitions.ensure(YearMonth.now(), monthsAhead);
+    }
+
+    @Override
+    @Scheduled(cron = "${todo.audit.partitioning.cron:0 0 3 * * *}")
+    public int dropExpiredPartitions() {
+        if (!partitioningEnabled || !partitions.isPartitioned()) {
+            return 0;
+        }
+        partitions.ensure(YearMonth.now(), monthsAhead);
+        if (retention.isZero()) {
+            return 0;
+        }
+        return partitions.dropBefore(LocalDateTime.now().minus(retention)).size();
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (!running || !queue.offer(event)) {
+            droppedCounter.increment();
+            log.warn("Audit queue is {}, dropping {} event for board {}", running ? "full" : "not running",
+                    event.getType(), event.getBoardId());
+        }
+    }
+
+    private void work() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                append(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void append(List<AuditEvent> batch) {
+        try {
+            appendTransaction.executeWithoutResult(status -> auditEventRepository.saveAll(batch));
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("Could not write {} audit events", batch.size(), e);
+        }
+    }
+
+    private AuditPageDTO toPage(List<AuditEvent> events, int size) {
+        List<AuditEvent> page = events.size() > size ? events.subList(0, size) : events;
+        Long nextBefore = events.size() > size ? page.get(page.size() - 1).getId() : null;
+
+        Set<Long> actorIds = new HashSet<>();
+        page.forEach(event -> actorIds.add(event.getActorId()));
+        actorIds.remove(null);
+        Map<Long, String> actorNames = actorIds.isEmpty() ? Map.of() : userRepository.findAllById(actorIds).stream()
+                .filter(user -> user.getUsername() != null)
+                .collect(Collectors.toMap(User::getId, User::getUsername));
+
+        List<AuditEventDTO> dtos = page.stream()
+                .map(event -> new AuditEventDTO(event.getId(), event.getType(), event.getActorId(),
+                        event.getActorId() == null ? null : actorNames.get(event.getActorId()),
+                        event.getBoardId(), event.getListId(), event.getCardId(), event.getDetail(),
+                        event.getCreatedAt()))
+                .toList();
+        return new AuditPageDTO(dtos, nextBefore);
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static Long upperBound(Long before) {
+        return before == null ? Long.MAX_VALUE : before;
+    }
+}
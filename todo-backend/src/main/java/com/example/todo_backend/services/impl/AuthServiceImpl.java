@@ -1,5 +1,6 @@
 package com.example.todo_backend.services.impl;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -9,6 +10,7 @@ import com.example.todo_backend.dtos.LoginRequest;
 import com.example.todo_backend.dtos.RegisterRequest;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.AuthenticationException;
+import com.example.todo_backend.exceptions.ConflictException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.repositories.UserRepository;
 import com.example.todo_backend.services.AuthService;
@@ -40,12 +42,12 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public User register(RegisterRequest request) {
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new RuntimeException("Username already exists: " + request.getUsername());
+        if (userRepository.existsByUsername(request.getUsername())) {
+            throw new ConflictException("Username already exists: " + request.getUsername());
         }
         
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new RuntimeException("Email already exists: " + request.getEmail());
+        if (userRepository.existsByEmail(User.normalizeEmail(request.getEmail()))) {
+            throw new ConflictException("Email already exists: " + request.getEmail());
         }
 
         User user = new User();
@@ -53,7 +55,11 @@ public class AuthServiceImpl implements AuthService {
         user.setEmail(request.getEmail());
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConflicts.translate(e, request.getUsername(), request.getEmail());
+        }
     }
 
     @Override
@@ -65,6 +71,11 @@ public class AuthServiceImpl implements AuthService {
             throw new AuthenticationException("Invalid credentials");
         }
 
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user = userRepository.save(user);
+        }
+
         return user;
     }
 }
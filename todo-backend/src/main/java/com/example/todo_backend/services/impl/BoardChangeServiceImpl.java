@@ -0,0 +1,206 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.dtos.BoardChangesDTO;
+import com.example.todo_backend.entities.BoardChange;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
+import com.example.todo_backend.mappers.BoardMapper;
+import com.example.todo_backend.mappers.CardMapper;
+import com.example.todo_backend.mappers.ListMapper;
+import com.example.todo_backend.repositories.BoardChangeRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.services.BoardChangeService;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-board change log for delta sync. Every write bumps the board revision
+ * and appends the identity of the written or deleted entity at that revision,
+ * in the writer's transaction. The revision row lock orders writers on a
+ * board, so entries commit in revision order.
+ *
+ * Logs over {@code todo.changes.compact-threshold} entries are compacted:
+ * entries superseded by a later one for the same entity are dropped first, and
+ * if that is not enough the oldest are dropped down to half the threshold and
+ * the board's change log floor is raised past them. Clients asking from below
+ * the floor are told to resync.
+ */
+@Slf4j
+@Service
+public class BoardChangeServiceImpl implements BoardChangeService {
+
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardRepository boardRepository;
+    private final ListEntityRepository listRepository;
+    private final CardRepository cardRepository;
+    private final BoardMapper boardMapper;
+    private final ListMapper listMapper;
+    private final CardMapper cardMapper;
+    private final TransactionTemplate boardTransaction;
+
+    @Value("${todo.changes.compact-threshold:10000}")
+    private long compactThreshold = 10000;
+
+    public BoardChangeServiceImpl(BoardChangeRepository boardChangeRepository,
+                                  BoardRepository boardRepository,
+                                  ListEntityRepository listRepository,
+                                  CardRepository cardRepository,
+                                  BoardMapper boardMapper,
+                                  ListMapper listMapper,
+                                  CardMapper cardMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.boardChangeRepository = boardChangeRepository;
+        this.boardRepository = boardRepository;
+        this.listRepository = listRepository;
+        this.cardRepository = cardRepository;
+        this.boardMapper = boardMapper;
+        this.listMapper = listMapper;
+        this.cardMapper = cardMapper;
+        this.boardTransaction = new TransactionTemplate(transactionManager);
+        this.boardTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void recordUpsert(Long boardId, BoardChangeType type, Long entityId) {
+        record(boardId, type, entityId, false);
+    }
+
+    /** Logs many entities at a single new revision, with one revision bump and one batch of inserts. */
+    @Override
+    @Transactional
+    public void recordUpserts(Long boardId, BoardChangeType type, Collection<Long> entityIds) {
+        recordAll(boardId, type, entityIds, false);
+    }
+
+    @Override
+    @Transactional
+    public void recordRemoval(Long boardId, BoardChangeType type, Long entityId) {
+        record(boardId, type, entityId, true);
+    }
+
+    /** Tombstones many entities at a single new revision, like {@link #recordUpserts}. */
+    @Override
+    @Transactional
+    public void recordRemovals(Long boardId, BoardChangeType type, Collection<Long> entityIds) {
+        recordAll(boardId, type, entityIds, true);
+    }
+
+    @Override
+    @Transactional
+    public void boardDeleted(Long boardId) {
+        boardChangeRepository.deleteByBoardId(boardId);
+    }
+
+    @Override
+    @Transactional
+    public BoardChangesDTO getChangesSince(Long boardId, long since) {
+        long revision = findRevision(boardId);
+        BoardChangesDTO changes = new BoardChangesDTO();
+        changes.setBoardId(boardId);
+        changes.setSince(since);
+        changes.setRevision(revision);
+        if (since >= revision) {
+            changes.setResync(since > revision);
+            return changes;
+        }
+
+        List<BoardChange> entries = boardChangeRepository.findByBoardIdAndRevisionGreaterThanOrderByRevision(boardId, since);
+        // Read after the entries: a compaction that removed some of them has raised the floor by now.
+        if (since < boardRepository.findChangeLogFloor(boardId).orElse(0L)) {
+            changes.setResync(true);
+            return changes;
+        }
+
+        Map<BoardChangeType, Map<Long, Boolean>> latest = new EnumMap<>(BoardChangeType.class);
+        for (BoardChange entry : entries) {
+            latest.computeIfAbsent(entry.getEntityType(), type -> new LinkedHashMap<>())
+                    .put(entry.getEntityId(), entry.isDeleted());
+            changes.setRevision(Math.max(changes.getRevision(), entry.getRevision()));
+        }
+        Map<Long, Boolean> cards = latest.getOrDefault(BoardChangeType.CARD, Map.of());
+        cardRepository.findAllById(idsWhere(cards, false)).stream()
+                .map(cardMapper::toDto)
+                .forEach(changes.getCards()::add);
+        changes.getDeletedCardIds().addAll(idsWhere(cards, true));
+        changes.getDeletedListIds().addAll(idsWhere(latest.getOrDefault(BoardChangeType.LIST, Map.of()), true));
+
+        boardRepository.findById(boardId).map(boardMapper::toSimpleDto).ifPresent(changes::setBoard);
+        listRepository.findByBoardId(boardId).stream()
+                .map(listMapper::toSummaryDto)
+                .forEach(changes.getLists()::add);
+        return changes;
+    }
+
+    @Override
+    @Scheduled(cron = "${todo.changes.compact-cron:0 */10 * * * *}")
+    public int compactChangeLogs() {
+        int removed = 0;
+        for (Long boardId : boardChangeRepository.findBoardIdsWithMoreThan(compactThreshold)) {
+            Integer count = boardTransaction.execute(status -> compact(boardId));
+            removed += count == null ? 0 : count;
+        }
+        if (removed > 0) {
+            log.info("Change log compaction removed {} entries", removed);
+        }
+        return removed;
+    }
+
+    private int compact(Long boardId) {
+        int removed = boardChangeRepository.deleteSuperseded(boardId);
+        if (boardChangeRepository.countByBoardId(boardId) > compactThreshold) {
+            long floor = boardChangeRepository.findRevisionBeyond(boardId, compactThreshold / 2).orElse(0L);
+            boardRepository.raiseChangeLogFloor(boardId, floor);
+            removed += boardChangeRepository.deleteUpTo(boardId, floor);
+        }
+        return removed;
+    }
+
+    private void record(Long boardId, BoardChangeType type, Long entityId, boolean deleted) {
+        boardRepository.bumpRevision(boardId);
+        boardChangeRepository.save(new BoardChange(null, boardId, findRevision(boardId), type, entityId, deleted));
+    }
+
+    private void recordAll(Long boardId, BoardChangeType type, Collection<Long> entityIds, boolean deleted) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        boardRepository.bumpRevision(boardId);
+        long revision = findRevision(boardId);
+        boardChangeRepository.saveAll(entityIds.stream()
+                .map(entityId -> new BoardChange(null, boardId, revision, type, entityId, deleted))
+                .toList());
+    }
+
+    private long findRevision(Long boardId) {
+        return boardRepository.findRevision(boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
+    }
+
+    private static List<Long> idsWhere(Map<Long, Boolean> latest, boolean deleted) {
+        List<Long> ids = new ArrayList<>();
+        latest.forEach((id, isDeleted) -> {
+            if (isDeleted == deleted) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+}
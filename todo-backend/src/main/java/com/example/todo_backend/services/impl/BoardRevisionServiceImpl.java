@@ -0,0 +1,41 @@
+package com.example.todo_backend.services.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.services.BoardRevisionService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the per-board revision that moves on every write to the board, its
+ * lists, cards, comments or members. The board read endpoints use it as their
+ * ETag, so a poll can be answered with 304 after a single-column lookup.
+ * Content writes bump it through {@code BoardChangeService}; profile changes
+ * only bump it here, since they do not enter the change log. Bumps run in the
+ * caller's transaction and touch only that column, so the cached board entity
+ * is left alone.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardRevisionServiceImpl implements BoardRevisionService {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Long getBoardRevision(Long boardId) {
+        return boardRepository.findRevision(boardId).orElse(null);
+    }
+
+    @Override
+    public Long getListRevision(Long listId) {
+        return boardRepository.findRevisionByListId(listId).orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void memberChanged(Long userId) {
+        boardRepository.bumpRevisionByMemberId(userId);
+    }
+}
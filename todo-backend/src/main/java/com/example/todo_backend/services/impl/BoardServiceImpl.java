@@ -1,24 +1,42 @@
 package com.example.todo_backend.services.impl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.example.todo_backend.dtos.BoardCloneDTO;
 import com.example.todo_backend.dtos.BoardDTO;
 import com.example.todo_backend.dtos.BoardUpdateDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
 import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.BoardMapper;
 import com.example.todo_backend.repositories.BoardMemberRepository;
 import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
 import com.example.todo_backend.services.BoardService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +54,12 @@ public class BoardServiceImpl implements BoardService {
     private final BoardMemberRepository boardMemberRepository;
     private final NotificationService notificationService;
     private final AuthService authService;
+    private final BoardChangeService boardChangeService;
+    private final ListEntityRepository listRepository;
+    private final CardRepository cardRepository;
+    private final CardMemberRepository cardMemberRepository;
+    private final AuditService auditService;
+    private final UndoService undoService;
 
     @Override
     @Transactional
@@ -70,6 +94,7 @@ public class BoardServiceImpl implements BoardService {
         }
         savedBoard.getMembers().add(member);
         System.out.println("After adding member: " + savedBoard.getMembers());
+        audit(AuditEventType.BOARD_CREATED, userId, savedBoard, savedBoard.getName());
     
         System.out.println("=== CREATE BOARD END ===");
         return boardMapper.toSimpleDto(savedBoard);
@@ -77,7 +102,7 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public List<BoardDTO> getBoardsByUserId(Long userId) {
-        return boardRepository.findByMembers_User_Id(userId).stream()
+        return boardRepository.findByMembers_User_IdAndDeletedAtIsNull(userId).stream()
                 .map(boardMapper::toSimpleDto)
                 .collect(Collectors.toList());
     }
@@ -93,25 +118,119 @@ public class BoardServiceImpl implements BoardService {
     public void deleteBoard(Long boardId) {
         Board board = findBoardById(boardId);
         notifyMembersAboutBoardDeletion(board);
-        boardRepository.deleteById(boardId);
+        boardChangeService.boardDeleted(boardId);
+        audit(AuditEventType.BOARD_DELETED, authService.getCurrentUserId(), board, board.getName());
+        board.setDeletedAt(LocalDateTime.now());
+        boardRepository.save(board);
     }
 
     @Override
     @Transactional
     public BoardDTO updateBoard(BoardUpdateDTO updateDto, Long currentUserId) {
         Board board = findBoardById(updateDto.getBoardId());
+        OptimisticLocking.checkVersion("Board", board.getId(), board.getVersion(), updateDto.getVersion());
         User currentUser = findUserById(currentUserId);
 
+        String previousName = board.getName();
         updateBoardNameIfProvided(board, updateDto.getNewName());
         addNewMembersIfProvided(board, updateDto.getUserIds(), updateDto.getRole());
 
-        Board savedBoard = boardRepository.save(board);
+        Board savedBoard = OptimisticLocking.saveAndFlush(boardRepository, board, "Board", board.getId());
+        boardChangeService.recordUpsert(board.getId(), BoardChangeType.BOARD, board.getId());
+        audit(AuditEventType.BOARD_UPDATED, currentUserId, board, board.getName());
+        undoService.boardRenamed(currentUserId, board, previousName);
+        if (updateDto.getUserIds() != null && !updateDto.getUserIds().isEmpty()) {
+            audit(AuditEventType.BOARD_MEMBERS_ADDED, currentUserId, board, "users " + updateDto.getUserIds());
+        }
 
         notifyMembersAboutBoardUpdate(board, currentUser);
 
         return boardMapper.toSimpleDto(savedBoard);
     }
 
+    /**
+     * Copies a board's lists and cards, and optionally its members, in one
+     * transaction. All rows are persisted up front so Hibernate sends them as
+     * JDBC batches on flush, and the copied members get a single summary
+     * notification rather than one per card.
+     */
+    @Override
+    @Transactional
+    public BoardDTO cloneBoard(Long boardId, BoardCloneDTO cloneDto, Long currentUserId) {
+        // Only members may copy a board; to anyone else it does not exist.
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, currentUserId)) {
+            throw new ResourceNotFoundException("Board", "id", boardId);
+        }
+        Board source = findBoardById(boardId);
+        User currentUser = findUserById(currentUserId);
+
+        Board copy = createNewBoard(new BoardDTO());
+        copy.setName(isValidName(cloneDto.getName()) ? cloneDto.getName().trim() : source.getName() + " (copy)");
+
+        Map<Long, ListEntity> listCopies = new LinkedHashMap<>();
+        for (ListEntity list : listRepository.findByBoardId(boardId)) {
+            ListEntity listCopy = new ListEntity();
+            listCopy.setName(list.getName());
+            listCopy.setColor(list.getColor());
+            listCopy.setBoard(copy);
+            listCopies.put(list.getId(), listCopy);
+        }
+
+        Map<Long, Card> cardCopies = new LinkedHashMap<>();
+        for (Card card : cardRepository.findByBoardId(boardId)) {
+            ListEntity listCopy = listCopies.get(card.getList().getId());
+            Card cardCopy = new Card();
+            cardCopy.setTitle(card.getTitle());
+            cardCopy.setTag(card.getTag());
+            cardCopy.setDescription(card.getDescription());
+            cardCopy.setList(listCopy);
+            listCopy.setCardCount(listCopy.getCardCount() + 1);
+            cardCopies.put(card.getId(), cardCopy);
+        }
+        // Counters are insert-only columns, so they must be final before the rows are persisted.
+        copy.setCardCount(cardCopies.size());
+        boardRepository.save(copy);
+        listRepository.saveAll(listCopies.values());
+        cardRepository.saveAll(cardCopies.values());
+
+        addBoardMember(copy, currentUser, ADMIN_ROLE);
+        if (cloneDto.isIncludeMembers()) {
+            copyMembers(source, copy, currentUser);
+            copyCardMembers(boardId, cardCopies);
+        }
+
+        audit(AuditEventType.BOARD_CLONED, currentUserId, copy, "copy of " + source.getName() + " (" + boardId + ")");
+        notifyMembersAboutBoardClone(copy, currentUser,
+                source.getName() + " with " + listCopies.size() + " lists and " + cardCopies.size() + " cards");
+
+        return boardMapper.toSimpleDto(copy);
+    }
+
+    private void copyMembers(Board source, Board copy, User currentUser) {
+        for (BoardMember member : source.getMembers()) {
+            if (member.getUser().getId().equals(currentUser.getId())) {
+                continue;
+            }
+            BoardMember memberCopy = new BoardMember();
+            memberCopy.setBoard(copy);
+            memberCopy.setUser(member.getUser());
+            memberCopy.setRole(member.getRole());
+            boardMemberRepository.save(memberCopy);
+            copy.getMembers().add(memberCopy);
+        }
+    }
+
+    private void copyCardMembers(Long boardId, Map<Long, Card> cardCopies) {
+        List<CardMember> memberCopies = new ArrayList<>();
+        for (CardMember member : cardMemberRepository.findByBoardId(boardId)) {
+            CardMember memberCopy = new CardMember();
+            memberCopy.setCard(cardCopies.get(member.getCard().getId()));
+            memberCopy.setUser(member.getUser());
+            memberCopies.add(memberCopy);
+        }
+        cardMemberRepository.saveAll(memberCopies);
+    }
+
     private Board createNewBoard(BoardDTO boardDto) {
         Board board = new Board();
         board.setName(boardDto.getName());
@@ -122,6 +241,7 @@ public class BoardServiceImpl implements BoardService {
 
     private Board findBoardById(Long boardId) {
         return boardRepository.findById(boardId)
+                .filter(board -> board.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
     }
 
@@ -130,16 +250,19 @@ public class BoardServiceImpl implements BoardService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
     }
 
+    private void audit(AuditEventType type, Long actorId, Board board, String detail) {
+        auditService.record(AuditEvent.of(type, actorId, board.getId(), null, null, detail));
+    }
+
     private void notifyMembersAboutBoardDeletion(Board board) {
         User currentUser = findUserById(authService.getCurrentUserId());
-        String notificationMessage = String.format("%s deleted board: %s",
-                currentUser.getUsername(), board.getName());
+        List<User> recipients = board.getMembers().stream()
+                .map(BoardMember::getUser)
+                .filter(user -> !isCurrentUser(user))
+                .toList();
 
-        board.getMembers().stream()
-                .filter(member -> !isCurrentUser(member.getUser()))
-                .forEach(member
-                        -> notificationService.sendNotification(member.getUser(), notificationMessage)
-                );
+        notificationService.sendNotification(recipients,
+                NotificationEvent.of(NotificationType.BOARD_DELETED, currentUser, board, board.getId(), board.getName()));
     }
 
     private void updateBoardNameIfProvided(Board board, String newName) {
@@ -203,14 +326,23 @@ public class BoardServiceImpl implements BoardService {
     }
 
     private void notifyMembersAboutBoardUpdate(Board board, User updatingUser) {
-        String notificationMessage = String.format("%s added new users to board: %s",
-                updatingUser.getUsername(), board.getName());
+        List<User> recipients = board.getMembers().stream()
+                .map(BoardMember::getUser)
+                .filter(user -> !isCurrentUser(user))
+                .toList();
 
-        board.getMembers().stream()
-                .filter(member -> !isCurrentUser(member.getUser()))
-                .forEach(member
-                        -> notificationService.sendNotification(member.getUser(), notificationMessage)
-                );
+        notificationService.sendNotification(recipients,
+                NotificationEvent.of(NotificationType.BOARD_MEMBERS_ADDED, updatingUser, board, board.getId(), board.getName()));
+    }
+
+    private void notifyMembersAboutBoardClone(Board copy, User cloningUser, String sourceSummary) {
+        List<User> recipients = copy.getMembers().stream()
+                .map(BoardMember::getUser)
+                .filter(user -> !isCurrentUser(user))
+                .toList();
+
+        notificationService.sendNotification(recipients,
+                NotificationEvent.of(NotificationType.BOARD_CLONED, cloningUser, copy, copy.getId(), sourceSummary));
     }
 
     private boolean isCurrentUser(User user) {
@@ -1,27 +1,40 @@
 package com.example.todo_backend.services.impl;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.example.todo_backend.dtos.CardDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
 import com.example.todo_backend.entities.BoardMember;
 import com.example.todo_backend.entities.Card;
 import com.example.todo_backend.entities.CardMember;
 import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.BadRequestException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.CardMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.CardMemberRepository;
 import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CardRepository.CardContent;
 import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
 import com.example.todo_backend.services.CardService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
+import com.example.todo_backend.services.WatcherService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +51,11 @@ public class CardServiceImpl implements CardService {
     private final BoardRepository boardRepository;
     private final AuthService authService;
     private final NotificationService notificationService;
+    private final CounterService counterService;
+    private final BoardChangeService boardChangeService;
+    private final AuditService auditService;
+    private final UndoService undoService;
+    private final WatcherService watcherService;
 
     @Override
     @Transactional
@@ -47,8 +65,12 @@ public class CardServiceImpl implements CardService {
         
         Card card = createNewCard(cardDto, list);
         Card savedCard = cardRepository.save(card);
+        counterService.cardAdded(list);
+        boardChangeService.recordUpsert(list.getBoard().getId(), BoardChangeType.CARD, savedCard.getId());
         
         addCardMember(savedCard, user);
+        audit(AuditEventType.CARD_CREATED, user.getId(), savedCard, savedCard.getTitle());
+        undoService.cardCreated(user.getId(), savedCard);
         notifyBoardMembersAboutNewCard(list.getBoard(), user, card);
         
         return cardMapper.toDto(savedCard);
@@ -57,14 +79,33 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional
     public CardDTO updateCard(Long cardId, CardDTO cardDto) {
+        CardContent previous = cardDto.getListId() == null ? null : cardRepository.findContentById(cardId).orElse(null);
+        if (previous != null && cardRepository.updateContent(cardId, cardDto.getListId(),
+                cardDto.getVersion(), cardDto.getTitle(), cardDto.getDescription()) == 1) {
+            Card card = findCardById(cardId);
+            Long userId = authService.getCurrentUserId();
+            boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, cardId);
+            audit(AuditEventType.CARD_UPDATED, userId, card, card.getTitle());
+            undoService.cardUpdated(userId, card, previous.getTitle(), previous.getDescription());
+            return cardMapper.toDto(card);
+        }
+
         Card card = findCardById(cardId);
+        OptimisticLocking.checkVersion("Card", cardId, card.getVersion(), cardDto.getVersion());
+        String previousTitle = card.getTitle();
+        String previousDescription = card.getDescription();
         updateCardProperties(card, cardDto);
+        Long userId = authService.getCurrentUserId();
+        undoService.cardUpdated(userId, card, previousTitle, previousDescription);
         
         if (isListChanged(card, cardDto)) {
             handleListChange(card, cardDto);
+        } else {
+            audit(AuditEventType.CARD_UPDATED, userId, card, card.getTitle());
         }
         
-        Card updatedCard = cardRepository.save(card);
+        Card updatedCard = OptimisticLocking.saveAndFlush(cardRepository, card, "Card", cardId);
+        boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, cardId);
         return cardMapper.toDto(updatedCard);
     }
 
@@ -82,8 +123,39 @@ public class CardServiceImpl implements CardService {
         Board board = card.getList().getBoard();
         User currentUser = getCurrentUser();
         
-        notifyBoardMembersAboutDeletedCard(board, currentUser, card);
+        notifyWatchersAboutDeletedCard(board, currentUser, card);
+        counterService.cardRemoved(card);
+        boardChangeService.recordRemoval(board.getId(), BoardChangeType.CARD, cardId);
+        audit(AuditEventType.CARD_DELETED, currentUser.getId(), card, card.getTitle());
+        undoService.cardDeleted(currentUser.getId(), card);
         cardRepository.deleteById(cardId);
+        watcherService.watchersChanged(cardId);
+    }
+
+    @Override
+    @Transactional
+    public void watchCard(Long cardId, Long userId) {
+        Card card = findCardById(cardId);
+        boolean boardMember = card.getList().getBoard().getMembers().stream()
+            .anyMatch(member -> member.getUser().getId().equals(userId));
+        if (!boardMember) {
+            throw new BadRequestException("Only members of the board can watch card " + cardId);
+        }
+        if (cardMemberRepository.existsByCardIdAndUserId(cardId, userId)) {
+            return;
+        }
+        addCardMember(card, findUserById(userId));
+        boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, cardId);
+    }
+
+    @Override
+    @Transactional
+    public void unwatchCard(Long cardId, Long userId) {
+        Card card = findCardById(cardId);
+        if (cardMemberRepository.deleteByCardIdAndUserId(cardId, userId) > 0) {
+            watcherService.watchersChanged(cardId);
+            boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, cardId);
+        }
     }
 
     private Card createNewCard(CardDTO cardDto, ListEntity list) {
@@ -107,11 +179,18 @@ public class CardServiceImpl implements CardService {
     }
 
     private void handleListChange(Card card, CardDTO cardDto) {
+        ListEntity oldList = card.getList();
         ListEntity newList = findListById(cardDto.getListId());
         card.setList(newList);
+        counterService.cardMoved(card, oldList, newList);
+        if (!oldList.getBoard().getId().equals(newList.getBoard().getId())) {
+            boardChangeService.recordRemoval(oldList.getBoard().getId(), BoardChangeType.CARD, card.getId());
+        }
         
         User currentUser = getCurrentUser();
-        notifyBoardMembersAboutMovedCard(newList.getBoard(), currentUser, card);
+        audit(AuditEventType.CARD_MOVED, currentUser.getId(), card, oldList.getName() + " -> " + newList.getName());
+        undoService.cardMoved(currentUser.getId(), card, oldList);
+        notifyWatchersAboutMovedCard(newList.getBoard(), currentUser, card);
     }
 
     private void addCardMember(Card card, User user) {
@@ -119,46 +198,37 @@ public class CardServiceImpl implements CardService {
         member.setCard(card);
         member.setUser(user);
         cardMemberRepository.save(member);
+        watcherService.watchersChanged(card.getId());
     }
 
-    private void notifyBoardMembersAboutNewCard(Board board, User creator, Card card) {
-        String message = createCardCreationMessage(creator, card, board);
-        notifyAllBoardMembersExceptCurrentUser(board, message);
-    }
-
-    private void notifyBoardMembersAboutMovedCard(Board board, User mover, Card card) {
-        String message = createCardMoveMessage(mover, card, board);
-        notifyAllBoardMembersExceptCurrentUser(board, message);
+    private void audit(AuditEventType type, Long actorId, Card card, String detail) {
+        ListEntity list = card.getList();
+        auditService.record(AuditEvent.of(type, actorId, list.getBoard().getId(), list.getId(), card.getId(), detail));
     }
 
-    private void notifyBoardMembersAboutDeletedCard(Board board, User deleter, Card card) {
-        String message = createCardDeletionMessage(deleter, card, board);
-        notifyAllBoardMembersExceptCurrentUser(board, message);
+    private void notifyBoardMembersAboutNewCard(Board board, User creator, Card card) {
+        notifyAllBoardMembersExceptCurrentUser(board,
+            NotificationEvent.of(NotificationType.CARD_CREATED, creator, board, card.getId(), card.getTitle()));
     }
 
-    private void notifyAllBoardMembersExceptCurrentUser(Board board, String message) {
-        Long currentUserId = authService.getCurrentUserId();
-        
-        board.getMembers().stream()
-            .filter(member -> !member.getUser().getId().equals(currentUserId))
-            .forEach(member -> 
-                notificationService.sendNotification(member.getUser(), message)
-            );
+    private void notifyWatchersAboutMovedCard(Board board, User mover, Card card) {
+        notificationService.sendNotification(watcherService.getRecipients(card, Set.of(), mover.getId()),
+            NotificationEvent.of(NotificationType.CARD_MOVED, mover, board, card.getId(), card.getTitle()));
     }
 
-    private String createCardCreationMessage(User user, Card card, Board board) {
-        return String.format("%s created card: %s in board: %s", 
-            user.getUsername(), card.getTitle(), board.getName());
+    private void notifyWatchersAboutDeletedCard(Board board, User deleter, Card card) {
+        notificationService.sendNotification(watcherService.getRecipients(card, Set.of(), deleter.getId()),
+            NotificationEvent.of(NotificationType.CARD_DELETED, deleter, board, card.getId(), card.getTitle()));
     }
 
-    private String createCardMoveMessage(User user, Card card, Board board) {
-        return String.format("%s moved card: %s in board: %s", 
-            user.getUsername(), card.getTitle(), board.getName());
-    }
+    private void notifyAllBoardMembersExceptCurrentUser(Board board, NotificationEvent event) {
+        Long currentUserId = authService.getCurrentUserId();
+        List<User> recipients = board.getMembers().stream()
+            .map(BoardMember::getUser)
+            .filter(user -> !user.getId().equals(currentUserId))
+            .toList();
 
-    private String createCardDeletionMessage(User user, Card card, Board board) {
-        return String.format("%s deleted card: %s from board: %s", 
-            user.getUsername(), card.getTitle(), board.getName());
+        notificationService.sendNotification(recipients, event);
     }
 
     private User findUserById(Long userId) {
@@ -178,6 +248,7 @@ public class CardServiceImpl implements CardService {
 
     private Board findBoardById(Long boardId) {
         return boardRepository.findById(boardId)
+                .filter(board -> board.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
     }
 
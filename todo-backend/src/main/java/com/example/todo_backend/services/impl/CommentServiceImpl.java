@@ -1,28 +1,48 @@
 package com.example.todo_backend.services.impl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.example.todo_backend.dtos.CommentDTO;
+import com.example.todo_backend.dtos.CommentPageDTO;
 import com.example.todo_backend.dtos.UserDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
 import com.example.todo_backend.entities.BoardMember;
 import com.example.todo_backend.entities.Card;
 import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.CommentMention;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.BadRequestException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.CommentMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentMentionRepository;
 import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.CommentRepository.ReplySlot;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
 import com.example.todo_backend.services.CommentService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.WatcherService;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -32,13 +52,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int REPLIES_PER_ROOT = 10;
+    private static final LocalDateTime FIRST_PAGE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final CommentRepository commentRepository;
+    private final CommentMentionRepository commentMentionRepository;
     private final CommentMapper commentMapper;
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final AuthService authService;
     private final NotificationService notificationService;
+    private final CounterService counterService;
+    private final BoardChangeService boardChangeService;
+    private final AuditService auditService;
+    private final WatcherService watcherService;
 
     @Override
     @Transactional
@@ -47,20 +76,69 @@ public class CommentServiceImpl implements CommentService {
         Card card = findCardById(commentDto.getCardId());
         
         Comment comment = createNewComment(commentDto, card, user);
+        comment.setParentId(resolveParentId(commentDto.getParentId(), card));
         Comment savedComment = commentRepository.save(comment);
+        Set<Long> mentionedUserIds = recordMentions(savedComment, card);
+        counterService.commentAdded(card);
+        boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, card.getId());
+        audit(AuditEventType.COMMENT_ADDED, user, card);
         
-        notifyBoardMembersAboutNewComment(card, user);
+        notifyWatchersAboutNewComment(card, user, mentionedUserIds);
         
         return convertToCommentDto(savedComment, user);
     }
 
     @Override
     public List<CommentDTO> getCommentsByCardId(Long cardId) {
-        return commentRepository.findByCardId(cardId).stream()
+        return commentRepository.findWithUserByCardId(cardId).stream()
                 .map(comment -> convertToCommentDto(comment, comment.getUser()))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CommentPageDTO getCommentPage(Long cardId, String cursor, int limit, boolean threaded) {
+        int size = pageSize(limit);
+        Position after = decodePosition(cursor);
+        List<Comment> comments = commentRepository.findPage(cardId, after.time(), after.id(), threaded, Limit.of(size + 1));
+        List<Comment> page = comments.size() > size ? comments.subList(0, size) : comments;
+        List<CommentDTO> dtos = page.stream()
+                .map(comment -> convertToCommentDto(comment, comment.getUser()))
+                .toList();
+        if (threaded && !dtos.isEmpty()) {
+            attachFirstReplies(dtos);
+        }
+        return new CommentPageDTO(dtos, comments.size() > size ? encodePosition(page.get(page.size() - 1)) : null);
+    }
+
+    @Override
+    public CommentPageDTO getReplyPage(Long commentId, String cursor, int limit) {
+        int size = pageSize(limit);
+        Position after = decodePosition(cursor);
+        List<Comment> replies = commentRepository.findReplyPage(commentId, after.time(), after.id(), Limit.of(size + 1));
+        List<Comment> page = replies.size() > size ? replies.subList(0, size) : replies;
+        return new CommentPageDTO(page.stream().map(reply -> convertToCommentDto(reply, reply.getUser())).toList(),
+                replies.size() > size ? encodePosition(page.get(page.size() - 1)) : null);
+    }
+
+    @Override
+    public CommentPageDTO getMentions(Long userId, String cursor, int limit) {
+        int size = pageSize(limit);
+        Long before = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                before = Long.valueOf(decodeCursor(cursor));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+        }
+
+        List<Comment> comments = commentMentionRepository.findMentioning(userId, before, Limit.of(size + 1));
+        List<Comment> page = comments.size() > size ? comments.subList(0, size) : comments;
+        String nextCursor = comments.size() > size ? encodeCursor(String.valueOf(page.get(page.size() - 1).getId())) : null;
+        return new CommentPageDTO(page.stream().map(comment -> convertToCommentDto(comment, comment.getUser())).toList(),
+                nextCursor);
+    }
+
     @Override
     @Transactional
     public void deleteComment(Long commentId) {
@@ -68,7 +146,12 @@ public class CommentServiceImpl implements CommentService {
         Card card = comment.getCard();
         User currentUser = getCurrentUser();
         
-        notifyBoardMembersAboutDeletedComment(card, currentUser);
+        notifyWatchersAboutDeletedComment(card, currentUser);
+        counterService.commentRemoved(card);
+        boardChangeService.recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, card.getId());
+        audit(AuditEventType.COMMENT_DELETED, currentUser, card);
+        commentMentionRepository.deleteByCommentId(commentId);
+        commentRepository.detachReplies(commentId);
         commentRepository.deleteById(commentId);
     }
 
@@ -81,46 +164,125 @@ public class CommentServiceImpl implements CommentService {
         return comment;
     }
 
+    /** Replies always hang off a top-level comment of the same card, so threads stay one level deep. */
+    private Long resolveParentId(Long parentId, Card card) {
+        if (parentId == null) {
+            return null;
+        }
+        Comment parent = findCommentById(parentId);
+        if (!parent.getCard().getId().equals(card.getId())) {
+            throw new BadRequestException("Comment " + parentId + " is on another card");
+        }
+        return parent.getParentId() != null ? parent.getParentId() : parent.getId();
+    }
+
+    /**
+     * Indexes the board members the comment @mentions and returns their ids;
+     * names that match no member are ignored.
+     */
+    private Set<Long> recordMentions(Comment comment, Card card) {
+        Set<String> usernames = MentionParser.usernames(comment.getContent());
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+        Board board = card.getList().getBoard();
+        List<CommentMention> mentions = board.getMembers().stream()
+            .map(BoardMember::getUser)
+            .filter(member -> member.getUsername() != null
+                && usernames.contains(member.getUsername().toLowerCase(Locale.ROOT)))
+            .map(member -> CommentMention.of(member.getId(), comment.getId(), board.getId()))
+            .toList();
+        if (!mentions.isEmpty()) {
+            commentMentionRepository.saveAll(mentions);
+        }
+        return mentions.stream().map(CommentMention::getUserId).collect(Collectors.toSet());
+    }
+
     private CommentDTO convertToCommentDto(Comment comment, User user) {
         return new CommentDTO(
             comment.getId(),
             comment.getContent(),
             comment.getCard().getId(),
             new UserDTO(user.getId(), user.getUsername(), user.getEmail()),
-            comment.getCreatedAt()
+            comment.getCreatedAt(),
+            comment.getParentId(),
+            null,
+            null,
+            null
         );
     }
 
-    private void notifyBoardMembersAboutNewComment(Card card, User commenter) {
-        Board board = card.getList().getBoard();
-        String message = createNewCommentMessage(commenter, card, board);
-        notifyAllBoardMembersExceptCurrentUser(board, message);
+    /**
+     * Gives each root its first {@value #REPLIES_PER_ROOT} replies and its
+     * reply count, with two queries for the whole page. A root with more
+     * replies gets a {@code repliesCursor} to continue through {@link #getReplyPage}.
+     */
+    private void attachFirstReplies(List<CommentDTO> roots) {
+        List<ReplySlot> slots = commentRepository.findFirstReplies(roots.stream().map(CommentDTO::getId).toList(),
+                REPLIES_PER_ROOT);
+        Map<Long, Long> counts = slots.stream()
+                .collect(Collectors.toMap(ReplySlot::getParent, ReplySlot::getTotal, (first, second) -> first));
+        Map<Long, List<Comment>> replies = slots.isEmpty() ? Map.of()
+                : commentRepository.findWithUserByIdIn(slots.stream().map(ReplySlot::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(Comment::getParentId));
+        for (CommentDTO root : roots) {
+            List<Comment> shown = replies.getOrDefault(root.getId(), List.of());
+            long count = counts.getOrDefault(root.getId(), 0L);
+            root.setReplies(shown.stream().map(reply -> convertToCommentDto(reply, reply.getUser())).toList());
+            root.setReplyCount(count);
+            if (count > shown.size()) {
+                root.setRepliesCursor(encodePosition(shown.get(shown.size() - 1)));
+            }
+        }
     }
 
-    private void notifyBoardMembersAboutDeletedComment(Card card, User deleter) {
-        Board board = card.getList().getBoard();
-        String message = createDeletedCommentMessage(deleter, card, board);
-        notifyAllBoardMembersExceptCurrentUser(board, message);
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 
-    private void notifyAllBoardMembersExceptCurrentUser(Board board, String message) {
-        Long currentUserId = authService.getCurrentUserId();
-        
-        board.getMembers().stream()
-            .filter(member -> !member.getUser().getId().equals(currentUserId))
-            .forEach(member -> 
-                notificationService.sendNotification(member.getUser(), message)
-            );
+    private static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Position(FIRST_PAGE, Long.MIN_VALUE);
+        }
+        String[] position = decodeCursor(cursor).split(",", 2);
+        try {
+            return new Position(LocalDateTime.parse(position[0]), Long.valueOf(position[1]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String encodePosition(Comment comment) {
+        return encodeCursor(comment.getCreatedAt() + "," + comment.getId());
+    }
+
+    private static String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private void audit(AuditEventType type, User actor, Card card) {
+        auditService.record(AuditEvent.of(type, actor.getId(), card.getList().getBoard().getId(),
+            card.getList().getId(), card.getId(), card.getTitle()));
     }
 
-    private String createNewCommentMessage(User user, Card card, Board board) {
-        return String.format("%s added a new comment on card: %s in board: %s", 
-            user.getUsername(), card.getTitle(), board.getName());
+    private void notifyWatchersAboutNewComment(Card card, User commenter, Set<Long> mentionedUserIds) {
+        Board board = card.getList().getBoard();
+        notificationService.sendNotification(watcherService.getRecipients(card, mentionedUserIds, commenter.getId()),
+            NotificationEvent.of(NotificationType.COMMENT_ADDED, commenter, board, card.getId(), card.getTitle()));
     }
 
-    private String createDeletedCommentMessage(User user, Card card, Board board) {
-        return String.format("%s deleted a comment from card: %s in board: %s", 
-            user.getUsername(), card.getTitle(), board.getName());
+    private void notifyWatchersAboutDeletedComment(Card card, User deleter) {
+        Board board = card.getList().getBoard();
+        notificationService.sendNotification(watcherService.getRecipients(card, Set.of(), deleter.getId()),
+            NotificationEvent.of(NotificationType.COMMENT_DELETED, deleter, board, card.getId(), card.getTitle()));
     }
 
     private User findUserByUsername(String username) {
@@ -145,6 +307,7 @@ public class CommentServiceImpl implements CommentService {
 
     private Board findBoardById(Long boardId) {
         return boardRepository.findById(boardId)
+                .filter(board -> board.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
     }
 
@@ -152,4 +315,6 @@ public class CommentServiceImpl implements CommentService {
         Long currentUserId = authService.getCurrentUserId();
         return findUserById(currentUserId);
     }
+
+    private record Position(LocalDateTime time, Long id) {}
 }
\ No newline at end of file
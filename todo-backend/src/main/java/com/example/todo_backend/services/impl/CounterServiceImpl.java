@@ -0,0 +1,105 @@
+package com.example.todo_backend.services.impl;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.todo_backend.cache.EntityCacheEvictor;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.services.CounterService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterServiceImpl implements CounterService {
+
+    private final ListEntityRepository listRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final EntityCacheEvictor cacheEvictor;
+
+    @Override
+    public void cardAdded(ListEntity list) {
+        adjust(list, 1, 0);
+    }
+
+    @Override
+    public void cardRestored(ListEntity list, int comments) {
+        adjust(list, 1, comments);
+    }
+
+    @Override
+    public void cardRemoved(Card card) {
+        adjust(card.getList(), -1, -countComments(card));
+    }
+
+    @Override
+    public void cardMoved(Card card, ListEntity from, ListEntity to) {
+        int comments = countComments(card);
+        adjust(from, -1, -comments);
+        adjust(to, 1, comments);
+    }
+
+    @Override
+    public void commentAdded(Card card) {
+        adjust(card.getList(), 0, 1);
+    }
+
+    @Override
+    public void commentRemoved(Card card) {
+        adjust(card.getList(), 0, -1);
+    }
+
+    @Override
+    public void listRemoved(ListEntity list) {
+        if (list.getBoard() != null) {
+            adjustBoard(list.getBoard().getId(), -list.getCardCount(), -list.getCommentCount());
+        }
+    }
+
+    /** The restored list's own counters are written with its insert; only the board's need adjusting. */
+    @Override
+    public void listRestored(ListEntity list) {
+        if (list.getBoard() != null) {
+            adjustBoard(list.getBoard().getId(), list.getCardCount(), list.getCommentCount());
+        }
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${todo.counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcileCounters() {
+        int lists = listRepository.reconcileCounters();
+        int boards = boardRepository.reconcileCounters();
+        cacheEvictor.evictAll(ListEntity.class);
+        cacheEvictor.evictAll(Board.class);
+        if (lists > 0 || boards > 0) {
+            log.info("Counter reconciliation fixed {} lists and {} boards", lists, boards);
+        }
+    }
+
+    private void adjust(ListEntity list, int cards, int comments) {
+        listRepository.adjustCounters(list.getId(), cards, comments);
+        cacheEvictor.evictAfterCompletion(ListEntity.class, list.getId());
+        if (list.getBoard() != null) {
+            adjustBoard(list.getBoard().getId(), cards, comments);
+        }
+    }
+
+    private void adjustBoard(Long boardId, int cards, int comments) {
+        boardRepository.adjustCounters(boardId, cards, comments);
+        cacheEvictor.evictAfterCompletion(Board.class, boardId);
+    }
+
+    private int countComments(Card card) {
+        return Math.toIntExact(commentRepository.countByCardId(card.getId()));
+    }
+}
@@ -6,18 +6,28 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.example.todo_backend.dtos.ListDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
 import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
 import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.ListMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.ListService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +42,10 @@ public class ListServiceImpl implements ListService {
     private final UserRepository userRepository;
     private final AuthService authService;
     private final NotificationService notificationService;
+    private final CounterService counterService;
+    private final BoardChangeService boardChangeService;
+    private final AuditService auditService;
+    private final UndoService undoService;
 
     @Override
     @Transactional
@@ -39,6 +53,9 @@ public class ListServiceImpl implements ListService {
         Board board = findBoardById(listDto.getBoardId());
         ListEntity newList = createNewList(listDto, board);
         ListEntity savedList = listRepository.save(newList);
+        boardChangeService.recordUpsert(board.getId(), BoardChangeType.LIST, savedList.getId());
+        audit(AuditEventType.LIST_CREATED, savedList);
+        undoService.listCreated(authService.getCurrentUserId(), savedList);
         
         notifyBoardMembersAboutNewList(board, savedList);
         
@@ -59,6 +76,12 @@ public class ListServiceImpl implements ListService {
         Board board = list.getBoard();
         
         notifyBoardMembersAboutDeletedList(board, list);
+        counterService.listRemoved(list);
+        boardChangeService.recordRemovals(board.getId(), BoardChangeType.CARD,
+                list.getCards().stream().map(Card::getId).toList());
+        boardChangeService.recordRemoval(board.getId(), BoardChangeType.LIST, listId);
+        audit(AuditEventType.LIST_DELETED, list);
+        undoService.listDeleted(authService.getCurrentUserId(), list);
         listRepository.delete(list);
     }
 
@@ -66,9 +89,15 @@ public class ListServiceImpl implements ListService {
     @Transactional
     public ListDTO updateList(ListDTO listDto) {
         ListEntity list = findListById(listDto.getId());
+        OptimisticLocking.checkVersion("List", list.getId(), list.getVersion(), listDto.getVersion());
+        String previousName = list.getName();
+        String previousColor = list.getColor();
         updateListProperties(list, listDto);
         
-        ListEntity updatedList = listRepository.save(list);
+        ListEntity updatedList = OptimisticLocking.saveAndFlush(listRepository, list, "List", list.getId());
+        boardChangeService.recordUpsert(list.getBoard().getId(), BoardChangeType.LIST, list.getId());
+        audit(AuditEventType.LIST_UPDATED, list);
+        undoService.listUpdated(authService.getCurrentUserId(), list, previousName, previousColor);
         return listMapper.toDto(updatedList);
     }
 
@@ -85,42 +114,36 @@ public class ListServiceImpl implements ListService {
         list.setColor(listDto.getColor());
     }
 
+    private void audit(AuditEventType type, ListEntity list) {
+        auditService.record(AuditEvent.of(type, authService.getCurrentUserId(), list.getBoard().getId(),
+            list.getId(), null, list.getName()));
+    }
+
     private void notifyBoardMembersAboutNewList(Board board, ListEntity newList) {
         User currentUser = getCurrentUser();
-        String notificationMessage = createNewListNotificationMessage(currentUser, newList, board);
-        
-        notifyAllBoardMembersExceptCurrentUser(board, notificationMessage);
+        notifyAllBoardMembersExceptCurrentUser(board,
+            NotificationEvent.of(NotificationType.LIST_CREATED, currentUser, board, newList.getId(), newList.getName()));
     }
 
     private void notifyBoardMembersAboutDeletedList(Board board, ListEntity deletedList) {
         User currentUser = getCurrentUser();
-        String notificationMessage = createDeletedListNotificationMessage(currentUser, deletedList, board);
-        
-        notifyAllBoardMembersExceptCurrentUser(board, notificationMessage);
+        notifyAllBoardMembersExceptCurrentUser(board,
+            NotificationEvent.of(NotificationType.LIST_DELETED, currentUser, board, deletedList.getId(), deletedList.getName()));
     }
 
-    private void notifyAllBoardMembersExceptCurrentUser(Board board, String message) {
+    private void notifyAllBoardMembersExceptCurrentUser(Board board, NotificationEvent event) {
         Long currentUserId = authService.getCurrentUserId();
-        
-        board.getMembers().stream()
-            .filter(member -> !member.getUser().getId().equals(currentUserId))
-            .forEach(member -> 
-                notificationService.sendNotification(member.getUser(), message)
-            );
-    }
-
-    private String createNewListNotificationMessage(User user, ListEntity list, Board board) {
-        return String.format("%s created new list: %s in board: %s", 
-            user.getUsername(), list.getName(), board.getName());
-    }
+        List<User> recipients = board.getMembers().stream()
+            .map(BoardMember::getUser)
+            .filter(user -> !user.getId().equals(currentUserId))
+            .toList();
 
-    private String createDeletedListNotificationMessage(User user, ListEntity list, Board board) {
-        return String.format("%s deleted list: %s from board: %s", 
-            user.getUsername(), list.getName(), board.getName());
+        notificationService.sendNotification(recipients, event);
     }
 
     private Board findBoardById(Long boardId) {
         return boardRepository.findById(boardId)
+                .filter(board -> board.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Board", "id", boardId));
     }
 
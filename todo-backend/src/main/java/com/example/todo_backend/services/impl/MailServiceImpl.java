@@ -0,0 +1,208 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo_backend.services.MailService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queues mail in memory and delivers it from a fixed number of workers, so
+ * callers never wait on SMTP. Each worker takes whatever has accumulated, up
+ * to the batch size, and sends it over a single SMTP connection. Messages the
+ * server did not accept are retried with exponential backoff until the
+ * attempt limit; messages queued inside a transaction are only queued after
+ * it commits. The queue is bounded and is not persisted: mail still queued
+ * when the node stops is lost.
+ */
+@Slf4j
+@Service
+public class MailServiceImpl implements MailService, SmartLifecycle {
+
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private volatile BlockingQueue<PendingMail> queue = new LinkedBlockingQueue<>(1);
+    private volatile boolean running;
+
+    @Value("${todo.mail.workers:2}")
+    private int workers = 2;
+
+    @Value("${todo.mail.queue-capacity:1000}")
+    private int queueCapacity = 1000;
+
+    @Value("${todo.mail.batch-size:20}")
+    private int batchSize = 20;
+
+    @Value("${todo.mail.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${todo.mail.initial-backoff:2s}")
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    @Value("${todo.mail.max-backoff:5m}")
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public MailServiceImpl(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.sentCounter = meterRegistry.counter("todo.mail.sent");
+        this.retriedCounter = meterRegistry.counter("todo.mail.retried");
+        this.failedCounter = meterRegistry.counter("todo.mail.failed");
+        this.rejectedCounter = meterRegistry.counter("todo.mail.rejected");
+        Gauge.builder("todo.mail.queued", this, service -> service.queue.size())
+                .description("Mails waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        scheduler.setPoolSize(workers + 1);
+        scheduler.setThreadNamePrefix("mail-");
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.initialize();
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            scheduler.execute(this::work);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        if (!queue.isEmpty()) {
+            log.warn("{} queued mails were not sent before shutdown", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void send(SimpleMailMessage message) {
+        PendingMail mail = new PendingMail(message, 0);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(mail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(mail);
+            }
+        });
+    }
+
+    private void enqueue(PendingMail mail) {
+        if (!running || !queue.offer(mail)) {
+            rejectedCounter.increment();
+            log.warn("Mail queue is {}, dropping mail to {}", running ? "full" : "not running",
+                    Arrays.toString(mail.message().getTo()));
+        }
+    }
+
+    private void work() {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Mail worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<PendingMail> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(PendingMail::message).toArray(SimpleMailMessage[]::new);
+        try {
+            mailSender.send(messages);
+            sentCounter.increment(batch.size());
+        } catch (MailParseException | MailPreparationException e) {
+            log.error("Dropping {} mails that could not be prepared: {}", batch.size(), e.getMessage());
+            failedCounter.increment(batch.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (PendingMail mail : batch) {
+                if (failed.isEmpty() || failed.containsKey(mail.message())) {
+                    retry(mail, e);
+                } else {
+                    sentCounter.increment();
+                }
+            }
+        } catch (MailException e) {
+            batch.forEach(mail -> retry(mail, e));
+        }
+    }
+
+    private void retry(PendingMail mail, MailException cause) {
+        int attempts = mail.attempts() + 1;
+        if (!running) {
+            failedCounter.increment();
+            log.warn("Not retrying mail to {} during shutdown: {}",
+                    Arrays.toString(mail.message().getTo()), cause.getMessage());
+            return;
+        }
+        if (attempts >= maxAttempts) {
+            failedCounter.increment();
+            log.error("Giving up on mail to {} after {} attempts: {}",
+                    Arrays.toString(mail.message().getTo()), attempts, cause.getMessage());
+            return;
+        }
+        retriedCounter.increment();
+        Duration delay = backoff(attempts);
+        log.warn("Mail delivery failed, retrying in {}: {}", delay, cause.getMessage());
+        scheduler.schedule(() -> enqueue(new PendingMail(mail.message(), attempts)), Instant.now().plus(delay));
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private record PendingMail(SimpleMailMessage message, int attempts) {
+    }
+}
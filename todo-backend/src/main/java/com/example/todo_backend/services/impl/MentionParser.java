@@ -0,0 +1,39 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the {@code @username} mentions in a comment. A mention starts at an
+ * {@code @} that does not follow a word character, so e-mail addresses are
+ * not mistaken for one, and trailing dots are taken as punctuation.
+ * Usernames are returned lower-cased, at most {@value #MAX_MENTIONS} per
+ * comment.
+ */
+final class MentionParser {
+
+    static final int MAX_MENTIONS = 20;
+
+    private static final Pattern MENTION = Pattern.compile("(?<![\\w@.])@([\\w.-]{1,50})");
+
+    private MentionParser() {
+    }
+
+    static Set<String> usernames(String content) {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (content == null || content.indexOf('@') < 0) {
+            return usernames;
+        }
+        Matcher matcher = MENTION.matcher(content);
+        while (matcher.find() && usernames.size() < MAX_MENTIONS) {
+            String username = matcher.group(1).replaceAll("\\.+$", "");
+            if (!username.isEmpty()) {
+                usernames.add(username.toLowerCase(Locale.ROOT));
+            }
+        }
+        return usernames;
+    }
+}
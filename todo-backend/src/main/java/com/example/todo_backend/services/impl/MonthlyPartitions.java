@@ -0,0 +1,120 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL range partitioning of one table by month on {@code created_at}.
+ * Partitions are named {@code <table>_pYYYYMM}; rows outside every month land
+ * in {@code <table>_default}. On any other database every check reports the
+ * table as unpartitioned and nothing is changed.
+ */
+@Slf4j
+final class MonthlyPartitions {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final Pattern partitionName;
+
+    MonthlyPartitions(JdbcTemplate jdbcTemplate, String table) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.partitionName = Pattern.compile(Pattern.quote(table) + "_p(\\d{6})");
+    }
+
+    /**
+     * Replaces the table with a partitioned copy holding the same rows. The
+     * primary key becomes {@code (id, created_at)}, as PostgreSQL requires the
+     * partition key in it; {@code constraints} and {@code indexes} are run
+     * before and after the copy.
+     */
+    void convert(int monthsAhead, List<String> constraints, List<String> indexes) {
+        String legacy = table + "_unpartitioned";
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy + " INCLUDING DEFAULTS) "
+                + "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD PRIMARY KEY (id, created_at)");
+        constraints.forEach(jdbcTemplate::execute);
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + legacy, LocalDateTime.class);
+        ensure(oldest == null ? YearMonth.now() : YearMonth.from(oldest), monthsAhead);
+        jdbcTemplate.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+
+        jdbcTemplate.execute("INSERT INTO " + table + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        indexes.forEach(jdbcTemplate::execute);
+        log.info("Converted {} to a table partitioned by month on created_at", table);
+    }
+
+    /** Creates the partitions from {@code from} up to {@code monthsAhead} months from now. */
+    void ensure(YearMonth from, int monthsAhead) {
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = from; !month.isAfter(last); month = month.plusMonths(1)) {
+            LocalDate start = month.atDay(1);
+            LocalDate end = month.plusMonths(1).atDay(1);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name(table, month)
+                        + " PARTITION OF " + table
+                        + " FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+            } catch (RuntimeException e) {
+                log.warn("Could not create {} partition for {}: {}", table, month, e.getMessage());
+            }
+        }
+    }
+
+    /** Detaches and drops every month that ended before {@code cutoff}; returns the dropped partitions. */
+    List<String> dropBefore(LocalDateTime cutoff) {
+        List<String> dropped = new ArrayList<>();
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = '" + table + "'::regclass", String.class);
+        for (String partition : partitions) {
+            Matcher matcher = partitionName.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), PARTITION_SUFFIX);
+            if (month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped expired {} partition {}", table, partition);
+            dropped.add(partition);
+        }
+        return dropped;
+    }
+
+    boolean isPartitioned() {
+        if (!isPostgres()) {
+            return false;
+        }
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass('" + table + "')", String.class);
+        return kinds.contains("p");
+    }
+
+    boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("postgres");
+    }
+
+    static String name(String table, YearMonth month) {
+        return table + "_p" + month.format(PARTITION_SUFFIX);
+    }
+}
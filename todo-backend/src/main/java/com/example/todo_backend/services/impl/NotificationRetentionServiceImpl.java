@@ -0,0 +1,158 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.repositories.NotificationEventRepository;
+import com.example.todo_backend.repositories.NotificationRepository;
+import com.example.todo_backend.services.NotificationRetentionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes expired notifications in small chunks, each in its own short
+ * transaction, so row locks are never held for long. On PostgreSQL the table
+ * can optionally be range-partitioned by month on {@code created_at}; whole
+ * months older than both TTLs are then detached and dropped instead of being
+ * deleted row by row. Notification events no longer referenced by any
+ * notification are removed the same way.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final String TABLE = "notifications";
+    private static final int MAX_CHUNKS_PER_RUN = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationEventRepository notificationEventRepository;
+    private final MonthlyPartitions partitions;
+    private final TransactionTemplate chunkTransaction;
+
+    @Value("${todo.notifications.retention.enabled:true}")
+    private boolean retentionEnabled = true;
+
+    @Value("${todo.notifications.retention.seen-ttl:30d}")
+    private Duration seenTtl = Duration.ofDays(30);
+
+    @Value("${todo.notifications.retention.unseen-ttl:90d}")
+    private Duration unseenTtl = Duration.ofDays(90);
+
+    @Value("${todo.notifications.retention.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${todo.notifications.retention.chunk-pause:100ms}")
+    private Duration chunkPause = Duration.ofMillis(100);
+
+    @Value("${todo.notifications.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+
+    @Value("${todo.notifications.partitioning.months-ahead:2}")
+    private int monthsAhead = 2;
+
+    public NotificationRetentionServiceImpl(NotificationRepository notificationRepository,
+                                            NotificationEventRepository notificationEventRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.notificationEventRepository = notificationEventRepository;
+        this.partitions = new MonthlyPartitions(jdbcTemplate, TABLE);
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Scheduled(cron = "${todo.notifications.retention.cron:0 0 * * * *}")
+    public int purgeExpired() {
+        if (!retentionEnabled) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (isPartitioned()) {
+            partitions.ensure(YearMonth.from(now), monthsAhead);
+            partitions.dropBefore(now.minus(longestTtl()));
+        }
+
+        LocalDateTime seenCutoff = now.minus(seenTtl);
+        LocalDateTime unseenCutoff = now.minus(unseenTtl);
+        int total = deleteInChunks(() -> notificationRepository.deleteExpiredChunk(seenCutoff, unseenCutoff, chunkSize));
+        if (total > 0) {
+            log.info("Notification retention removed {} rows", total);
+        }
+        LocalDateTime eventCutoff = now.minus(shortestTtl());
+        int events = deleteInChunks(() -> notificationEventRepository.deleteOrphanedChunk(eventCutoff, chunkSize));
+        if (events > 0) {
+            log.info("Notification retention removed {} orphaned events", events);
+        }
+        return total;
+    }
+
+    private int deleteInChunks(IntSupplier deleteChunk) {
+        int total = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            Integer deleted = chunkTransaction.execute(status -> deleteChunk.getAsInt());
+            int count = deleted == null ? 0 : deleted;
+            total += count;
+            if (count < chunkSize || !pauseBetweenChunks()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void preparePartitions() {
+        if (!partitioningEnabled || !partitions.isPostgres()) {
+            return;
+        }
+        if (!partitions.isPartitioned()) {
+            chunkTransaction.executeWithoutResult(status -> partitions.convert(monthsAhead,
+                    List.of("ALTER TABLE " + TABLE + " ADD FOREIGN KEY (user_id) REFERENCES users (id)",
+                            "ALTER TABLE " + TABLE + " ADD FOREIGN KEY (event_id) REFERENCES notification_events (id)"),
+                    List.of("CREATE INDEX idx_notifications_user ON " + TABLE + " (user_id, created_at)",
+                            "CREATE INDEX idx_notifications_created_at ON " + TABLE + " (created_at)",
+                            "CREATE INDEX idx_notifications_event ON " + TABLE + " (event_id)")));
+        }
+        partitions.ensure(YearMonth.now(), monthsAhead);
+    }
+
+    private boolean isPartitioned() {
+        return partitioningEnabled && partitions.isPartitioned();
+    }
+
+    private Duration longestTtl() {
+        return seenTtl.compareTo(unseenTtl) > 0 ? seenTtl : unseenTtl;
+    }
+
+    private Duration shortestTtl() {
+        return seenTtl.compareTo(unseenTtl) < 0 ? seenTtl : unseenTtl;
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return MonthlyPartitions.name(TABLE, month);
+    }
+}
@@ -1,46 +1,103 @@
 package com.example.todo_backend.services.impl;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.todo_backend.dtos.NotificationDTO;
 import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.mappers.NotificationMapper;
+import com.example.todo_backend.mappers.NotificationRenderer;
+import com.example.todo_backend.repositories.NotificationEventRepository;
 import com.example.todo_backend.repositories.NotificationRepository;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.OutboxService;
+import com.example.todo_backend.websocket.TopicBatcher;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService{
+    private static final String NOTIFICATION_QUEUE = "/queue/notifications";
+
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationEventRepository notificationEventRepository;
+    private final OutboxService outboxService;
+    private final NotificationRenderer notificationRenderer;
     private final NotificationMapper notificationMapper;
+    private final TopicBatcher topicBatcher;
+    private final JsonMapper jsonMapper;
+
+    @Value("${todo.notifications.coalesce-window:60s}")
+    private Duration coalesceWindow = Duration.ofSeconds(60);
 
+    /**
+     * Stores the event once and gives each recipient a row that references it.
+     * An event on a board is also published to the board's topic for live
+     * viewers, even when nobody is notified personally; the retention job later
+     * removes events that no row references. Board activity is coalesced per
+     * recipient and board: while a recipient has an unseen notification for the
+     * board younger than the coalesce window, the event folds into it as a
+     * digest instead of adding a row. The first event is pushed right away;
+     * later ones replace a push still pending or schedule one digest push for
+     * the end of the window.
+     */
     @Override
     @Transactional
-    public void sendNotification(User user, String message) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setMessage(message);
-        notificationRepository.save(notification);
-        messagingTemplate.convertAndSend("/topic/notifications/" + user.getId(), message);
+    public void sendNotification(List<User> recipients, NotificationEvent event) {
+        if (recipients.isEmpty() && event.getBoardId() == null) {
+            return;
+        }
+        NotificationEvent savedEvent = notificationEventRepository.save(event);
+        if (savedEvent.getBoardId() != null) {
+            topicBatcher.publish("/topic/boards/" + savedEvent.getBoardId() + "/events",
+                    notificationMapper.toBoardEvent(savedEvent));
+        }
+        if (recipients.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Notification> openDigests = savedEvent.getType().isCoalescible() && savedEvent.getBoardId() != null
+                ? findOpenDigests(savedEvent.getBoardId(), recipients, now)
+                : Map.of();
+
+        List<Notification> created = new ArrayList<>();
+        List<Notification> merged = new ArrayList<>();
+        for (User recipient : recipients) {
+            Notification digest = openDigests.get(recipient.getId());
+            if (digest == null) {
+                created.add(createNotification(recipient, savedEvent));
+            } else {
+                merge(digest, savedEvent);
+                merged.add(digest);
+            }
+        }
+        List<Notification> saved = notificationRepository.saveAll(created);
+        Iterator<NotificationDTO> createdPayloads = notificationRenderer.render(saved).iterator();
+        saved.forEach(notification -> push(notification, createdPayloads.next(), now));
+        Iterator<NotificationDTO> mergedPayloads = notificationRenderer.render(merged).iterator();
+        merged.forEach(digest -> pushDigest(digest, mergedPayloads.next()));
     }
 
     @Override
     @Transactional
     public List<NotificationDTO> getUserNotifications(Long userId) {
-        return notificationRepository.findByUserId(userId)
-                .stream()
-                .map(notificationMapper::toDTO)
-                .toList();
+        return notificationRenderer.render(notificationRepository.findByUserId(userId));
     }
-    
+
     @Override
     @Transactional
     public void markAsRead(Long id) {
@@ -49,4 +106,49 @@ public class NotificationServiceImpl implements NotificationService{
         notif.setSeen(true);
         notificationRepository.save(notif);
     }
+
+    private Map<Long, Notification> findOpenDigests(Long boardId, List<User> recipients, LocalDateTime now) {
+        if (coalesceWindow.isZero() || coalesceWindow.isNegative()) {
+            return Map.of();
+        }
+        List<Long> recipientIds = recipients.stream().map(User::getId).toList();
+        return notificationRepository.findOpenDigests(boardId, recipientIds, now.minus(coalesceWindow))
+                .stream()
+                .collect(Collectors.toMap(notification -> notification.getUser().getId(),
+                        notification -> notification, (older, newer) -> newer));
+    }
+
+    private Notification createNotification(User recipient, NotificationEvent event) {
+        Notification notification = new Notification();
+        notification.setUser(recipient);
+        notification.setEvent(event);
+        return notification;
+    }
+
+    private void merge(Notification digest, NotificationEvent event) {
+        NotificationEvent previous = digest.getEvent();
+        digest.setEventCount(digest.getEventCount() + 1);
+        if (previous.getType() != event.getType()) {
+            digest.setSeveralTypes(true);
+        }
+        if (!Objects.equals(previous.getActorId(), event.getActorId())) {
+            digest.setSeveralActors(true);
+        }
+        digest.setEvent(event);
+    }
+
+    private void pushDigest(Notification digest, NotificationDTO payload) {
+        String json = jsonMapper.writeValueAsString(payload);
+        if (digest.getPendingOutboxId() != null && outboxService.replacePending(digest.getPendingOutboxId(), json)) {
+            return;
+        }
+        push(digest, payload, digest.getCreatedAt().plus(coalesceWindow));
+    }
+
+    private void push(Notification notification, NotificationDTO payload, LocalDateTime availableAt) {
+        Long userId = notification.getUser().getId();
+        Long outboxId = outboxService.enqueue(NOTIFICATION_QUEUE, userId,
+                jsonMapper.writeValueAsString(payload), availableAt);
+        notification.setPendingOutboxId(outboxId);
+    }
 }
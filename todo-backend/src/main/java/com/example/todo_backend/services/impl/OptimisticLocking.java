@@ -0,0 +1,37 @@
+package com.example.todo_backend.services.impl;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+
+/**
+ * Version checks shared by the update paths of versioned entities. A client
+ * that sends the version it last saw gets a {@link PreconditionFailedException}
+ * instead of silently overwriting a newer edit; a client that sends none keeps
+ * last-write-wins behaviour.
+ */
+final class OptimisticLocking {
+
+    private OptimisticLocking() {
+    }
+
+    static void checkVersion(String resource, Long id, long current, Long expected) {
+        if (expected != null && expected != current) {
+            throw stale(resource, id);
+        }
+    }
+
+    /** Flushes now so a concurrent edit that slipped in after the check fails here, not at commit. */
+    static <T> T saveAndFlush(JpaRepository<T, Long> repository, T entity, String resource, Long id) {
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw stale(resource, id);
+        }
+    }
+
+    static PreconditionFailedException stale(String resource, Long id) {
+        return new PreconditionFailedException(resource + " " + id + " was modified by someone else; reload and try again");
+    }
+}
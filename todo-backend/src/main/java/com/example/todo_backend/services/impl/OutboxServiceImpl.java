@@ -0,0 +1,66 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo_backend.entities.OutboxMessage;
+import com.example.todo_backend.outbox.OutboxRelay;
+import com.example.todo_backend.repositories.OutboxMessageRepository;
+import com.example.todo_backend.services.OutboxService;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxRelay outboxRelay;
+
+    @Override
+    @Transactional
+    public Long enqueue(String destination, Long recipientId, String payload) {
+        return enqueue(destination, recipientId, payload, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public Long enqueue(String destination, Long recipientId, String payload, LocalDateTime availableAt) {
+        OutboxMessage message = new OutboxMessage();
+        message.setDedupId(UUID.randomUUID().toString());
+        message.setDestination(destination);
+        message.setRecipientId(recipientId);
+        message.setPayload(payload);
+        message.setAvailableAt(availableAt);
+        OutboxMessage saved = outboxMessageRepository.save(message);
+
+        if (!availableAt.isAfter(LocalDateTime.now())) {
+            wakeUpRelayAfterCommit();
+        }
+        return saved.getId();
+    }
+
+    @Override
+    @Transactional
+    public boolean replacePending(Long messageId, String payload) {
+        return outboxMessageRepository.updatePendingPayload(messageId, payload) > 0;
+    }
+
+    private void wakeUpRelayAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRelay.wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+}
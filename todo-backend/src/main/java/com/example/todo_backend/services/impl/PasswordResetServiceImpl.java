@@ -1,38 +1,52 @@
 package com.example.todo_backend.services.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.todo_backend.entities.PasswordResetToken;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.PasswordResetTokenRepository;
 import com.example.todo_backend.repositories.UserRepository;
-import com.example.todo_backend.services.CommentService;
+import com.example.todo_backend.services.MailService;
 import com.example.todo_backend.services.PasswordResetService;
 
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 
 public class PasswordResetServiceImpl implements PasswordResetService {
     @Autowired private UserRepository userRepository;
-    @Autowired private JavaMailSender mailSender;
+    @Autowired private PasswordResetTokenRepository passwordResetTokenRepository;
+    @Autowired private MailService mailService;
     @Autowired private PasswordEncoder passwordEncoder;
 
+    @Value("${todo.password-reset.token-ttl:30m}")
+    private Duration tokenTtl = Duration.ofMinutes(30);
+
     @Override
     @Transactional
     public void createPasswordResetToken(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByEmail(User.normalizeEmail(email))
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         String token = UUID.randomUUID().toString();
-        user.setResetToken(token);
-        user.setTokenExpiryDate(LocalDateTime.now().plusMinutes(30));
-        userRepository.save(user);
+        passwordResetTokenRepository.deleteByUserId(user.getId());
+        passwordResetTokenRepository.save(
+                new PasswordResetToken(null, hash(token), user, LocalDateTime.now().plus(tokenTtl)));
 
         String resetUrl = "http://localhost:4200/reset-password?token=" + token; 
         sendEmail(user.getEmail(), resetUrl);
@@ -41,29 +55,46 @@ public class PasswordResetServiceImpl implements PasswordResetService {
     @Override
     @Transactional
     public void resetPassword(String token, String newPassword) {
-        User user = userRepository.findByResetToken(token)
+        PasswordResetToken resetToken = passwordResetTokenRepository.findByTokenHash(hash(token))
                 .orElseThrow(() -> new RuntimeException("Invalid Token"));
 
-        if (user.getTokenExpiryDate().isBefore(LocalDateTime.now())) {
+        if (resetToken.getExpiresAt().isBefore(LocalDateTime.now())) {
             throw new RuntimeException("Token expired");
         }
 
+        User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
-        user.setResetToken(null);
-        user.setTokenExpiryDate(null);
         userRepository.save(user);
+        passwordResetTokenRepository.deleteByUserId(user.getId());
     }
    
     @Override
-    @Transactional
     public void sendEmail(String to, String resetUrl) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject("Password Reset Request");
         message.setText("Click the link to reset your password: " + resetUrl);
-        mailSender.send(message);
+        mailService.send(message);
     }
 
+    @Override
+    @Transactional
+    @Scheduled(cron = "${todo.password-reset.sweep-cron:0 15 * * * *}")
+    public int purgeExpiredTokens() {
+        int purged = passwordResetTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Removed {} expired password reset tokens", purged);
+        }
+        return purged;
+    }
 
-    
+    /** Tokens are stored as their SHA-256 hash; the raw token only ever exists in the reset link. */
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.todo_backend.dtos.BoardViewerDTO;
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
+import com.example.todo_backend.repositories.BoardMemberRepository;
+import com.example.todo_backend.services.PresenceService;
+import com.example.todo_backend.websocket.WebSocketSessionRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PresenceServiceImpl implements PresenceService {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final BoardMemberRepository boardMemberRepository;
+
+    @Override
+    public List<BoardViewerDTO> getBoardViewers(Long boardId, Long userId) {
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new ResourceNotFoundException("Board", "id", boardId);
+        }
+        return sessionRegistry.getBoardViewers(boardId).stream()
+                .map(viewer -> new BoardViewerDTO(viewer.userId(), viewer.username()))
+                .toList();
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.ActivityRepository;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.BoardMemberRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentMentionRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.repositories.NotificationRepository;
+import com.example.todo_backend.repositories.PasswordResetTokenRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.PurgeService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes what hangs off soft-deleted boards and users. Rows go in set-based
+ * chunks of {@code todo.purge.chunk-size}, each in its own short transaction,
+ * deepest tables first, so no statement locks more than one chunk and a purge
+ * interrupted at any point simply resumes on the next run. A run stops after
+ * {@value #MAX_CHUNKS_PER_RUN} chunks.
+ *
+ * A board row is deleted once it has nothing left under it; the files of its
+ * attachments go with the attachment store's own sweep. A user row is
+ * deleted once its memberships, mentions, notifications and participations are gone,
+ * unless comments or organised activities still point at it; then it stays as
+ * an anonymous account and is marked purged.
+ */
+@Slf4j
+@Service
+public class PurgeServiceImpl implements PurgeService {
+
+    private static final int MAX_CHUNKS_PER_RUN = 1000;
+
+    private final BoardRepository boardRepository;
+    private final ListEntityRepository listRepository;
+    private final CardRepository cardRepository;
+    private final CommentRepository commentRepository;
+    private final CommentMentionRepository commentMentionRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final CardMemberRepository cardMemberRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final UserRepository userRepository;
+    private final NotificationRepository notificationRepository;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final ActivityRepository activityRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> deletedCounters = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBoards = new AtomicLong();
+    private final AtomicLong pendingUsers = new AtomicLong();
+
+    @Value("${todo.purge.enabled:true}")
+    private boolean purgeEnabled = true;
+
+    @Value("${todo.purge.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${todo.purge.chunk-pause:50ms}")
+    private Duration chunkPause = Duration.ofMillis(50);
+
+    public PurgeServiceImpl(BoardRepository boardRepository,
+                            ListEntityRepository listRepository,
+                            CardRepository cardRepository,
+                            CommentRepository commentRepository,
+                            CommentMentionRepository commentMentionRepository,
+                            AttachmentRepository attachmentRepository,
+                            CardMemberRepository cardMemberRepository,
+                            BoardMemberRepository boardMemberRepository,
+                            UserRepository userRepository,
+                            NotificationRepository notificationRepository,
+                            PasswordResetTokenRepository passwordResetTokenRepository,
+                            ActivityRepository activityRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.listRepository = listRepository;
+        this.cardRepository = cardRepository;
+        this.commentRepository = commentRepository;
+        this.commentMentionRepository = commentMentionRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.cardMemberRepository = cardMemberRepository;
+        this.boardMemberRepository = boardMemberRepository;
+        this.userRepository = userRepository;
+        this.notificationRepository = notificationRepository;
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.activityRepository = activityRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("todo.purge.pending", pendingBoards, AtomicLong::get)
+                .description("Deleted boards whose rows are not purged yet")
+                .tag("kind", "board")
+                .register(meterRegistry);
+        Gauge.builder("todo.purge.pending", pendingUsers, AtomicLong::get)
+                .description("Deleted users whose rows are not purged yet")
+                .tag("kind", "user")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(cron = "${todo.purge.cron:0 * * * * *}")
+    public int purgeDeleted() {
+        if (!purgeEnabled) {
+            return 0;
+        }
+        Run run = new Run();
+
+        List<Long> boardIds = boardRepository.findDeletedIds();
+        pendingBoards.set(boardIds.size());
+        for (Long boardId : boardIds) {
+            if (!purgeBoard(boardId, run)) {
+                break;
+            }
+            pendingBoards.decrementAndGet();
+        }
+
+        List<Long> userIds = run.chunksLeft > 0 ? userRepository.findIdsToPurge() : List.of();
+        pendingUsers.set(userIds.size());
+        for (Long userId : userIds) {
+            if (!purgeUser(userId, run)) {
+                break;
+            }
+            pendingUsers.decrementAndGet();
+        }
+
+        if (run.rows > 0) {
+            log.info("Purge removed {} rows, {} boards and {} users still pending",
+                    run.rows, pendingBoards.get(), pendingUsers.get());
+        }
+        return run.rows;
+    }
+
+    private boolean purgeBoard(Long boardId, Run run) {
+        boolean emptied = deleteInChunks(run, "card_members", () -> cardMemberRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "comment_mentions", () -> commentMentionRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "comments", () -> commentRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "attachments", () -> attachmentRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "cards", () -> cardRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "lists", () -> listRepository.deleteChunkByBoardId(boardId, chunkSize))
+                && deleteInChunks(run, "board_members", () -> boardMemberRepository.deleteChunkByBoardId(boardId, chunkSize));
+        if (!emptied) {
+            return false;
+        }
+        chunkTransaction.executeWithoutResult(status -> boardRepository.deleteById(boardId));
+        countDeleted(run, "boards", 1);
+        log.info("Purged deleted board {}", boardId);
+        return true;
+    }
+
+    private boolean purgeUser(Long userId, Run run) {
+        boolean emptied = deleteInChunks(run, "card_members", () -> cardMemberRepository.deleteChunkByUserId(userId, chunkSize))
+                && deleteInChunks(run, "board_members", () -> {
+                    boardRepository.bumpRevisionByMemberId(userId);
+                    return boardMemberRepository.deleteChunkByUserId(userId, chunkSize);
+                })
+                && deleteInChunks(run, "comment_mentions", () -> commentMentionRepository.deleteChunkByUserId(userId, chunkSize))
+                && deleteInChunks(run, "notifications", () -> notificationRepository.deleteChunkByUserId(userId, chunkSize))
+                && deleteInChunks(run, "password_reset_tokens", () -> passwordResetTokenRepository.deleteByUserId(userId))
+                && deleteInChunks(run, "activity_participants", () -> activityRepository.deleteParticipationChunk(userId, chunkSize));
+        if (!emptied) {
+            return false;
+        }
+        Boolean deleted = chunkTransaction.execute(status -> removeUser(userId));
+        if (Boolean.TRUE.equals(deleted)) {
+            countDeleted(run, "users", 1);
+        }
+        log.info("Purged deleted user {}{}", userId, Boolean.TRUE.equals(deleted) ? "" : ", kept as anonymous author");
+        return true;
+    }
+
+    private boolean removeUser(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return false;
+        }
+        if (commentRepository.existsByUserId(userId) || activityRepository.existsByOrganizerId(userId)) {
+            user.setPurgedAt(LocalDateTime.now());
+            return false;
+        }
+        userRepository.delete(user);
+        return true;
+    }
+
+    /** Returns false when the run's chunk budget ran out or it was interrupted before the table was emptied. */
+    private boolean deleteInChunks(Run run, String table, IntSupplier deleteChunk) {
+        while (run.chunksLeft > 0) {
+            run.chunksLeft--;
+            Integer deleted = chunkTransaction.execute(status -> deleteChunk.getAsInt());
+            int count = deleted == null ? 0 : deleted;
+            countDeleted(run, table, count);
+            if (count < chunkSize) {
+                return true;
+            }
+            if (!pauseBetweenChunks()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void countDeleted(Run run, String table, int count) {
+        if (count == 0) {
+            return;
+        }
+        run.rows += count;
+        deletedCounters.computeIfAbsent(table, name -> Counter.builder("todo.purge.deleted")
+                        .description("Rows removed by the purge of deleted boards and users")
+                        .tag("table", name)
+                        .register(meterRegistry))
+                .increment(count);
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (chunkPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class Run {
+        private int chunksLeft = MAX_CHUNKS_PER_RUN;
+        private int rows;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An entry of a user's undo or redo stack: the operation that reverses one
+ * board mutation. Applying an operation yields the operation that reverses
+ * it in turn, which is what lands on the opposite stack. Deleted lists and
+ * cards are held as snapshots, ids included, so they can be recreated as they
+ * were with their cards, card members, comments and attachments. Attachment
+ * snapshots name their blobs by hash and do not keep them alive: the sweep may
+ * remove a blob once its grace period has passed, and restoring leaves out an
+ * attachment whose blob is gone.
+ */
+sealed interface UndoOperation {
+
+    Long boardId();
+
+    String describe();
+
+    record DeleteList(Long boardId, Long listId, String name) implements UndoOperation {
+        public String describe() {
+            return "Delete list " + name;
+        }
+    }
+
+    record RestoreList(Long boardId, ListSnapshot list) implements UndoOperation {
+        public String describe() {
+            return "Restore list " + list.name() + " with " + list.cards().size() + " cards";
+        }
+    }
+
+    record EditList(Long boardId, Long listId, String name, String color) implements UndoOperation {
+        public String describe() {
+            return "Rename list to " + name;
+        }
+    }
+
+    record DeleteCard(Long boardId, Long cardId, String title) implements UndoOperation {
+        public String describe() {
+            return "Delete card " + title;
+        }
+    }
+
+    record RestoreCard(Long boardId, CardSnapshot card) implements UndoOperation {
+        public String describe() {
+            return "Restore card " + card.title();
+        }
+    }
+
+    record EditCard(Long boardId, Long cardId, String title, String description) implements UndoOperation {
+        public String describe() {
+            return "Edit card " + title;
+        }
+    }
+
+    record MoveCard(Long boardId, Long cardId, Long listId, String title) implements UndoOperation {
+        public String describe() {
+            return "Move card " + title + " back";
+        }
+    }
+
+    record RenameBoard(Long boardId, String name) implements UndoOperation {
+        public String describe() {
+            return "Rename board to " + name;
+        }
+    }
+
+    record ListSnapshot(Long id, String name, String color, List<CardSnapshot> cards) {
+    }
+
+    record CardSnapshot(Long id, Long listId, String title, String tag, String description,
+                        List<MemberSnapshot> members, List<CommentSnapshot> comments,
+                        List<AttachmentSnapshot> attachments) {
+    }
+
+    record MemberSnapshot(Long id, Long userId) {
+    }
+
+    record CommentSnapshot(Long id, Long userId, Long parentId, String content, LocalDateTime createdAt) {
+    }
+
+    record AttachmentSnapshot(Long id, Long uploadedBy, String fileName, String contentType, long size,
+                              String contentHash, String thumbnailHash, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,599 @@
+package com.example.todo_backend.services.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.todo_backend.dtos.UndoStateDTO;
+import com.example.todo_backend.entities.Attachment;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
+import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.ConflictException;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
+import com.example.todo_backend.services.UndoService;
+import com.example.todo_backend.services.WatcherService;
+import com.example.todo_backend.services.impl.UndoOperation.AttachmentSnapshot;
+import com.example.todo_backend.services.impl.UndoOperation.CardSnapshot;
+import com.example.todo_backend.services.impl.UndoOperation.CommentSnapshot;
+import com.example.todo_backend.services.impl.UndoOperation.DeleteCard;
+import com.example.todo_backend.services.impl.UndoOperation.DeleteList;
+import com.example.todo_backend.services.impl.UndoOperation.EditCard;
+import com.example.todo_backend.services.impl.UndoOperation.EditList;
+import com.example.todo_backend.services.impl.UndoOperation.ListSnapshot;
+import com.example.todo_backend.services.impl.UndoOperation.MemberSnapshot;
+import com.example.todo_backend.services.impl.UndoOperation.MoveCard;
+import com.example.todo_backend.services.impl.UndoOperation.RenameBoard;
+import com.example.todo_backend.services.impl.UndoOperation.RestoreCard;
+import com.example.todo_backend.services.impl.UndoOperation.RestoreList;
+import com.example.todo_backend.storage.BlobStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user undo and redo of list, card and board edits. Every mutation pushes
+ * the operation that reverses it onto the user's undo stack once its
+ * transaction commits; undoing applies that operation in a transaction of its
+ * own and pushes the operation reversing it onto the redo stack. Both stacks
+ * are ring buffers of {@code todo.undo.depth} entries, kept in memory on the
+ * node that served the request and dropped after {@code todo.undo.idle-timeout}.
+ *
+ * Deleted lists and cards are restored under their old ids, so older entries,
+ * the audit history and clients still refer to the right rows. A list comes
+ * back with its cards, card members, comments and attachments as a handful of JDBC batches
+ * rather than one request per card. Lists over {@code todo.undo.max-snapshot-cards}
+ * cards are not kept. Once the rows are gone their blobs are only protected
+ * by the sweep's orphan grace, so restoring refreshes each blob's time first;
+ * an attachment whose blob was already swept is left out, and a missing
+ * thumbnail is dropped from its attachment.
+ */
+@Slf4j
+@Service
+public class UndoServiceImpl implements UndoService {
+
+    private final ListEntityRepository listRepository;
+    private final CardRepository cardRepository;
+    private final CardMemberRepository cardMemberRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final BlobStore blobStore;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final CounterService counterService;
+    private final BoardChangeService boardChangeService;
+    private final AuditService auditService;
+    private final WatcherService watcherService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate undoTransaction;
+    private final Cache<Long, UndoHistory> histories;
+
+    @Value("${todo.undo.depth:20}")
+    private int depth = 20;
+
+    @Value("${todo.undo.max-snapshot-cards:2000}")
+    private int maxSnapshotCards = 2000;
+
+    public UndoServiceImpl(ListEntityRepository listRepository,
+                           CardRepository cardRepository,
+                           CardMemberRepository cardMemberRepository,
+                           CommentRepository commentRepository,
+                           AttachmentRepository attachmentRepository,
+                           BlobStore blobStore,
+                           BoardRepository boardRepository,
+                           UserRepository userRepository,
+                           CounterService counterService,
+                           BoardChangeService boardChangeService,
+                           AuditService auditService,
+                           WatcherService watcherService,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${todo.undo.idle-timeout:30m}") Duration idleTimeout,
+                           @Value("${todo.undo.max-users:10000}") long maxUsers) {
+        this.listRepository = listRepository;
+        this.cardRepository = cardRepository;
+        this.cardMemberRepository = cardMemberRepository;
+        this.commentRepository = commentRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.blobStore = blobStore;
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.counterService = counterService;
+        this.boardChangeService = boardChangeService;
+        this.auditService = auditService;
+        this.watcherService = watcherService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.undoTransaction = new TransactionTemplate(transactionManager);
+        this.histories = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    @Override
+    public void listCreated(Long userId, ListEntity list) {
+        record(userId, new DeleteList(list.getBoard().getId(), list.getId(), list.getName()));
+    }
+
+    @Override
+    public void listUpdated(Long userId, ListEntity list, String previousName, String previousColor) {
+        if (Objects.equals(list.getName(), previousName) && Objects.equals(list.getColor(), previousColor)) {
+            return;
+        }
+        record(userId, new EditList(list.getBoard().getId(), list.getId(), previousName, previousColor));
+    }
+
+    @Override
+    public void listDeleted(Long userId, ListEntity list) {
+        ListSnapshot snapshot = snapshot(list);
+        if (snapshot == null) {
+            log.info("Not keeping list {} for undo, it has more than {} cards", list.getId(), maxSnapshotCards);
+            return;
+        }
+        record(userId, new RestoreList(list.getBoard().getId(), snapshot));
+    }
+
+    @Override
+    public void cardCreated(Long userId, Card card) {
+        record(userId, new DeleteCard(card.getList().getBoard().getId(), card.getId(), card.getTitle()));
+    }
+
+    @Override
+    public void cardUpdated(Long userId, Card card, String previousTitle, String previousDescription) {
+        if (Objects.equals(card.getTitle(), previousTitle) && Objects.equals(card.getDescription(), previousDescription)) {
+            return;
+        }
+        record(userId, new EditCard(card.getList().getBoard().getId(), card.getId(), previousTitle, previousDescription));
+    }
+
+    @Override
+    public void cardMoved(Long userId, Card card, ListEntity from) {
+        record(userId, new MoveCard(card.getList().getBoard().getId(), card.getId(), from.getId(), card.getTitle()));
+    }
+
+    @Override
+    public void cardDeleted(Long userId, Card card) {
+        record(userId, new RestoreCard(card.getList().getBoard().getId(), snapshot(card)));
+    }
+
+    @Override
+    public void boardRenamed(Long userId, Board board, String previousName) {
+        if (Objects.equals(board.getName(), previousName)) {
+            return;
+        }
+        record(userId, new RenameBoard(board.getId(), previousName));
+    }
+
+    @Override
+    public UndoStateDTO getState(Long userId) {
+        UndoHistory history = histories.getIfPresent(userId);
+        return history == null ? new UndoStateDTO(null, null, List.of(), List.of()) : history.state(null);
+    }
+
+    @Override
+    public UndoStateDTO undo(Long userId) {
+        UndoHistory history = histories.getIfPresent(userId);
+        UndoOperation operation = history == null ? null : history.popUndo();
+        if (operation == null) {
+            throw new ConflictException("Nothing to undo");
+        }
+        history.pushRedo(applyOrPutBack(userId, operation, history::pushUndo));
+        return history.state(operation);
+    }
+
+    @Override
+    public UndoStateDTO redo(Long userId) {
+        UndoHistory history = histories.getIfPresent(userId);
+        UndoOperation operation = history == null ? null : history.popRedo();
+        if (operation == null) {
+            throw new ConflictException("Nothing to redo");
+        }
+        history.pushUndo(applyOrPutBack(userId, operation, history::pushRedo));
+        return history.state(operation);
+    }
+
+    private void record(Long userId, UndoOperation operation) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            historyOf(userId).record(operation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                historyOf(userId).record(operation);
+            }
+        });
+    }
+
+    private UndoHistory historyOf(Long userId) {
+        return histories.get(userId, id -> new UndoHistory(depth));
+    }
+
+    /**
+     * Applies a popped operation. A conflict means its target is gone, so the
+     * entry is dropped; any other failure, such as a database error or lost
+     * optimistic lock, may pass on retry, so the entry goes back where it came from.
+     */
+    private UndoOperation applyOrPutBack(Long userId, UndoOperation operation, Consumer<UndoOperation> putBack) {
+        try {
+            return apply(userId, operation);
+        } catch (ConflictException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            putBack.accept(operation);
+            throw e;
+        }
+    }
+
+    /** Applies the operation in its own transaction and returns the operation that reverses it. */
+    private UndoOperation apply(Long userId, UndoOperation operation) {
+        return undoTransaction.execute(status -> switch (operation) {
+            case DeleteList delete -> deleteList(userId, delete);
+            case RestoreList restore -> restoreList(userId, restore);
+            case EditList edit -> editList(userId, edit);
+            case DeleteCard delete -> deleteCard(userId, delete);
+            case RestoreCard restore -> restoreCard(userId, restore);
+            case EditCard edit -> editCard(userId, edit);
+            case MoveCard move -> moveCard(userId, move);
+            case RenameBoard rename -> renameBoard(userId, rename);
+        });
+    }
+
+    private UndoOperation deleteList(Long userId, DeleteList delete) {
+        ListEntity list = findList(delete.listId(), delete.name());
+        ListSnapshot snapshot = snapshot(list);
+        if (snapshot == null) {
+            throw new ConflictException("List " + list.getName() + " has too many cards to delete from undo");
+        }
+        counterService.listRemoved(list);
+        boardChangeService.recordRemovals(delete.boardId(), BoardChangeType.CARD,
+                snapshot.cards().stream().map(CardSnapshot::id).toList());
+        boardChangeService.recordRemoval(delete.boardId(), BoardChangeType.LIST, list.getId());
+        audit(AuditEventType.LIST_DELETED, userId, delete.boardId(), list.getId(), null, list.getName());
+        listRepository.delete(list);
+        return new RestoreList(delete.boardId(), snapshot);
+    }
+
+    private UndoOperation restoreList(Long userId, RestoreList restore) {
+        ListSnapshot snapshot = restore.list();
+        findBoard(restore.boardId());
+        if (listRepository.existsById(snapshot.id())) {
+            throw new ConflictException("List " + snapshot.name() + " already exists");
+        }
+        Set<Long> users = existingUsers(snapshot.cards());
+        int comments = snapshot.cards().stream().mapToInt(card -> countComments(card, users)).sum();
+        listRepository.insertRestored(snapshot.id(), snapshot.name(), snapshot.color(),
+                snapshot.cards().size(), comments, restore.boardId());
+        insertCards(snapshot.cards(), users);
+
+        ListEntity list = findList(snapshot.id(), snapshot.name());
+        counterService.listRestored(list);
+        boardChangeService.recordUpsert(restore.boardId(), BoardChangeType.LIST, list.getId());
+        boardChangeService.recordUpserts(restore.boardId(), BoardChangeType.CARD,
+                snapshot.cards().stream().map(CardSnapshot::id).toList());
+        audit(AuditEventType.LIST_RESTORED, userId, restore.boardId(), list.getId(), null, list.getName());
+        return new DeleteList(restore.boardId(), list.getId(), list.getName());
+    }
+
+    private UndoOperation editList(Long userId, EditList edit) {
+        ListEntity list = findList(edit.listId(), edit.name());
+        EditList reverse = new EditList(edit.boardId(), list.getId(), list.getName(), list.getColor());
+        list.setName(edit.name());
+        list.setColor(edit.color());
+        listRepository.save(list);
+        boardChangeService.recordUpsert(edit.boardId(), BoardChangeType.LIST, list.getId());
+        audit(AuditEventType.LIST_UPDATED, userId, edit.boardId(), list.getId(), null, list.getName());
+        return reverse;
+    }
+
+    private UndoOperation deleteCard(Long userId, DeleteCard delete) {
+        Card card = cardRepository.findById(delete.cardId())
+                .orElseThrow(() -> new ConflictException("Card " + delete.title() + " no longer exists"));
+        CardSnapshot snapshot = snapshot(card);
+        counterService.cardRemoved(card);
+        boardChangeService.recordRemoval(delete.boardId(), BoardChangeType.CARD, card.getId());
+        audit(AuditEventType.CARD_DELETED, userId, delete.boardId(), card.getList().getId(), card.getId(), card.getTitle());
+        cardRepository.delete(card);
+        watcherService.watchersChanged(card.getId());
+        return new RestoreCard(delete.boardId(), snapshot);
+    }
+
+    private UndoOperation restoreCard(Long userId, RestoreCard restore) {
+        CardSnapshot snapshot = restore.card();
+        ListEntity list = findList(snapshot.listId(), "of card " + snapshot.title());
+        if (cardRepository.existsById(snapshot.id())) {
+            throw new ConflictException("Card " + snapshot.title() + " already exists");
+        }
+        Set<Long> users = existingUsers(List.of(snapshot));
+        insertCards(List.of(snapshot), users);
+
+        Long boardId = list.getBoard().getId();
+        counterService.cardRestored(list, countComments(snapshot, users));
+        boardChangeService.recordUpsert(boardId, BoardChangeType.CARD, snapshot.id());
+        audit(AuditEventType.CARD_RESTORED, userId, boardId, list.getId(), snapshot.id(), snapshot.title());
+        return new DeleteCard(boardId, snapshot.id(), snapshot.title());
+    }
+
+    private UndoOperation editCard(Long userId, EditCard edit) {
+        Card card = cardRepository.findById(edit.cardId())
+                .orElseThrow(() -> new ConflictException("Card " + edit.title() + " no longer exists"));
+        Long boardId = card.getList().getBoard().getId();
+        EditCard reverse = new EditCard(boardId, card.getId(), card.getTitle(), card.getDescription());
+        card.setTitle(edit.title());
+        card.setDescription(edit.description());
+        cardRepository.save(card);
+        boardChangeService.recordUpsert(boardId, BoardChangeType.CARD, card.getId());
+        audit(AuditEventType.CARD_UPDATED, userId, boardId, card.getList().getId(), card.getId(), card.getTitle());
+        return reverse;
+    }
+
+    private UndoOperation moveCard(Long userId, MoveCard move) {
+        Card card = cardRepository.findById(move.cardId())
+                .orElseThrow(() -> new ConflictException("Card " + move.title() + " no longer exists"));
+        ListEntity from = card.getList();
+        ListEntity to = findList(move.listId(), "to move card " + move.title() + " to");
+        card.setList(to);
+        counterService.cardMoved(card, from, to);
+        if (!from.getBoard().getId().equals(to.getBoard().getId())) {
+            boardChangeService.recordRemoval(from.getBoard().getId(), BoardChangeType.CARD, card.getId());
+        }
+        cardRepository.save(card);
+        boardChangeService.recordUpsert(to.getBoard().getId(), BoardChangeType.CARD, card.getId());
+        audit(AuditEventType.CARD_MOVED, userId, to.getBoard().getId(), to.getId(), card.getId(),
+                from.getName() + " -> " + to.getName());
+        return new MoveCard(to.getBoard().getId(), card.getId(), from.getId(), card.getTitle());
+    }
+
+    private UndoOperation renameBoard(Long userId, RenameBoard rename) {
+        Board board = findBoard(rename.boardId());
+        RenameBoard reverse = new RenameBoard(board.getId(), board.getName());
+        board.setName(rename.name());
+        boardRepository.save(board);
+        boardChangeService.recordUpsert(board.getId(), BoardChangeType.BOARD, board.getId());
+        audit(AuditEventType.BOARD_UPDATED, userId, board.getId(), null, null, board.getName());
+        return reverse;
+    }
+
+    private ListSnapshot snapshot(ListEntity list) {
+        List<Card> cards = cardRepository.findByListId(list.getId());
+        if (cards.size() > maxSnapshotCards) {
+            return null;
+        }
+        Map<Long, List<MemberSnapshot>> members = cardMemberRepository.findByListId(list.getId()).stream()
+                .collect(Collectors.groupingBy(member -> member.getCard().getId(),
+                        Collectors.mapping(UndoServiceImpl::snapshot, Collectors.toList())));
+        Map<Long, List<CommentSnapshot>> comments = commentRepository.findByListId(list.getId()).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getCard().getId(),
+                        Collectors.mapping(UndoServiceImpl::snapshot, Collectors.toList())));
+        Map<Long, List<AttachmentSnapshot>> attachments = attachmentRepository.findByListId(list.getId()).stream()
+                .collect(Collectors.groupingBy(attachment -> attachment.getCard().getId(),
+                        Collectors.mapping(UndoServiceImpl::snapshot, Collectors.toList())));
+        List<CardSnapshot> cardSnapshots = cards.stream()
+                .map(card -> snapshot(card, members.getOrDefault(card.getId(), List.of()),
+                        comments.getOrDefault(card.getId(), List.of()),
+                        attachments.getOrDefault(card.getId(), List.of())))
+                .toList();
+        return new ListSnapshot(list.getId(), list.getName(), list.getColor(), cardSnapshots);
+    }
+
+    private CardSnapshot snapshot(Card card) {
+        return snapshot(card,
+                cardMemberRepository.findByCardId(card.getId()).stream().map(UndoServiceImpl::snapshot).toList(),
+                commentRepository.findByCardId(card.getId()).stream().map(UndoServiceImpl::snapshot).toList(),
+                attachmentRepository.findByCardIdOrderById(card.getId()).stream().map(UndoServiceImpl::snapshot).toList());
+    }
+
+    private static CardSnapshot snapshot(Card card, List<MemberSnapshot> members, List<CommentSnapshot> comments,
+                                         List<AttachmentSnapshot> attachments) {
+        return new CardSnapshot(card.getId(), card.getList().getId(), card.getTitle(), card.getTag(),
+                card.getDescription(), members, comments, attachments);
+    }
+
+    private static MemberSnapshot snapshot(CardMember member) {
+        return new MemberSnapshot(member.getId(), member.getUser().getId());
+    }
+
+    private static CommentSnapshot snapshot(Comment comment) {
+        User author = comment.getUser();
+        return new CommentSnapshot(comment.getId(), author == null ? null : author.getId(), comment.getParentId(),
+                comment.getContent(), comment.getCreatedAt());
+    }
+
+    private static AttachmentSnapshot snapshot(Attachment attachment) {
+        return new AttachmentSnapshot(attachment.getId(), attachment.getUploadedBy(), attachment.getFileName(),
+                attachment.getContentType(), attachment.getSize(), attachment.getContentHash(),
+                attachment.getThumbnailHash(), attachment.getCreatedAt());
+    }
+
+    /**
+     * Cards, their members, comments and attachments as one JDBC batch each, skipping
+     * users purged since and attachments whose blob was swept. A reply whose root
+     * was skipped becomes a root itself.
+     */
+    private void insertCards(List<CardSnapshot> cards, Set<Long> users) {
+        Map<String, Boolean> blobs = retainBlobs(cards);
+        cards.forEach(card -> watcherService.watchersChanged(card.id()));
+        jdbcTemplate.batchUpdate("INSERT INTO cards (id, title, tag, description, version, list_id) VALUES (?, ?, ?, ?, 0, ?)",
+                cards.stream()
+                        .map(card -> new Object[] { card.id(), card.title(), card.tag(), card.description(), card.listId() })
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO card_members (id, user_id, card_id) VALUES (?, ?, ?)",
+                cards.stream()
+                        .flatMap(card -> card.members().stream()
+                                .filter(member -> users.contains(member.userId()))
+                                .map(member -> new Object[] { member.id(), member.userId(), card.id() }))
+                        .toList());
+        Set<Long> comments = cards.stream()
+                .flatMap(card -> card.comments().stream())
+                .filter(comment -> comment.userId() == null || users.contains(comment.userId()))
+                .map(CommentSnapshot::id)
+                .collect(Collectors.toSet());
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, content, card_id, user_id, parent_id, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                cards.stream()
+                        .flatMap(card -> card.comments().stream()
+                                .filter(comment -> comments.contains(comment.id()))
+                                .map(comment -> new Object[] { comment.id(), comment.content(), card.id(), comment.userId(),
+                                        comments.contains(comment.parentId()) ? comment.parentId() : null,
+                                        comment.createdAt() == null ? null : Timestamp.valueOf(comment.createdAt()) }))
+                        .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO attachments (id, card_id, uploaded_by, file_name, content_type, size, "
+                        + "content_hash, thumbnail_hash, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                cards.stream()
+                        .flatMap(card -> card.attachments().stream()
+                                .filter(attachment -> blobs.get(attachment.contentHash()))
+                                .map(attachment -> new Object[] { attachment.id(), card.id(), attachment.uploadedBy(),
+                                        attachment.fileName(), attachment.contentType(), attachment.size(),
+                                        attachment.contentHash(),
+                                        attachment.thumbnailHash() != null && blobs.get(attachment.thumbnailHash())
+                                                ? attachment.thumbnailHash() : null,
+                                        attachment.createdAt() == null ? null : Timestamp.valueOf(attachment.createdAt()) }))
+                        .toList());
+    }
+
+    /** Whether each blob the cards' attachments name is still stored, refreshing those that are. */
+    private Map<String, Boolean> retainBlobs(List<CardSnapshot> cards) {
+        Map<String, Boolean> blobs = new HashMap<>();
+        for (CardSnapshot card : cards) {
+            for (AttachmentSnapshot attachment : card.attachments()) {
+                for (String hash : new String[] { attachment.contentHash(), attachment.thumbnailHash() }) {
+                    if (hash != null && !blobs.containsKey(hash)) {
+                        blobs.put(hash, retain(hash));
+                    }
+                }
+            }
+        }
+        blobs.forEach((hash, kept) -> {
+            if (!kept) {
+                log.info("Blob {} was swept before its attachment could be restored", hash);
+            }
+        });
+        return blobs;
+    }
+
+    private boolean retain(String hash) {
+        try {
+            return blobStore.retain(hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<Long> existingUsers(List<CardSnapshot> cards) {
+        Set<Long> ids = new HashSet<>();
+        for (CardSnapshot card : cards) {
+            card.members().forEach(member -> ids.add(member.userId()));
+            card.comments().forEach(comment -> ids.add(comment.userId()));
+        }
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findAllById(ids).stream().map(User::getId).collect(Collectors.toSet());
+    }
+
+    private static int countComments(CardSnapshot card, Set<Long> users) {
+        return (int) card.comments().stream()
+                .filter(comment -> comment.userId() == null || users.contains(comment.userId()))
+                .count();
+    }
+
+    private void audit(AuditEventType type, Long userId, Long boardId, Long listId, Long cardId, String detail) {
+        auditService.record(AuditEvent.of(type, userId, boardId, listId, cardId, detail));
+    }
+
+    private ListEntity findList(Long listId, String name) {
+        return listRepository.findById(listId)
+                .filter(list -> list.getBoard().getDeletedAt() == null)
+                .orElseThrow(() -> new ConflictException("List " + name + " no longer exists"));
+    }
+
+    private Board findBoard(Long boardId) {
+        return boardRepository.findById(boardId)
+                .filter(board -> board.getDeletedAt() == null)
+                .orElseThrow(() -> new ConflictException("Board " + boardId + " no longer exists"));
+    }
+
+    /** One user's stacks; the most recent entry is first. */
+    private static final class UndoHistory {
+        private final int depth;
+        private final Deque<UndoOperation> undo = new ArrayDeque<>();
+        private final Deque<UndoOperation> redo = new ArrayDeque<>();
+
+        UndoHistory(int depth) {
+            this.depth = depth;
+        }
+
+        synchronized void record(UndoOperation operation) {
+            push(undo, operation);
+            redo.clear();
+        }
+
+        synchronized UndoOperation popUndo() {
+            return undo.pollFirst();
+        }
+
+        synchronized UndoOperation popRedo() {
+            return redo.pollFirst();
+        }
+
+        synchronized void pushUndo(UndoOperation operation) {
+            push(undo, operation);
+        }
+
+        synchronized void pushRedo(UndoOperation operation) {
+            push(redo, operation);
+        }
+
+        synchronized UndoStateDTO state(UndoOperation applied) {
+            return new UndoStateDTO(applied == null ? null : applied.describe(),
+                    applied == null ? null : applied.boardId(),
+                    undo.stream().map(UndoOperation::describe).toList(),
+                    redo.stream().map(UndoOperation::describe).toList());
+        }
+
+        private void push(Deque<UndoOperation> stack, UndoOperation operation) {
+            stack.addFirst(operation);
+            while (stack.size() > depth) {
+                stack.removeLast();
+            }
+        }
+    }
+}
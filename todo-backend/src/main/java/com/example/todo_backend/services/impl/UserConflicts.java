@@ -0,0 +1,42 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.ConflictException;
+
+/**
+ * Turns a violation of the unique username or email index into a
+ * {@link ConflictException}. The existence checks before a write only catch
+ * the common case; two concurrent registrations can both pass them, and the
+ * index is what finally decides.
+ */
+final class UserConflicts {
+
+    private UserConflicts() {
+    }
+
+    static RuntimeException translate(DataIntegrityViolationException e, String username, String email) {
+        String constraint = constraintName(e);
+        if (constraint.contains(User.UK_USERNAME)) {
+            return new ConflictException("Username already exists: " + username);
+        }
+        if (constraint.contains(User.UK_EMAIL)) {
+            return new ConflictException("Email already exists: " + email);
+        }
+        return e;
+    }
+
+    private static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
+}
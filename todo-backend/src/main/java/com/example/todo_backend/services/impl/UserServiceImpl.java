@@ -1,8 +1,9 @@
 package com.example.todo_backend.services.impl;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +13,11 @@ import com.example.todo_backend.dtos.UserDTO;
 import com.example.todo_backend.dtos.UserUpdateDTO;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.ConflictException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.UserMapper;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,28 +29,30 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final BoardRevisionService boardRevisionService;
 
     @Override
     public UserDTO updateProfile(Long userId, UserUpdateDTO dto) {
         User user = findUserById(userId);
     
-        if (!user.getUsername().equals(dto.getUsername())) {
-            Optional<User> existingUserByUsername = userRepository.findByUsername(dto.getUsername());
-            if (existingUserByUsername.isPresent() && !existingUserByUsername.get().getId().equals(userId)) {
-                throw new RuntimeException("Username already exists: " + dto.getUsername());
-            }
+        if (!user.getUsername().equals(dto.getUsername())
+                && userRepository.existsByUsernameAndIdNot(dto.getUsername(), userId)) {
+            throw new ConflictException("Username already exists: " + dto.getUsername());
         }
         
-        if (!user.getEmail().equals(dto.getEmail())) {
-            Optional<User> existingUserByEmail = userRepository.findByEmail(dto.getEmail());
-            if (existingUserByEmail.isPresent() && !existingUserByEmail.get().getId().equals(userId)) {
-                throw new RuntimeException("Email already exists: " + dto.getEmail());
-            }
+        String email = User.normalizeEmail(dto.getEmail());
+        if (!user.getEmail().equals(email) && userRepository.existsByEmailAndIdNot(email, userId)) {
+            throw new ConflictException("Email already exists: " + dto.getEmail());
         }
         user.setUsername(dto.getUsername());
         user.setEmail(dto.getEmail());
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConflicts.translate(e, dto.getUsername(), dto.getEmail());
+        }
+        boardRevisionService.memberChanged(userId);
 
         return userMapper.toDTO(user);
     }
@@ -73,17 +78,30 @@ public class UserServiceImpl implements UserService {
             throw new BadRequestException("Incorrect password");
         }
 
-        userRepository.delete(user);
+        markDeleted(user);
     }
     @Override
     @Transactional
     public void deleteGoogleUser(Long userId) {
-        User user = findUserById(userId);
-        userRepository.delete(user);
+        markDeleted(findUserById(userId));
+    }
+
+    /**
+     * Frees the username and email and locks the account at once; memberships
+     * and the rest are removed in chunks by {@code PurgeService}.
+     */
+    private void markDeleted(User user) {
+        boardRevisionService.memberChanged(user.getId());
+        user.setUsername(null);
+        user.setEmail(null);
+        user.setPassword(null);
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
     }
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> user.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
     }
 
@@ -104,7 +122,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<UserDTO> getAllUsers() {
-        List<User> users = userRepository.findAll();
+        List<User> users = userRepository.findByDeletedAtIsNull();
         return users.stream()
                 .map(userMapper::toDTO)
                 .toList();
@@ -0,0 +1,85 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.services.WatcherService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Who is told about a card. A card's members are its watchers; card-scoped
+ * notifications go to them and to the users a comment mentions instead of to
+ * the whole board. Recipients are picked from the board's members, which are
+ * already cached, so someone who left the board is not notified even while
+ * still a card member.
+ *
+ * The watcher ids of each card are kept in memory. This node drops a card's
+ * entry whenever its members change here; changes made on other nodes show up
+ * once the entry is older than {@code todo.watchers.ttl}.
+ */
+@Service
+public class WatcherServiceImpl implements WatcherService {
+
+    private final CardMemberRepository cardMemberRepository;
+    private final Cache<Long, Set<Long>> watchers;
+
+    public WatcherServiceImpl(CardMemberRepository cardMemberRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${todo.watchers.ttl:1m}") Duration ttl,
+                              @Value("${todo.watchers.max-cards:100000}") long maxCards) {
+        this.cardMemberRepository = cardMemberRepository;
+        this.watchers = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxCards)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, watchers, "card-watchers");
+    }
+
+    @Override
+    public Set<Long> getWatcherIds(Long cardId) {
+        return watchers.get(cardId, id -> Set.copyOf(cardMemberRepository.findUserIdsByCardId(id)));
+    }
+
+    @Override
+    public List<User> getRecipients(Card card, Collection<Long> mentionedUserIds, Long actorId) {
+        Set<Long> watcherIds = getWatcherIds(card.getId());
+        return card.getList().getBoard().getMembers().stream()
+                .map(BoardMember::getUser)
+                .filter(user -> !user.getId().equals(actorId))
+                .filter(user -> watcherIds.contains(user.getId()) || mentionedUserIds.contains(user.getId()))
+                .toList();
+    }
+
+    /**
+     * Drops the card's entry now and again after commit, so a load that
+     * raced the change and read the old members does not stay cached.
+     */
+    @Override
+    public void watchersChanged(Long cardId) {
+        watchers.invalidate(cardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    watchers.invalidate(cardId);
+                }
+            });
+        }
+    }
+}
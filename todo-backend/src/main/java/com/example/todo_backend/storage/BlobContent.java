@@ -0,0 +1,7 @@
+package com.example.todo_backend.storage;
+
+/**
+ * A stored blob as it is to be sent to a client: the content hash doubles as
+ * its strong ETag.
+ */
+public record BlobContent(String hash, String contentType, String fileName) {}
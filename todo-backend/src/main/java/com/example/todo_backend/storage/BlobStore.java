@@ -0,0 +1,251 @@
+package com.example.todo_backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.todo_backend.exceptions.PayloadTooLargeException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Blobs on the local filesystem, addressed by the SHA-256 of their content:
+ * {@code <dir>/ab/cd/abcd...}. Storing the same bytes twice keeps one file.
+ * Uploads are hashed while they are copied, through a fixed buffer, into a
+ * temporary file under {@code <dir>/incoming}, which is then moved into place
+ * atomically; a reader never sees a partial blob. Files are never modified
+ * once in place, so they can be handed to the kernel with
+ * {@link FileChannel#transferTo}.
+ *
+ * The store does not know who uses a blob. {@link #deleteUnreferenced} is
+ * given the question and only removes files not written for a grace period,
+ * which covers an upload that has stored its blob but not yet committed the
+ * row pointing at it.
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SWEEP_BATCH = 500;
+
+    private final Path root;
+    private final Path incoming;
+
+    public BlobStore(@Value("${todo.attachments.dir:attachments}") String dir) {
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+        this.incoming = this.root.resolve("incoming");
+    }
+
+    public record StoredBlob(String hash, long size, boolean created) {}
+
+    /**
+     * Copies the stream into the store and returns its hash. Fails with
+     * {@link PayloadTooLargeException} as soon as more than {@code maxBytes}
+     * have been read; nothing is kept in that case.
+     */
+    public StoredBlob store(InputStream content, long maxBytes) throws IOException {
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                int read;
+                while ((read = content.read(buffer.array())) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new PayloadTooLargeException("Content is larger than " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer.array(), 0, read);
+                    buffer.clear().limit(read);
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                }
+                out.force(true);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            return new StoredBlob(hash, size, moveIntoPlace(temp, path(hash)));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public boolean exists(String hash) {
+        return Files.isRegularFile(path(hash));
+    }
+
+    /**
+     * Refreshes a blob's time so the sweeper treats it as just written, for a
+     * caller about to point a row at it again. False when it is already gone.
+     */
+    public boolean retain(String hash) throws IOException {
+        return touch(path(hash));
+    }
+
+    /** The file holding a blob; the hash is checked first so that it cannot name anything else. */
+    public Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Not a blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * Sends {@code count} bytes of a blob from {@code position} to the target.
+     * For a socket or file target the JDK turns this into {@code sendfile} or
+     * {@code copy_file_range}, so the bytes never enter the heap; other
+     * channels are fed through a small direct buffer, which a stream
+     * adapter copies again into the heap.
+     */
+    public long transferTo(String hash, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel file = FileChannel.open(path(hash), StandardOpenOption.READ)) {
+            long sent = 0;
+            while (sent < count) {
+                long chunk = file.transferTo(position + sent, count - sent, target);
+                if (chunk <= 0) {
+                    break;
+                }
+                sent += chunk;
+            }
+            return sent;
+        }
+    }
+
+    /**
+     * Deletes blobs that {@code referenced} does not name and that were last
+     * written before {@code cutoff}, along with uploads abandoned in
+     * {@code incoming}. {@code referenced} is asked in batches and returns the
+     * hashes of the batch that are still in use. A blob's time is checked
+     * again after that answer, so one retained in the meantime is kept.
+     */
+    public int deleteUnreferenced(Instant cutoff, Function<Collection<String>, Set<String>> referenced) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        FileTime before = FileTime.from(cutoff);
+        int deleted = 0;
+        List<Path> batch = new ArrayList<>(SWEEP_BATCH);
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!Files.isRegularFile(file) || !olderThan(file, before)) {
+                    continue;
+                }
+                if (file.getParent().equals(incoming)) {
+                    deleted += delete(file);
+                    continue;
+                }
+                if (!HASH.matcher(file.getFileName().toString()).matches()) {
+                    continue;
+                }
+                batch.add(file);
+                if (batch.size() == SWEEP_BATCH) {
+                    deleted += deleteUnreferenced(batch, before, referenced);
+                    batch.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return deleted + deleteUnreferenced(batch, before, referenced);
+    }
+
+    private int deleteUnreferenced(List<Path> batch, FileTime before,
+                                   Function<Collection<String>, Set<String>> referenced) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Set<String> inUse = referenced.apply(batch.stream().map(file -> file.getFileName().toString()).toList());
+        int deleted = 0;
+        for (Path file : batch) {
+            // retained while the batch was being asked about, so a row may point at it by now
+            if (!inUse.contains(file.getFileName().toString()) && olderThan(file, before)) {
+                deleted += delete(file);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * True when the blob is new. When it already exists the upload is dropped
+     * and the existing file's time refreshed, so the sweeper treats it as
+     * just written.
+     */
+    private static boolean moveIntoPlace(Path temp, Path target) throws IOException {
+        while (true) {
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    return true;
+                } catch (FileAlreadyExistsException e) {
+                    // stored concurrently by another upload of the same content
+                }
+            }
+            if (touch(target)) {
+                return false;
+            }
+            // swept in between, store it again
+        }
+    }
+
+    private static boolean touch(Path file) throws IOException {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static boolean olderThan(Path file, FileTime before) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(before) < 0;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private static int delete(Path file) throws IOException {
+        if (Files.deleteIfExists(file)) {
+            log.debug("Deleted unreferenced blob {}", file.getFileName());
+            return 1;
+        }
+        return 0;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
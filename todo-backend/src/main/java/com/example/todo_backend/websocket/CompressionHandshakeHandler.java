@@ -0,0 +1,45 @@
+package com.example.todo_backend.websocket;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Negotiates permessage-deflate when the client offers it and the container
+ * supports it, which Tomcat does. Setting
+ * {@code todo.websocket.compression.enabled=false} turns it off, e.g. when a
+ * proxy in front already compresses. Handshakes are counted per outcome.
+ */
+@Component
+public class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${todo.websocket.compression.enabled:true}")
+    private boolean compressionEnabled = true;
+
+    public CompressionHandshakeHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions = super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions)
+                .stream()
+                .filter(extension -> compressionEnabled || !PERMESSAGE_DEFLATE.equals(extension.getName()))
+                .toList();
+        boolean compressed = extensions.stream().anyMatch(extension -> PERMESSAGE_DEFLATE.equals(extension.getName()));
+        meterRegistry.counter("todo.websocket.handshakes", "compression", String.valueOf(compressed)).increment();
+        return extensions;
+    }
+}
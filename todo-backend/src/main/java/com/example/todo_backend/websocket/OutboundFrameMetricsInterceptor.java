@@ -0,0 +1,43 @@
+package com.example.todo_backend.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the MESSAGE frames sent to clients and their payload bytes. Bytes are
+ * counted before permessage-deflate compresses them.
+ */
+@Component
+public class OutboundFrameMetricsInterceptor implements ChannelInterceptor {
+
+    private final Counter frames;
+    private final Counter bytes;
+
+    public OutboundFrameMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.frames = Counter.builder("todo.websocket.outbound.frames")
+                .description("MESSAGE frames sent to WebSocket clients")
+                .register(meterRegistry);
+        this.bytes = Counter.builder("todo.websocket.outbound.bytes")
+                .description("Payload bytes of MESSAGE frames, before compression")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        frames.increment();
+        if (message.getPayload() instanceof byte[] payload) {
+            bytes.increment(payload.length);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.todo_backend.websocket;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Gives every WebSocket session a bounded send buffer that is drained on its
+ * own virtual thread, so a client that reads slowly never blocks the outbound
+ * channel and never holds more than the buffer limit in memory. When the
+ * buffer overflows the configured {@link Policy} decides what is lost, and a
+ * send stuck for longer than the time limit always disconnects the session.
+ */
+@Component
+public class SlowConsumerProtection implements WebSocketHandlerDecoratorFactory {
+
+    public enum Policy {
+        /** Drop the oldest buffered messages until the buffer fits again. */
+        DROP_OLDEST,
+        /** Keep only the newest buffered message per destination. */
+        COALESCE,
+        /** Close the session and let the client reconnect and reload. */
+        DISCONNECT
+    }
+
+    private final SimpleAsyncTaskExecutor senders = new SimpleAsyncTaskExecutor("ws-send-");
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final Counter bufferDisconnects;
+    private final Counter timeDisconnects;
+
+    @Value("${todo.websocket.send.buffer-size-limit:512KB}")
+    private DataSize bufferSizeLimit = DataSize.ofKilobytes(512);
+
+    @Value("${todo.websocket.send.time-limit:10s}")
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    @Value("${todo.websocket.send.slow-consumer-policy:DISCONNECT}")
+    private Policy policy = Policy.DISCONNECT;
+
+    public SlowConsumerProtection(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.senders.setVirtualThreads(true);
+        this.bufferDisconnects = disconnectCounter("buffer");
+        this.timeDisconnects = disconnectCounter("time");
+        Gauge.builder("todo.websocket.send.buffered", bufferedBytes, AtomicLong::get)
+                .description("Bytes waiting in per-session send buffers")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(decorate(session));
+            }
+        };
+    }
+
+    public WebSocketSession decorate(WebSocketSession session) {
+        return new SlowConsumerSessionDecorator(session, this);
+    }
+
+    public int getBufferSizeLimit() {
+        return (int) bufferSizeLimit.toBytes();
+    }
+
+    public Duration getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    void execute(Runnable task) {
+        senders.execute(task);
+    }
+
+    void buffered(long delta) {
+        bufferedBytes.addAndGet(delta);
+    }
+
+    void dropped(int count) {
+        meterRegistry.counter("todo.websocket.slow.dropped", "policy", policy.name().toLowerCase()).increment(count);
+    }
+
+    void disconnected(boolean timeLimitExceeded) {
+        (timeLimitExceeded ? timeDisconnects : bufferDisconnects).increment();
+    }
+
+    private Counter disconnectCounter(String reason) {
+        return Counter.builder("todo.websocket.slow.disconnected")
+                .description("Sessions closed because the client could not keep up")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
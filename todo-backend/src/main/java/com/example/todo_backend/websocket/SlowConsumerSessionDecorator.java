@@ -0,0 +1,213 @@
+package com.example.todo_backend.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import com.example.todo_backend.websocket.SlowConsumerProtection.Policy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Send side of {@link SlowConsumerProtection} for one session. Messages are
+ * queued and written by a single drain task at a time, so callers never block
+ * on the socket. Only STOMP MESSAGE frames are ever dropped; the next frame
+ * delivered to a destination that lost frames carries a {@value #RESYNC_HEADER}
+ * header so the client knows to reload that state over REST.
+ */
+@Slf4j
+class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    static final String RESYNC_HEADER = "resync";
+    static final CloseStatus RESYNC = CloseStatus.SESSION_NOT_RELIABLE.withReason(RESYNC_HEADER);
+
+    private static final String MESSAGE_COMMAND = "MESSAGE\n";
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    private final SlowConsumerProtection protection;
+    private final Deque<WebSocketMessage<?>> buffer = new ArrayDeque<>();
+    private final Set<String> gaps = new HashSet<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private int bufferSize;
+    private volatile long sendStartedAt;
+    private volatile boolean closing;
+
+    SlowConsumerSessionDecorator(WebSocketSession session, SlowConsumerProtection protection) {
+        super(session);
+        this.protection = protection;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing || sendTimeLimitExceeded()) {
+            return;
+        }
+        boolean overflow;
+        synchronized (buffer) {
+            buffer.add(message);
+            resize(message.getPayloadLength());
+            overflow = bufferSize > protection.getBufferSizeLimit();
+            if (overflow && protection.getPolicy() != Policy.DISCONNECT) {
+                shed();
+                overflow = false;
+            }
+        }
+        if (overflow) {
+            disconnect(false);
+        } else if (draining.compareAndSet(false, true)) {
+            protection.execute(this::drain);
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closing = true;
+        clear();
+        super.close(status);
+    }
+
+    int getBufferSize() {
+        synchronized (buffer) {
+            return bufferSize;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> next;
+            synchronized (buffer) {
+                next = buffer.poll();
+                if (next == null || closing) {
+                    draining.set(false);
+                    return;
+                }
+                resize(-next.getPayloadLength());
+                next = markResync(next);
+            }
+            sendStartedAt = System.nanoTime();
+            try {
+                getDelegate().sendMessage(next);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Send to WebSocket session {} failed: {}", getId(), e.getMessage());
+                closing = true;
+                clear();
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+
+    /** Frees buffer space according to the policy; called while holding the buffer lock. */
+    private void shed() {
+        int dropped = 0;
+        if (protection.getPolicy() == Policy.COALESCE) {
+            Set<String> newest = new HashSet<>();
+            for (Iterator<WebSocketMessage<?>> it = buffer.descendingIterator(); it.hasNext(); ) {
+                WebSocketMessage<?> message = it.next();
+                String destination = destinationOf(message);
+                if (destination != null && !newest.add(destination)) {
+                    drop(it, message, destination);
+                    dropped++;
+                }
+            }
+        }
+        for (Iterator<WebSocketMessage<?>> it = buffer.iterator();
+             it.hasNext() && bufferSize > protection.getBufferSizeLimit(); ) {
+            WebSocketMessage<?> message = it.next();
+            String destination = destinationOf(message);
+            if (destination != null) {
+                drop(it, message, destination);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            protection.dropped(dropped);
+        }
+    }
+
+    private void drop(Iterator<WebSocketMessage<?>> it, WebSocketMessage<?> message, String destination) {
+        it.remove();
+        resize(-message.getPayloadLength());
+        gaps.add(destination);
+    }
+
+    private WebSocketMessage<?> markResync(WebSocketMessage<?> message) {
+        if (gaps.isEmpty()) {
+            return message;
+        }
+        String destination = destinationOf(message);
+        if (destination == null || !gaps.remove(destination)) {
+            return message;
+        }
+        String frame = ((TextMessage) message).getPayload();
+        return new TextMessage(MESSAGE_COMMAND + RESYNC_HEADER + ":true\n" + frame.substring(MESSAGE_COMMAND.length()));
+    }
+
+    private boolean sendTimeLimitExceeded() {
+        long started = sendStartedAt;
+        if (started == 0 || System.nanoTime() - started <= protection.getSendTimeLimit().toNanos()) {
+            return false;
+        }
+        disconnect(true);
+        return true;
+    }
+
+    private void disconnect(boolean timeLimitExceeded) {
+        synchronized (buffer) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+        }
+        clear();
+        protection.disconnected(timeLimitExceeded);
+        log.info("Closing slow WebSocket session {} ({} limit exceeded)", getId(),
+                timeLimitExceeded ? "send time" : "buffer size");
+        protection.execute(() -> {
+            try {
+                getDelegate().close(RESYNC);
+            } catch (IOException | RuntimeException e) {
+                log.debug("Could not close WebSocket session {}: {}", getId(), e.getMessage());
+            }
+        });
+    }
+
+    private void clear() {
+        synchronized (buffer) {
+            buffer.clear();
+            gaps.clear();
+            resize(-bufferSize);
+        }
+    }
+
+    private void resize(int delta) {
+        bufferSize += delta;
+        protection.buffered(delta);
+    }
+
+    /** Destination of a STOMP MESSAGE frame, or null for frames that must not be dropped. */
+    private static String destinationOf(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text) || !text.getPayload().startsWith(MESSAGE_COMMAND)) {
+            return null;
+        }
+        String frame = text.getPayload();
+        int headersEnd = frame.indexOf("\n\n");
+        int start = frame.indexOf(DESTINATION_HEADER);
+        if (start < 0 || (headersEnd >= 0 && start > headersEnd)) {
+            return null;
+        }
+        start += DESTINATION_HEADER.length();
+        int end = frame.indexOf('\n', start);
+        return frame.substring(start, end < 0 ? frame.length() : end);
+    }
+}
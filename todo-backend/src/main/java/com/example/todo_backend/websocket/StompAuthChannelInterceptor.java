@@ -0,0 +1,86 @@
+package com.example.todo_backend.websocket;
+
+import java.util.regex.Matcher;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.AuthenticationException;
+import com.example.todo_backend.repositories.BoardMemberRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.security.JwtUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Authenticates STOMP sessions with the JWT sent in the CONNECT frame's
+ * {@code Authorization} header and guards subscriptions: every subscription
+ * needs an authenticated session and may only name the session's own
+ * {@code /user/queue/...} destinations or the topics of a board the user is
+ * a member of. Anything else, including the broker's resolved per-session
+ * queues, is refused.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final BoardMemberRepository boardMemberRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER)));
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor);
+        }
+        return message;
+    }
+
+    private StompPrincipal authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new AuthenticationException("Missing WebSocket token");
+        }
+        String username;
+        try {
+            username = jwtUtil.extractUsername(authorization.substring(BEARER_PREFIX.length()));
+        } catch (RuntimeException e) {
+            throw new AuthenticationException("Invalid WebSocket token");
+        }
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new AuthenticationException("Invalid WebSocket token"));
+        return new StompPrincipal(user.getId(), user.getUsername());
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof StompPrincipal principal)) {
+            throw new AuthenticationException("WebSocket session is not authenticated");
+        }
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(USER_QUEUE_PREFIX)) {
+            return;
+        }
+        Matcher board = destination == null ? null : WebSocketSessionRegistry.BOARD_DESTINATION.matcher(destination);
+        if (board == null || !board.matches()) {
+            throw new AuthenticationException("Cannot subscribe to " + destination);
+        }
+        if (!boardMemberRepository.existsByBoardIdAndUserId(Long.valueOf(board.group(1)), principal.userId())) {
+            throw new AuthenticationException("Not a member of board " + board.group(1));
+        }
+    }
+}
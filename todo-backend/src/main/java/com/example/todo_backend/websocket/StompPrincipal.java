@@ -0,0 +1,15 @@
+package com.example.todo_backend.websocket;
+
+import java.security.Principal;
+
+/**
+ * Principal of an authenticated STOMP session. Its name is the user id, so
+ * user destinations ({@code /user/queue/...}) are resolved by id.
+ */
+public record StompPrincipal(Long userId, String username) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(userId);
+    }
+}
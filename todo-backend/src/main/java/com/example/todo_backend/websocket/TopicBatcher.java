@@ -0,0 +1,139 @@
+package com.example.todo_backend.websocket;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces messages published to a {@code /topic} destination over a short
+ * flush window and sends them as one frame whose payload is a JSON array.
+ * The broker fans each frame out to every subscriber, so a burst of board
+ * events reaches each session as a few array frames instead of one frame per
+ * event. A batch is sent early once it reaches the maximum size. Messages
+ * published inside a transaction are only buffered after it commits.
+ */
+@Slf4j
+@Component
+public class TopicBatcher implements SmartLifecycle {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    private final Map<String, List<Object>> buffers = new HashMap<>();
+    private final DistributionSummary batchSizes;
+    private volatile boolean running;
+
+    @Value("${todo.websocket.batch.flush-window:50ms}")
+    private Duration flushWindow = Duration.ofMillis(50);
+
+    @Value("${todo.websocket.batch.max-size:100}")
+    private int maxBatchSize = 100;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public TopicBatcher(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.batchSizes = DistributionSummary.builder("todo.websocket.batch.size")
+                .description("Messages coalesced into one topic frame")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("topic-batcher-");
+        scheduler.setVirtualThreads(virtualThreads);
+        scheduler.initialize();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        flushAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void publish(String destination, Object payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(destination, payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(destination, payload);
+            }
+        });
+    }
+
+    private void buffer(String destination, Object payload) {
+        if (!running || flushWindow.isZero()) {
+            send(destination, List.of(payload));
+            return;
+        }
+        List<Object> full = null;
+        boolean first;
+        synchronized (buffers) {
+            List<Object> buffer = buffers.computeIfAbsent(destination, key -> new ArrayList<>());
+            first = buffer.isEmpty();
+            buffer.add(payload);
+            if (buffer.size() >= maxBatchSize) {
+                full = buffers.remove(destination);
+            }
+        }
+        if (full != null) {
+            send(destination, full);
+        } else if (first) {
+            scheduler.schedule(() -> flush(destination), Instant.now().plus(flushWindow));
+        }
+    }
+
+    private void flush(String destination) {
+        List<Object> batch;
+        synchronized (buffers) {
+            batch = buffers.remove(destination);
+        }
+        if (batch != null && !batch.isEmpty()) {
+            send(destination, batch);
+        }
+    }
+
+    private void flushAll() {
+        List<String> destinations;
+        synchronized (buffers) {
+            destinations = List.copyOf(buffers.keySet());
+        }
+        destinations.forEach(this::flush);
+    }
+
+    private void send(String destination, List<Object> batch) {
+        try {
+            messagingTemplate.convertAndSend(destination, batch);
+            batchSizes.record(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Dropped {} messages for {}: {}", batch.size(), destination, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.todo_backend.websocket;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the STOMP sessions connected to this node, per user and per board.
+ * A session counts as viewing a board while it is subscribed to one of the
+ * board's destinations ({@code /topic/boards/{id}/...}). Everything is kept in
+ * memory and updated from the connect, subscribe, unsubscribe and disconnect
+ * events, so lookups never touch the database.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    static final Pattern BOARD_DESTINATION = Pattern.compile("/topic/boards/(\\d+)(/.*)?");
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, StompPrincipal>> viewersByBoard = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("todo.websocket.sessions", sessions, Map::size)
+                .description("STOMP sessions connected to this node")
+                .register(meterRegistry);
+        Gauge.builder("todo.websocket.users", sessionsByUser, Map::size)
+                .description("Users with at least one STOMP session on this node")
+                .register(meterRegistry);
+    }
+
+    public boolean isOnline(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /** Users with a session subscribed to the board, once each, ordered by user id. */
+    public List<StompPrincipal> getBoardViewers(Long boardId) {
+        Map<String, StompPrincipal> viewers = viewersByBoard.get(boardId);
+        if (viewers == null) {
+            return List.of();
+        }
+        Map<Long, StompPrincipal> distinct = new TreeMap<>();
+        viewers.values().forEach(viewer -> distinct.putIfAbsent(viewer.userId(), viewer));
+        return List.copyOf(distinct.values());
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        StompPrincipal principal = principalOf(event);
+        String sessionId = sessionIdOf(event);
+        if (principal == null || sessionId == null) {
+            return;
+        }
+        sessions.put(sessionId, new Session(principal));
+        sessionsByUser.compute(principal.userId(), (userId, ids) -> {
+            Set<String> updated = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            updated.add(sessionId);
+            return updated;
+        });
+        log.debug("User {} connected with session {}", principal.userId(), sessionId);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Session session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getDestination() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Matcher board = BOARD_DESTINATION.matcher(accessor.getDestination());
+        if (board.matches()) {
+            Long boardId = Long.valueOf(board.group(1));
+            session.boards.put(accessor.getSubscriptionId(), boardId);
+            String key = viewerKey(accessor.getSessionId(), accessor.getSubscriptionId());
+            viewersByBoard.compute(boardId, (id, viewers) -> {
+                Map<String, StompPrincipal> updated = viewers == null ? new ConcurrentHashMap<>() : viewers;
+                updated.put(key, session.principal);
+                return updated;
+            });
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Session session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Long boardId = session.boards.remove(accessor.getSubscriptionId());
+        if (boardId != null) {
+            removeViewer(boardId, viewerKey(accessor.getSessionId(), accessor.getSubscriptionId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Session session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        session.boards.forEach((subscriptionId, boardId) ->
+                removeViewer(boardId, viewerKey(event.getSessionId(), subscriptionId)));
+        sessionsByUser.computeIfPresent(session.principal.userId(), (userId, ids) -> {
+            ids.remove(event.getSessionId());
+            return ids.isEmpty() ? null : ids;
+        });
+        log.debug("User {} disconnected session {}", session.principal.userId(), event.getSessionId());
+    }
+
+    private void removeViewer(Long boardId, String key) {
+        viewersByBoard.computeIfPresent(boardId, (id, viewers) -> {
+            viewers.remove(key);
+            return viewers.isEmpty() ? null : viewers;
+        });
+    }
+
+    private StompPrincipal principalOf(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        return user instanceof StompPrincipal principal ? principal : null;
+    }
+
+    private String sessionIdOf(AbstractSubProtocolEvent event) {
+        return StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+    }
+
+    private static String viewerKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+
+    private static final class Session {
+        private final StompPrincipal principal;
+        private final Map<String, Long> boards = new ConcurrentHashMap<>();
+
+        private Session(StompPrincipal principal) {
+            this.principal = principal;
+        }
+    }
+}
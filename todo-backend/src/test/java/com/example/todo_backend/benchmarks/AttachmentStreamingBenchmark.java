@@ -0,0 +1,196 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Globals;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.todo_backend.controllers.AttachmentController;
+import com.example.todo_backend.services.AttachmentService;
+import com.example.todo_backend.storage.BlobContent;
+import com.example.todo_backend.storage.BlobStore;
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.management.ThreadMXBean;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streams a large attachment into the blob store, then downloads it through
+ * {@link AttachmentController} on an embedded Tomcat over loopback, and
+ * reports throughput, the process CPU time and what every thread allocated
+ * meanwhile. {@code SENDFILE} is the connector's sendfile path that downloads
+ * of 48 KB or more take; {@code STREAM} turns sendfile off, so the body goes
+ * through {@link BlobStore#transferTo} into the servlet output stream, which
+ * copies it through the JDK's and Tomcat's small heap buffers. The client
+ * reads into one direct buffer so its own allocations do not count. The
+ * upload, timed on every run, must not allocate anything near the file size.
+ */
+@EnabledIfSystemProperty(named = HibernateBenchmarkSupport.ENABLED_PROPERTY, matches = "true")
+class AttachmentStreamingBenchmark {
+
+    private static final long FILE_BYTES = 512L * 1024 * 1024;
+    private static final int ROUNDS = 3;
+
+    enum Transfer {
+        SENDFILE,
+        STREAM
+    }
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @EnumSource(Transfer.class)
+    void downloadLargeFile(Transfer transfer) throws Exception {
+        BlobStore blobStore = new BlobStore(dir.resolve("blobs").toString());
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        BlobStore.StoredBlob blob = blobStore.store(new GeneratedContent(FILE_BYTES), FILE_BYTES);
+        long uploadNanos = System.nanoTime() - start;
+        long uploadAllocated = allocatedBytes() - allocatedBefore;
+        assertEquals(FILE_BYTES, blob.size());
+
+        AttachmentService attachmentService = mock(AttachmentService.class);
+        when(attachmentService.getContent(1L)).thenReturn(new BlobContent(blob.hash(), "application/octet-stream", "large.bin"));
+        AttachmentController controller = new AttachmentController(attachmentService, null, blobStore);
+        AtomicBoolean sentByConnector = new AtomicBoolean();
+        Tomcat tomcat = start(transfer == Transfer.SENDFILE, new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                controller.getContent(1L, request, response);
+                sentByConnector.set(request.getAttribute(Globals.SENDFILE_FILENAME_ATTR) != null);
+            }
+        });
+        try {
+            int port = tomcat.getConnector().getLocalPort();
+            long bestNanos = Long.MAX_VALUE;
+            long sendAllocated = 0;
+            long cpuNanos = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                allocatedBefore = allocatedBytes();
+                long cpuBefore = processCpuNanos();
+                start = System.nanoTime();
+                long received = download(port);
+                long nanos = System.nanoTime() - start;
+                assertTrue(received > FILE_BYTES && received < FILE_BYTES + 4096, "received " + received + " bytes");
+                if (nanos < bestNanos) {
+                    bestNanos = nanos;
+                    sendAllocated = allocatedBytes() - allocatedBefore;
+                    cpuNanos = processCpuNanos() - cpuBefore;
+                }
+            }
+            assertEquals(transfer == Transfer.SENDFILE, sentByConnector.get());
+
+            System.out.printf("%-8s upload %6.0f MB/s (allocated %6d KB), download %6.0f MB/s (cpu %5d ms, allocated %6d KB) for %d MB%n",
+                    transfer, megabytesPerSecond(uploadNanos), uploadAllocated / 1024,
+                    megabytesPerSecond(bestNanos), cpuNanos / 1_000_000, sendAllocated / 1024, FILE_BYTES / (1024 * 1024));
+
+            assertTrue(uploadAllocated < FILE_BYTES / 16, "upload must not buffer the file in heap");
+            assertTrue(sendAllocated < FILE_BYTES / 16, "download must not buffer the file in heap");
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+    }
+
+    private Tomcat start(boolean sendfile, HttpServlet servlet) throws Exception {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(dir.resolve("tomcat").toString());
+        Connector connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("address", InetAddress.getLoopbackAddress().getHostAddress());
+        connector.setProperty("useSendfile", String.valueOf(sendfile));
+        tomcat.setConnector(connector);
+        Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "content", servlet);
+        context.addServletMappingDecoded("/content", "content");
+        tomcat.start();
+        return tomcat;
+    }
+
+    /** Bytes received for one {@code GET /content}, headers included. */
+    private static long download(int port) throws IOException {
+        try (SocketChannel socket = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            socket.write(ByteBuffer.wrap("GET /content HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII)));
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+            long total = 0;
+            int read;
+            while ((read = socket.read(buffer)) != -1) {
+                total += read;
+                buffer.clear();
+            }
+            return total;
+        }
+    }
+
+    private static double megabytesPerSecond(long nanos) {
+        return FILE_BYTES / (1024.0 * 1024.0) / (nanos / 1e9);
+    }
+
+    /** Allocated by every live thread so far, since sendfile runs on the connector's poller rather than the request thread. */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds())).filter(bytes -> bytes > 0).sum();
+    }
+
+    private static long processCpuNanos() {
+        return ((OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    /** A request body of the given length, generated as it is read so the benchmark holds none of it either. */
+    private static final class GeneratedContent extends InputStream {
+        private long remaining;
+        private long state = 0x9E3779B97F4A7C15L;
+
+        GeneratedContent(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                state ^= state << 13;
+                state ^= state >>> 7;
+                state ^= state << 17;
+                buffer[offset + i] = (byte) state;
+            }
+            remaining -= count;
+            return count;
+        }
+    }
+}
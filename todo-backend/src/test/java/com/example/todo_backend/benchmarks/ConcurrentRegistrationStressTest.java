@@ -0,0 +1,107 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.todo_backend.benchmarks.HibernateBenchmarkSupport.Mode;
+import com.example.todo_backend.entities.User;
+
+/**
+ * Fires many concurrent registrations that collide on username or on email
+ * (in different letter case) and checks that the unique indexes let exactly
+ * one registration per name through, rejecting the rest with a violation of
+ * the expected constraint.
+ */
+class ConcurrentRegistrationStressTest {
+
+    private static final int NAMES = 20;
+    private static final int ATTEMPTS_PER_NAME = 10;
+    private static final int THREADS = 16;
+
+    enum Collision {
+        USERNAME(User.UK_USERNAME),
+        EMAIL(User.UK_EMAIL);
+
+        private final String constraint;
+
+        Collision(String constraint) {
+            this.constraint = constraint;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Collision.class)
+    void concurrentRegistrationsKeepOneUserPerName(Collision collision) throws Exception {
+        try (SessionFactory sessionFactory = HibernateBenchmarkSupport.sessionFactory(Mode.POSTGRES, Map.of());
+             ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger registered = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int attempt = 0; attempt < NAMES * ATTEMPTS_PER_NAME; attempt++) {
+                User user = user(collision, attempt);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        sessionFactory.inTransaction(session -> session.persist(user));
+                        registered.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        assertEquals(collision.constraint, violatedConstraint(e));
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            long users = sessionFactory.fromTransaction(session ->
+                    session.createSelectionQuery("select count(u) from User u", Long.class).getSingleResult());
+            assertEquals(NAMES, registered.get());
+            assertEquals(NAMES * (ATTEMPTS_PER_NAME - 1), conflicts.get());
+            assertEquals(NAMES, users);
+        }
+    }
+
+    private static User user(Collision collision, int attempt) {
+        int name = attempt % NAMES;
+        User user = new User();
+        user.setPassword("hash");
+        if (collision == Collision.USERNAME) {
+            user.setUsername("user" + name);
+            user.setEmail("user" + attempt + "@example.com");
+        } else {
+            user.setUsername("user" + attempt);
+            String email = "shared" + name + "@example.com";
+            user.setEmail(attempt % 2 == 0 ? email : email.toUpperCase(Locale.ROOT));
+        }
+        return user;
+    }
+
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return name.contains(User.UK_USERNAME) ? User.UK_USERNAME
+                        : name.contains(User.UK_EMAIL) ? User.UK_EMAIL : name;
+            }
+        }
+        throw new AssertionError("not a constraint violation", e);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.todo_backend.benchmarks;
+
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import com.example.todo_backend.entities.Activity;
+import com.example.todo_backend.entities.Attachment;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
+import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.User;
+
+/**
+ * Builds a plain Hibernate SessionFactory over an in-memory H2 database so the
+ * gated benchmarks can exercise the real mappings without booting Spring.
+ * Run them with {@code mvn test -Dtest='*Benchmark' -Dbenchmarks=true}.
+ */
+final class HibernateBenchmarkSupport {
+
+    static final String ENABLED_PROPERTY = "benchmarks";
+
+    enum Mode {
+        H2(""),
+        POSTGRES(";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+
+        private final String urlSuffix;
+
+        Mode(String urlSuffix) {
+            this.urlSuffix = urlSuffix;
+        }
+    }
+
+    private HibernateBenchmarkSupport() {
+    }
+
+    static String jdbcUrl(Mode mode) {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" + mode.urlSuffix;
+    }
+
+    /** Settings may include a {@link DataSource} under {@link AvailableSettings#DATASOURCE}. */
+    static SessionFactory sessionFactory(Mode mode, Map<String, Object> settings) {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Board.class)
+                .addAnnotatedClass(BoardMember.class)
+                .addAnnotatedClass(ListEntity.class)
+                .addAnnotatedClass(Card.class)
+                .addAnnotatedClass(CardMember.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Attachment.class)
+                .addAnnotatedClass(Notification.class)
+                .addAnnotatedClass(NotificationEvent.class)
+                .addAnnotatedClass(Activity.class);
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        if (!settings.containsKey(AvailableSettings.DATASOURCE)) {
+            configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL, jdbcUrl(mode));
+            configuration.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa");
+            configuration.setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "");
+        }
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
+        configuration.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+        settings.forEach((key, value) -> {
+            if (value instanceof DataSource) {
+                configuration.getProperties().put(key, value);
+            } else {
+                configuration.setProperty(key, String.valueOf(value));
+            }
+        });
+        return configuration.buildSessionFactory();
+    }
+}
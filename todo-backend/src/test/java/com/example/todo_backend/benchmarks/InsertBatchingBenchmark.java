@@ -0,0 +1,115 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.todo_backend.benchmarks.HibernateBenchmarkSupport.Mode;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.User;
+
+@EnabledIfSystemProperty(named = HibernateBenchmarkSupport.ENABLED_PROPERTY, matches = "true")
+class InsertBatchingBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void bulkInsertNotificationsAndCards(Mode mode) {
+        Result unbatched = run(mode, 1);
+        Result batched = run(mode, BATCH_SIZE);
+
+        System.out.printf("%-8s unbatched: %s%n", mode, unbatched);
+        System.out.printf("%-8s batched:   %s%n", mode, batched);
+
+        assertEquals(ROWS, batched.notifications);
+        assertEquals(ROWS, batched.cards);
+        assertTrue(batched.statements * 10 < unbatched.statements,
+                "batching should cut prepared statements by at least 10x");
+    }
+
+    private Result run(Mode mode, int batchSize) {
+        Map<String, Object> settings = Map.of(
+                AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+                AvailableSettings.ORDER_INSERTS, true,
+                AvailableSettings.ORDER_UPDATES, true);
+        try (SessionFactory sessionFactory = HibernateBenchmarkSupport.sessionFactory(mode, settings)) {
+            User user = new User();
+            user.setUsername("bench");
+            user.setEmail("bench@example.com");
+            Board board = new Board();
+            board.setName("bench");
+            ListEntity list = new ListEntity();
+            list.setName("todo");
+            list.setBoard(board);
+            sessionFactory.inTransaction(session -> {
+                session.persist(user);
+                session.persist(board);
+                session.persist(list);
+            });
+
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+            long notificationsNanos = insert(sessionFactory, (session, i) -> {
+                Notification notification = new Notification();
+                notification.setMessage("notification " + i);
+                notification.setUser(session.getReference(User.class, user.getId()));
+                session.persist(notification);
+            });
+            long cardsNanos = insert(sessionFactory, (session, i) -> {
+                Card card = new Card();
+                card.setTitle("card " + i);
+                card.setList(session.getReference(ListEntity.class, list.getId()));
+                session.persist(card);
+            });
+            long statements = statistics.getPrepareStatementCount();
+
+            long notifications = count(sessionFactory, Notification.class);
+            long cards = count(sessionFactory, Card.class);
+            return new Result(notificationsNanos, cardsNanos, statements, notifications, cards);
+        }
+    }
+
+    private long insert(SessionFactory sessionFactory, BiConsumer<Session, Integer> persist) {
+        long start = System.nanoTime();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                persist.accept(session, i);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    private long count(SessionFactory sessionFactory, Class<?> entity) {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery("select count(e) from " + entity.getSimpleName() + " e", Long.class)
+                .getSingleResult());
+    }
+
+    private record Result(long notificationsNanos, long cardsNanos, long statements, long notifications, long cards) {
+
+        @Override
+        public String toString() {
+            return String.format("notifications %5d ms, cards %5d ms, %6d prepared statements",
+                    notificationsNanos / 1_000_000, cardsNanos / 1_000_000, statements);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.todo_backend.benchmarks.HibernateBenchmarkSupport.Mode;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Has 64 threads edit the cards of a single board at once. Each edit reads a
+ * counter kept in the card description and writes it back incremented, so a
+ * lost update shows up as a final sum below the number of committed edits.
+ * BLIND reads then writes unconditionally (the pre-version behaviour),
+ * PESSIMISTIC locks the row with SELECT ... FOR UPDATE, and OPTIMISTIC issues
+ * the same single conditional UPDATE as {@code CardRepository.updateContent},
+ * retrying when the version moved.
+ */
+@EnabledIfSystemProperty(named = HibernateBenchmarkSupport.ENABLED_PROPERTY, matches = "true")
+class OptimisticContentionBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int EDITS_PER_THREAD = 200;
+    private static final int CARDS = 8;
+
+    enum Strategy {
+        BLIND,
+        PESSIMISTIC,
+        OPTIMISTIC
+    }
+
+    @ParameterizedTest
+    @EnumSource(Strategy.class)
+    void sixtyFourEditorsOnOneBoard(Strategy strategy) throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(HibernateBenchmarkSupport.jdbcUrl(Mode.POSTGRES) + ";LOCK_TIMEOUT=10000");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(THREADS);
+        try (HikariDataSource dataSource = new HikariDataSource(config);
+             SessionFactory sessionFactory = HibernateBenchmarkSupport.sessionFactory(Mode.POSTGRES,
+                     Map.of(AvailableSettings.DATASOURCE, dataSource));
+             ExecutorService editors = Executors.newFixedThreadPool(THREADS)) {
+            List<Long> cardIds = seed(sessionFactory);
+
+            AtomicLong retries = new AtomicLong();
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(editors.submit(() -> {
+                    for (int i = 0; i < EDITS_PER_THREAD; i++) {
+                        Long cardId = cardIds.get(ThreadLocalRandom.current().nextInt(CARDS));
+                        retries.addAndGet(edit(sessionFactory, strategy, cardId));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            long committed = (long) THREADS * EDITS_PER_THREAD;
+            long applied = sessionFactory.fromTransaction(session -> session
+                    .createSelectionQuery("select c.description from Card c where c.id in :ids", String.class)
+                    .setParameter("ids", cardIds)
+                    .getResultList()
+                    .stream()
+                    .mapToLong(Long::parseLong)
+                    .sum());
+            System.out.printf("%-11s %6.0f edits/s, retries %6d, lost updates %6d of %d%n",
+                    strategy, committed * 1000.0 / millis, retries.get(), committed - applied, committed);
+
+            if (strategy != Strategy.BLIND) {
+                assertEquals(committed, applied);
+            }
+        }
+    }
+
+    /** Applies one increment and returns how many attempts had to be retried. */
+    private static int edit(SessionFactory sessionFactory, Strategy strategy, Long cardId) {
+        return switch (strategy) {
+            case BLIND -> {
+                sessionFactory.inTransaction(session -> {
+                    Object[] row = read(session, cardId);
+                    session.createMutationQuery("update Card c set c.description = :description where c.id = :id")
+                            .setParameter("description", next(row))
+                            .setParameter("id", cardId)
+                            .executeUpdate();
+                });
+                yield 0;
+            }
+            case PESSIMISTIC -> {
+                sessionFactory.inTransaction(session -> {
+                    Card card = session.find(Card.class, cardId, LockModeType.PESSIMISTIC_WRITE);
+                    card.setDescription(String.valueOf(Long.parseLong(card.getDescription()) + 1));
+                });
+                yield 0;
+            }
+            case OPTIMISTIC -> {
+                int retried = 0;
+                while (!sessionFactory.fromTransaction(session -> {
+                    Object[] row = read(session, cardId);
+                    return session.createMutationQuery("update Card c set c.description = :description, "
+                                    + "c.version = c.version + 1 where c.id = :id and c.version = :version")
+                            .setParameter("description", next(row))
+                            .setParameter("id", cardId)
+                            .setParameter("version", row[1])
+                            .executeUpdate() == 1;
+                })) {
+                    retried++;
+                }
+                yield retried;
+            }
+        };
+    }
+
+    private static Object[] read(Session session, Long cardId) {
+        return session.createSelectionQuery("select c.description, c.version from Card c where c.id = :id", Object[].class)
+                .setParameter("id", cardId)
+                .getSingleResult();
+    }
+
+    private static String next(Object[] row) {
+        return String.valueOf(Long.parseLong((String) row[0]) + 1);
+    }
+
+    private static List<Long> seed(SessionFactory sessionFactory) {
+        return sessionFactory.fromTransaction(session -> {
+            Board board = new Board();
+            board.setName("contended");
+            session.persist(board);
+            ListEntity list = new ListEntity();
+            list.setName("doing");
+            list.setBoard(board);
+            session.persist(list);
+            List<Long> ids = new ArrayList<>();
+            for (int c = 0; c < CARDS; c++) {
+                Card card = new Card();
+                card.setTitle("card " + c);
+                card.setDescription("0");
+                card.setList(list);
+                session.persist(card);
+                ids.add(card.getId());
+            }
+            return ids;
+        });
+    }
+}
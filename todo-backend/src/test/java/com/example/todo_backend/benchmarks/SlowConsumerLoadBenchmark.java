@@ -0,0 +1,135 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.todo_backend.websocket.SlowConsumerProtection;
+import com.example.todo_backend.websocket.SlowConsumerProtection.Policy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Publishes a burst of board frames to thousands of simulated subscribers, some
+ * of which read slowly or not at all, and checks that the memory held in send
+ * buffers stays bounded while healthy subscribers receive everything.
+ */
+@EnabledIfSystemProperty(named = HibernateBenchmarkSupport.ENABLED_PROPERTY, matches = "true")
+class SlowConsumerLoadBenchmark {
+
+    private static final int FAST = 1000;
+    private static final int SLOW = 2000;
+    private static final int STALLED = 1000;
+    private static final int FRAMES = 100;
+    private static final int FRAME_BYTES = 1024;
+    private static final Duration PUBLISH_INTERVAL = Duration.ofMillis(20);
+    private static final DataSize BUFFER_LIMIT = DataSize.ofKilobytes(64);
+
+    @ParameterizedTest
+    @EnumSource(Policy.class)
+    void burstToSlowSubscribers(Policy policy) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SlowConsumerProtection protection = new SlowConsumerProtection(meterRegistry);
+        ReflectionTestUtils.setField(protection, "policy", policy);
+        ReflectionTestUtils.setField(protection, "bufferSizeLimit", BUFFER_LIMIT);
+        ReflectionTestUtils.setField(protection, "sendTimeLimit", Duration.ofMillis(500));
+
+        CountDownLatch stalled = new CountDownLatch(1);
+        AtomicInteger fastReceived = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        List<WebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < FAST + SLOW + STALLED; i++) {
+            Duration delay = i < FAST ? Duration.ZERO : i < FAST + SLOW ? Duration.ofMillis(50) : null;
+            sessions.add(protection.decorate(subscriber(delay, stalled, fastReceived, closed)));
+        }
+
+        AtomicLong peakBuffered = new AtomicLong();
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            try {
+                while (true) {
+                    peakBuffered.accumulateAndGet(protection.getBufferedBytes(), Math::max);
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            TextMessage message = frame("/topic/boards/1/events", frame);
+            for (WebSocketSession session : sessions) {
+                session.sendMessage(message);
+            }
+            Thread.sleep(PUBLISH_INTERVAL);
+        }
+        long publishMillis = (System.nanoTime() - start) / 1_000_000;
+        waitFor(() -> fastReceived.get() == FAST * FRAMES);
+        sampler.interrupt();
+        stalled.countDown();
+
+        long ceiling = (long) sessions.size() * (BUFFER_LIMIT.toBytes() + FRAME_BYTES + 256);
+        System.out.printf("%-11s publish %5d ms, peak buffered %7d KB (ceiling %7d KB), dropped %8.0f, "
+                        + "disconnected buffer=%.0f time=%.0f%n",
+                policy, publishMillis, peakBuffered.get() / 1024, ceiling / 1024,
+                meterRegistry.find("todo.websocket.slow.dropped").counters().stream().mapToDouble(c -> c.count()).sum(),
+                meterRegistry.get("todo.websocket.slow.disconnected").tag("reason", "buffer").counter().count(),
+                meterRegistry.get("todo.websocket.slow.disconnected").tag("reason", "time").counter().count());
+
+        assertEquals(FAST * FRAMES, fastReceived.get());
+        assertTrue(peakBuffered.get() <= ceiling, "send buffers must stay bounded");
+        if (policy == Policy.DISCONNECT) {
+            assertTrue(closed.get() >= STALLED, "every stalled subscriber should be disconnected");
+        }
+    }
+
+    private WebSocketSession subscriber(Duration delay, CountDownLatch stalled,
+                                        AtomicInteger fastReceived, AtomicInteger closed) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            if (delay == null) {
+                stalled.await(30, TimeUnit.SECONDS);
+            } else if (delay.isZero()) {
+                fastReceived.incrementAndGet();
+            } else {
+                Thread.sleep(delay);
+            }
+            return null;
+        }).when(session).sendMessage(any());
+        doAnswer(invocation -> closed.incrementAndGet()).when(session).close(any());
+        return session;
+    }
+
+    private static TextMessage frame(String destination, int sequence) {
+        String body = "[" + sequence + ",\"" + "x".repeat(FRAME_BYTES) + "\"]";
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n"
+                + "content-length:" + body.length() + "\n\n" + body + "\0");
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.todo_backend.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.todo_backend.benchmarks.HibernateBenchmarkSupport.Mode;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Runs 2000 concurrent clients that each load a board with its lists and
+ * cards through Hibernate and Hikari, then block on a simulated downstream
+ * call, once on a 200-thread platform pool (Tomcat's default) and once on
+ * virtual threads. The virtual run also records JFR pinning events so
+ * blocking inside a monitor on the JPA/JDBC path shows up.
+ */
+@EnabledIfSystemProperty(named = HibernateBenchmarkSupport.ENABLED_PROPERTY, matches = "true")
+class VirtualThreadLoadBenchmark {
+
+    private static final int CLIENTS = 2000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int POOL_SIZE = 50;
+    private static final int BOARDS = 20;
+    private static final Duration RUN = Duration.ofSeconds(10);
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofMillis(20);
+
+    enum Model {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @ParameterizedTest
+    @EnumSource(Model.class)
+    void boardLoadsAt2kConcurrentClients(Model model) throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(HibernateBenchmarkSupport.jdbcUrl(Mode.POSTGRES));
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        try (HikariDataSource dataSource = new HikariDataSource(config);
+             SessionFactory sessionFactory = HibernateBenchmarkSupport.sessionFactory(Mode.POSTGRES,
+                     Map.of(AvailableSettings.DATASOURCE, dataSource));
+             ExecutorService server = model == Model.VIRTUAL
+                     ? Executors.newVirtualThreadPerTaskExecutor()
+                     : Executors.newFixedThreadPool(PLATFORM_THREADS);
+             RecordingStream pinning = new RecordingStream()) {
+            List<Long> boardIds = seed(sessionFactory);
+
+            AtomicInteger pinnedEvents = new AtomicInteger();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            AtomicInteger failed = new AtomicInteger();
+            List<List<Long>> latencies = new ArrayList<>();
+            long deadline = System.nanoTime() + RUN.toNanos();
+            List<Thread> clients = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                Long boardId = boardIds.get(i % boardIds.size());
+                List<Long> samples = new ArrayList<>();
+                latencies.add(samples);
+                clients.add(Thread.ofVirtual().start(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            if (server.submit(() -> loadBoard(sessionFactory, boardId)).get() != 50) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                        samples.add((System.nanoTime() - start) / 1_000_000);
+                    }
+                }));
+            }
+            for (Thread client : clients) {
+                client.join();
+            }
+            pinning.stop();
+
+            long[] millis = latencies.stream().flatMap(List::stream).mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%-8s %6.0f board loads/s, p50 %5d ms, p99 %5d ms, max %5d ms, failed %d, pinned events %d%n",
+                    model, millis.length / (double) RUN.toSeconds(),
+                    millis[millis.length / 2], millis[millis.length * 99 / 100], millis[millis.length - 1],
+                    failed.get(), pinnedEvents.get());
+
+            assertEquals(0, failed.get());
+            assertTrue(millis.length > CLIENTS);
+        }
+    }
+
+    /** One board page: the board, its lists and their cards, then a blocking downstream call. */
+    private static int loadBoard(SessionFactory sessionFactory, Long boardId) throws InterruptedException {
+        int cards = sessionFactory.fromTransaction(session -> {
+            session.find(Board.class, boardId);
+            session.createSelectionQuery("from ListEntity l where l.board.id = :boardId", ListEntity.class)
+                    .setParameter("boardId", boardId)
+                    .getResultList();
+            return session.createSelectionQuery("from Card c where c.list.board.id = :boardId", Card.class)
+                    .setParameter("boardId", boardId)
+                    .getResultList()
+                    .size();
+        });
+        Thread.sleep(DOWNSTREAM_LATENCY);
+        return cards;
+    }
+
+    private static List<Long> seed(SessionFactory sessionFactory) {
+        return sessionFactory.fromTransaction(session -> {
+            List<Long> ids = new ArrayList<>();
+            for (int b = 0; b < BOARDS; b++) {
+                Board board = new Board();
+                board.setName("board " + b);
+                session.persist(board);
+                for (int l = 0; l < 5; l++) {
+                    ListEntity list = new ListEntity();
+                    list.setName("list " + l);
+                    list.setBoard(board);
+                    session.persist(list);
+                    for (int c = 0; c < 10; c++) {
+                        Card card = new Card();
+                        card.setTitle("card " + c);
+                        card.setList(list);
+                        session.persist(card);
+                    }
+                }
+                ids.add(board.getId());
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.todo_backend.controllers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.todo_backend.dtos.AttachmentDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.services.AttachmentService;
+import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.storage.BlobContent;
+import com.example.todo_backend.storage.BlobStore;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentControllerTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    @Mock
+    private AuthService authService;
+
+    private MockMvc mockMvc;
+    private String hash;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BlobStore blobStore = new BlobStore(dir.toString());
+        hash = blobStore.store(new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)), 100).hash();
+        mockMvc = MockMvcBuilders.standaloneSetup(new AttachmentController(attachmentService, authService, blobStore))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getContent_shouldSendWholeBlobWithHashAsETag() throws Exception {
+        when(attachmentService.getContent(5L)).thenReturn(new BlobContent(hash, "text/plain", "notes.txt"));
+
+        mockMvc.perform(get("/api/attachments/5/content"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"notes.txt\""))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void getContent_shouldSendRequestedRange() throws Exception {
+        when(attachmentService.getContent(5L)).thenReturn(new BlobContent(hash, "text/plain", "notes.txt"));
+
+        mockMvc.perform(get("/api/attachments/5/content").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get("/api/attachments/5/content").header(HttpHeaders.RANGE, "bytes=-3")
+                        .header(HttpHeaders.IF_RANGE, "\"" + hash + "\""))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    void getContent_shouldIgnoreRangeWhenIfRangeIsStale() throws Exception {
+        when(attachmentService.getContent(5L)).thenReturn(new BlobContent(hash, "text/plain", "notes.txt"));
+
+        mockMvc.perform(get("/api/attachments/5/content").header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void getContent_shouldRejectRangePastTheEnd() throws Exception {
+        when(attachmentService.getContent(5L)).thenReturn(new BlobContent(hash, "text/plain", "notes.txt"));
+
+        mockMvc.perform(get("/api/attachments/5/content").header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void getContent_shouldAnswerNotModifiedForMatchingETag() throws Exception {
+        when(attachmentService.getContent(5L)).thenReturn(new BlobContent(hash, "text/plain", "notes.txt"));
+
+        mockMvc.perform(get("/api/attachments/5/content").header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void uploadAttachment_shouldPassTheRawBodyStream() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+        when(attachmentService.uploadAttachment(eq(7L), eq(2L), eq("photo.png"), eq("image/png"), anyLong(),
+                any(InputStream.class)))
+                .thenReturn(new AttachmentDTO(5L, 7L, "photo.png", "image/png", 3, hash, false, 2L, LocalDateTime.now()));
+
+        mockMvc.perform(post("/api/attachments/uploadAttachment/7").param("name", "photo.png")
+                        .contentType("image/png").content(new byte[] { 1, 2, 3 }))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5L))
+                .andExpect(jsonPath("$.contentHash").value(hash));
+    }
+
+    @Test
+    void uploadAttachment_shouldReturnBadRequestForFormUpload() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+        when(attachmentService.uploadAttachment(eq(7L), eq(2L), eq("a.txt"), any(), anyLong(), any(InputStream.class)))
+                .thenThrow(new BadRequestException("Send the file as the request body, not as a form"));
+
+        mockMvc.perform(post("/api/attachments/uploadAttachment/7").param("name", "a.txt")
+                        .contentType("multipart/form-data; boundary=x").content("--x--"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -10,7 +10,6 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -38,9 +37,6 @@ class AuthControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
-    @Mock
-    private org.springframework.security.core.userdetails.UserDetailsService userDetailsService;
-
     @Mock
     private PasswordResetService passwordResetService;
 
@@ -49,7 +45,6 @@ class AuthControllerTest {
 
     private ObjectMapper objectMapper = new ObjectMapper();
     private User testUser;
-    private UserDetails testUserDetails;
 
     @BeforeEach
     void setUp() {
@@ -60,12 +55,6 @@ class AuthControllerTest {
         testUser.setUsername("testuser");
         testUser.setEmail("test@example.com");
         testUser.setPassword("encodedPassword");
-
-        testUserDetails = org.springframework.security.core.userdetails.User.builder()
-                .username("testuser")
-                .password("encodedPassword")
-                .authorities("USER")
-                .build();
     }
 
     @Test
@@ -85,8 +74,7 @@ class AuthControllerTest {
     void loginUser_shouldReturnJwtToken() throws Exception {
         LoginRequest loginRequest = new LoginRequest("testuser", "password");
         when(authService.authenticate(any(LoginRequest.class))).thenReturn(testUser);
-        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(testUserDetails);
-        when(jwtUtil.generateToken(any(UserDetails.class))).thenReturn("test-token");
+        when(jwtUtil.generateToken(testUser)).thenReturn("test-token");
 
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
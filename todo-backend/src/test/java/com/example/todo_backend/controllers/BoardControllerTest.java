@@ -10,23 +10,37 @@ import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.example.todo_backend.dtos.AuditEventDTO;
+import com.example.todo_backend.dtos.AuditPageDTO;
+import com.example.todo_backend.dtos.BoardChangesDTO;
+import com.example.todo_backend.dtos.BoardCloneDTO;
 import com.example.todo_backend.dtos.BoardDTO;
 import com.example.todo_backend.dtos.BoardUpdateDTO;
+import com.example.todo_backend.dtos.BoardViewerDTO;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.BoardService;
+import com.example.todo_backend.services.PresenceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +54,18 @@ class BoardControllerTest {
     @Mock
     private BoardService boardService;
 
+    @Mock
+    private PresenceService presenceService;
+
+    @Mock
+    private BoardRevisionService boardRevisionService;
+
+    @Mock
+    private BoardChangeService boardChangeService;
+
+    @Mock
+    private AuditService auditService;
+
     @InjectMocks
     private BoardController boardController;
 
@@ -107,6 +133,89 @@ class BoardControllerTest {
         verify(boardService).getBoardById(boardId);
     }
 
+    @Test
+    void getBoardById_shouldTagResponseWithBoardRevision() throws Exception {
+        Long boardId = 1L;
+        when(boardRevisionService.getBoardRevision(boardId)).thenReturn(7L);
+        when(boardService.getBoardById(boardId)).thenReturn(testBoardDTO);
+
+        mockMvc.perform(get("/api/boards/getBoard/{id}", boardId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    void getBoardById_shouldReturnNotModifiedWithoutLoadingBoard() throws Exception {
+        Long boardId = 1L;
+        when(boardRevisionService.getBoardRevision(boardId)).thenReturn(7L);
+
+        mockMvc.perform(get("/api/boards/getBoard/{id}", boardId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"r7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r7\""));
+
+        verify(boardService, never()).getBoardById(any());
+    }
+
+    @Test
+    void getBoardChanges_shouldReturnDeltaSinceRevision() throws Exception {
+        BoardChangesDTO changes = new BoardChangesDTO();
+        changes.setBoardId(1L);
+        changes.setSince(4L);
+        changes.setRevision(6L);
+        changes.getDeletedCardIds().add(12L);
+        when(boardChangeService.getChangesSince(1L, 4L)).thenReturn(changes);
+
+        mockMvc.perform(get("/api/boards/{id}/changes", 1L).param("since", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revision").value(6))
+                .andExpect(jsonPath("$.resync").value(false))
+                .andExpect(jsonPath("$.deletedCardIds[0]").value(12));
+    }
+
+    @Test
+    void getBoardHistory_shouldReturnFirstPageByDefault() throws Exception {
+        AuditEventDTO event = new AuditEventDTO(90L, AuditEventType.LIST_CREATED, 2L, "alice", 1L, 4L, null, "Done", null);
+        when(auditService.getBoardHistory(1L, null, 50)).thenReturn(new AuditPageDTO(List.of(event), 90L));
+
+        mockMvc.perform(get("/api/boards/{id}/history", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].type").value("LIST_CREATED"))
+                .andExpect(jsonPath("$.events[0].actorName").value("alice"))
+                .andExpect(jsonPath("$.nextBefore").value(90));
+    }
+
+    @Test
+    void cloneBoard_shouldReturnTheCopy() throws Exception {
+        BoardCloneDTO cloneDTO = new BoardCloneDTO("Sprint 2", true);
+        BoardDTO copy = new BoardDTO();
+        copy.setId(2L);
+        copy.setName("Sprint 2");
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        when(boardService.cloneBoard(eq(1L), any(BoardCloneDTO.class), eq(1L))).thenReturn(copy);
+
+        mockMvc.perform(post("/api/boards/{id}/clone", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cloneDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(2L))
+                .andExpect(jsonPath("$.name").value("Sprint 2"));
+    }
+
+    @Test
+    void cloneBoard_shouldReturnNotFoundForNonMembers() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(3L);
+        when(boardService.cloneBoard(eq(1L), any(BoardCloneDTO.class), eq(3L)))
+                .thenThrow(new ResourceNotFoundException("Board", "id", 1L));
+
+        mockMvc.perform(post("/api/boards/{id}/clone", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BoardCloneDTO("Mine now", true))))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getBoardsByUserId_shouldReturnListOfBoardDTOs() throws Exception {
         Long userId = 1L;
@@ -161,4 +270,18 @@ class BoardControllerTest {
 
         verify(boardService).getBoardById(boardId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBoardPresence_shouldReturnViewers() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        when(presenceService.getBoardViewers(5L, 1L))
+                .thenReturn(List.of(new BoardViewerDTO(1L, "alice"), new BoardViewerDTO(2L, "bob")));
+
+        mockMvc.perform(get("/api/boards/5/presence"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].username").value("bob"));
+
+        verify(presenceService).getBoardViewers(5L, 1L);
+    }
+}
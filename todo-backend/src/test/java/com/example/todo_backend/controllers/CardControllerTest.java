@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -14,18 +15,25 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.example.todo_backend.dtos.AuditPageDTO;
 import com.example.todo_backend.dtos.CardDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.CardService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -40,6 +48,12 @@ class CardControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private BoardRevisionService boardRevisionService;
+
+    @Mock
+    private AuditService auditService;
+
     @InjectMocks
     private CardController cardController;
 
@@ -91,6 +105,36 @@ class CardControllerTest {
         verify(cardService).updateCard(eq(cardId), any(CardDTO.class));
     }
 
+    @Test
+    void updateCard_shouldUseIfMatchVersionAndReturnNewEtag() throws Exception {
+        Long cardId = 1L;
+        CardDTO updated = new CardDTO();
+        updated.setId(cardId);
+        updated.setVersion(4L);
+        when(cardService.updateCard(eq(cardId), argThat(dto -> Long.valueOf(3L).equals(dto.getVersion()))))
+                .thenReturn(updated);
+
+        mockMvc.perform(put("/api/cards/updateCard/{cardId}", cardId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testCardDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void updateCard_shouldReturnPreconditionFailedForStaleVersion() throws Exception {
+        Long cardId = 1L;
+        when(cardService.updateCard(eq(cardId), any(CardDTO.class)))
+                .thenThrow(new PreconditionFailedException("Card 1 was modified by someone else; reload and try again"));
+
+        mockMvc.perform(put("/api/cards/updateCard/{cardId}", cardId)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testCardDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void getCardsByList_shouldReturnListOfCardDTOs() throws Exception {
         Long listId = 1L;
@@ -107,6 +151,30 @@ class CardControllerTest {
         verify(cardService).getCardsByListId(listId);
     }
 
+    @Test
+    void getCardsByList_shouldReturnCardsWhenBoardRevisionMoved() throws Exception {
+        Long listId = 1L;
+        when(boardRevisionService.getListRevision(listId)).thenReturn(8L);
+        when(cardService.getCardsByListId(listId)).thenReturn(List.of(testCardDTO));
+
+        mockMvc.perform(get("/api/cards/getCardsByList/{listId}", listId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"r7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r8\""))
+                .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
+    @Test
+    void getCardHistory_shouldPassCursorAndLimit() throws Exception {
+        when(auditService.getCardHistory(1L, 500L, 20)).thenReturn(new AuditPageDTO(List.of(), null));
+
+        mockMvc.perform(get("/api/cards/{id}/history", 1L).param("before", "500").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events").isEmpty());
+
+        verify(auditService).getCardHistory(1L, 500L, 20);
+    }
+
     @Test
     void deleteCard_shouldReturnNoContent() throws Exception {
         Long cardId = 1L;
@@ -118,6 +186,36 @@ class CardControllerTest {
         verify(cardService).deleteCard(cardId);
     }
 
+    @Test
+    void watchCard_shouldWatchAsCurrentUser() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+
+        mockMvc.perform(post("/api/cards/{id}/watch", 1L))
+                .andExpect(status().isNoContent());
+
+        verify(cardService).watchCard(1L, 2L);
+    }
+
+    @Test
+    void watchCard_shouldReturnBadRequestForUserOutsideTheBoard() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+        doThrow(new BadRequestException("Only members of the board can watch card 1"))
+                .when(cardService).watchCard(1L, 2L);
+
+        mockMvc.perform(post("/api/cards/{id}/watch", 1L))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unwatchCard_shouldUnwatchAsCurrentUser() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+
+        mockMvc.perform(delete("/api/cards/{id}/watch", 1L))
+                .andExpect(status().isNoContent());
+
+        verify(cardService).unwatchCard(1L, 2L);
+    }
+
     @Test
     void createCard_shouldHandleServiceException() throws Exception {
         Long userId = 1L;
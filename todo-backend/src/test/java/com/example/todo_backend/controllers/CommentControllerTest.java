@@ -25,6 +25,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.example.todo_backend.dtos.CommentDTO;
+import com.example.todo_backend.dtos.CommentPageDTO;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.services.AuthService;
 import com.example.todo_backend.services.CommentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -36,6 +39,9 @@ class CommentControllerTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private AuthService authService;
+
     @Mock
     private Principal principal;
 
@@ -123,4 +129,48 @@ class CommentControllerTest {
 
         verify(commentService).deleteComment(commentId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCommentPage_shouldPassCursorAndThreading() throws Exception {
+        when(commentService.getCommentPage(1L, "abc", 20, true))
+                .thenReturn(new CommentPageDTO(List.of(testCommentDTO), "def"));
+
+        mockMvc.perform(get("/api/comments/getCommentPage/{cardId}", 1L)
+                .param("cursor", "abc")
+                .param("limit", "20")
+                .param("threaded", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void getCommentPage_shouldRejectInvalidCursor() throws Exception {
+        when(commentService.getCommentPage(1L, "bad", 50, false))
+                .thenThrow(new BadRequestException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/comments/getCommentPage/{cardId}", 1L).param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReplyPage_shouldPassCursorAndLimit() throws Exception {
+        when(commentService.getReplyPage(1L, "abc", 20)).thenReturn(new CommentPageDTO(List.of(testCommentDTO), null));
+
+        mockMvc.perform(get("/api/comments/getReplyPage/{commentId}", 1L)
+                .param("cursor", "abc")
+                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].id").value(1L));
+    }
+
+    @Test
+    void getMentions_shouldReturnCommentsMentioningCurrentUser() throws Exception {
+        when(authService.getCurrentUserId()).thenReturn(2L);
+        when(commentService.getMentions(2L, null, 50)).thenReturn(new CommentPageDTO(List.of(testCommentDTO), null));
+
+        mockMvc.perform(get("/api/comments/getMentions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].content").value("Test comment"));
+    }
+}
@@ -24,6 +24,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.example.todo_backend.dtos.ListDTO;
+import com.example.todo_backend.services.BoardRevisionService;
 import com.example.todo_backend.services.ListService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -35,6 +36,9 @@ class ListControllerTest {
     @Mock
     private ListService listService;
 
+    @Mock
+    private BoardRevisionService boardRevisionService;
+
     @InjectMocks
     private ListController listController;
 
@@ -0,0 +1,64 @@
+package com.example.todo_backend.controllers;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.todo_backend.dtos.UndoStateDTO;
+import com.example.todo_backend.exceptions.ConflictException;
+import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.UndoService;
+
+@ExtendWith(MockitoExtension.class)
+class UndoControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private UndoService undoService;
+
+    @Mock
+    private AuthService authService;
+
+    @InjectMocks
+    private UndoController undoController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(undoController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        when(authService.getCurrentUserId()).thenReturn(2L);
+    }
+
+    @Test
+    void undo_shouldReturnAppliedOperationAndRemainingStacks() throws Exception {
+        when(undoService.undo(2L)).thenReturn(new UndoStateDTO("Restore list Doing with 3 cards", 1L,
+                List.of(), List.of("Delete list Doing")));
+
+        mockMvc.perform(post("/api/undo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value("Restore list Doing with 3 cards"))
+                .andExpect(jsonPath("$.boardId").value(1L))
+                .andExpect(jsonPath("$.redo[0]").value("Delete list Doing"));
+    }
+
+    @Test
+    void redo_shouldReturnConflictWhenNothingWasUndone() throws Exception {
+        when(undoService.redo(2L)).thenThrow(new ConflictException("Nothing to redo"));
+
+        mockMvc.perform(post("/api/undo/redo"))
+                .andExpect(status().isConflict());
+    }
+}
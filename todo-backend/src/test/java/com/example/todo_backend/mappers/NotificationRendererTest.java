@@ -0,0 +1,150 @@
+package com.example.todo_backend.mappers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo_backend.dtos.NotificationDTO;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRendererTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private BoardRepository boardRepository;
+    @Spy private NotificationMapper notificationMapper = new NotificationMapperImpl();
+
+    @InjectMocks
+    private NotificationRenderer notificationRenderer;
+
+    private final User alice = createTestUser(1L, "alice");
+    private final User bob = createTestUser(2L, "bob");
+    private final Board board = createTestBoard();
+
+    @Test
+    void render_shouldUseCurrentActorAndBoardNames() {
+        stubNames();
+        Notification notification = createNotification(
+                NotificationEvent.of(NotificationType.CARD_CREATED, alice, board, 7L, "Write docs"));
+
+        NotificationDTO dto = notificationRenderer.render(notification);
+
+        assertEquals("alice created card: Write docs in board: Sprint", dto.message());
+        assertEquals(NotificationType.CARD_CREATED, dto.type());
+        assertEquals(7L, dto.entityId());
+        assertEquals("Write docs", dto.title());
+        assertEquals(2L, dto.userId());
+    }
+
+    @Test
+    void render_shouldDescribeCountedDigest() {
+        stubNames();
+        Notification digest = createNotification(
+                NotificationEvent.of(NotificationType.CARD_MOVED, alice, board, 7L, "A"));
+        digest.setEventCount(50);
+
+        assertEquals("alice moved 50 cards in board: Sprint", notificationRenderer.render(digest).message());
+    }
+
+    @Test
+    void render_shouldDescribeMixedDigest() {
+        stubNames();
+        Notification digest = createNotification(
+                NotificationEvent.of(NotificationType.COMMENT_ADDED, alice, board, 7L, "A"));
+        digest.setEventCount(2);
+        digest.setSeveralActors(true);
+        digest.setSeveralTypes(true);
+
+        NotificationDTO dto = notificationRenderer.render(digest);
+
+        assertEquals("2 changes by several members in board: Sprint", dto.message());
+        assertNull(dto.actorId());
+        assertNull(dto.type());
+        assertEquals(10L, dto.boardId());
+    }
+
+    @Test
+    void render_shouldFallBackWhenActorAndBoardAreGone() {
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(boardRepository.findAllById(anyCollection())).thenReturn(List.of());
+        Notification notification = createNotification(
+                NotificationEvent.of(NotificationType.LIST_DELETED, alice, board, 3L, "Done"));
+
+        assertEquals("Someone deleted list: Done from board: a deleted board",
+                notificationRenderer.render(notification).message());
+    }
+
+    @Test
+    void render_shouldTreatDeletedActorAsUnknown() {
+        User deleted = createTestUser(1L, null);
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(deleted));
+        when(boardRepository.findAllById(anyCollection())).thenReturn(List.of(board));
+        Notification notification = createNotification(
+                NotificationEvent.of(NotificationType.CARD_DELETED, alice, board, 7L, "Old"));
+
+        assertEquals("Someone deleted card: Old from board: Sprint", notificationRenderer.render(notification).message());
+    }
+
+    @Test
+    void render_shouldRenderEventsWithoutABoard() {
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(alice));
+        Notification notification = createNotification(
+                NotificationEvent.of(NotificationType.ACTIVITY_CREATED, alice, null, 4L, "MEETING : Standup"));
+
+        assertEquals("You have been added by alice to a new MEETING : Standup",
+                notificationRenderer.render(notification).message());
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void render_shouldKeepStoredMessageOfLegacyRows() {
+        Notification legacy = new Notification();
+        legacy.setUser(bob);
+        legacy.setMessage("alice deleted board: Old");
+
+        assertEquals("alice deleted board: Old", notificationRenderer.render(legacy).message());
+        verifyNoInteractions(userRepository, boardRepository);
+    }
+
+    private void stubNames() {
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(alice));
+        when(boardRepository.findAllById(anyCollection())).thenReturn(List.of(board));
+    }
+
+    private Notification createNotification(NotificationEvent event) {
+        Notification notification = new Notification();
+        notification.setUser(bob);
+        notification.setEvent(event);
+        return notification;
+    }
+
+    private Board createTestBoard() {
+        Board board = new Board();
+        board.setId(10L);
+        board.setName("Sprint");
+        return board;
+    }
+
+    private User createTestUser(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.todo_backend.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.InOrder;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.todo_backend.entities.OutboxMessage;
+import com.example.todo_backend.repositories.OutboxMessageRepository;
+import com.example.todo_backend.repositories.OutboxMessageRepository.PendingHead;
+import com.example.todo_backend.websocket.WebSocketSessionRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock private OutboxMessageRepository outboxMessageRepository;
+    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private WebSocketSessionRegistry sessionRegistry;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxMessageRepository, messagingTemplate, sessionRegistry, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "maxBackoff", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void drain_shouldDeliverInOrderPerDestinationWithDedupHeader() {
+        OutboxMessage first = createTestMessage(1L, "/topic/notifications/1", "a");
+        OutboxMessage other = createTestMessage(2L, "/topic/notifications/2", "b");
+        OutboxMessage second = createTestMessage(3L, "/topic/notifications/1", "c");
+        when(outboxMessageRepository.claimPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, other, second));
+
+        int relayed = relay.drain();
+
+        assertEquals(3, relayed);
+        InOrder order = inOrder(messagingTemplate);
+        order.verify(messagingTemplate).convertAndSend("/topic/notifications/1", "a",
+                Map.<String, Object>of(OutboxRelay.DEDUP_HEADER, "dedup-1"));
+        order.verify(messagingTemplate).convertAndSend("/topic/notifications/1", "c",
+                Map.<String, Object>of(OutboxRelay.DEDUP_HEADER, "dedup-3"));
+        order.verify(messagingTemplate).convertAndSend("/topic/notifications/2", "b",
+                Map.<String, Object>of(OutboxRelay.DEDUP_HEADER, "dedup-2"));
+        assertNotNull(first.getDeliveredAt());
+        assertNotNull(second.getDeliveredAt());
+        assertEquals(3.0, meterRegistry.counter("todo.outbox.delivered").count());
+    }
+
+    @Test
+    void drain_shouldRescheduleRemainingMessagesOfFailedDestination() {
+        OutboxMessage failing = createTestMessage(1L, "/topic/notifications/1", "a");
+        OutboxMessage queued = createTestMessage(2L, "/topic/notifications/1", "b");
+        OutboxMessage healthy = createTestMessage(3L, "/topic/notifications/2", "c");
+        when(outboxMessageRepository.claimPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(failing, queued, healthy));
+        doThrow(new MessageDeliveryException("broker unavailable"))
+                .when(messagingTemplate).convertAndSend(eq("/topic/notifications/1"), eq("a"), any(Map.class));
+
+        relay.drain();
+
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/notifications/1"), eq("b"), any(Map.class));
+        assertNull(failing.getDeliveredAt());
+        assertNull(queued.getDeliveredAt());
+        assertEquals(1, queued.getAttempts());
+        assertTrue(queued.getAvailableAt().isAfter(LocalDateTime.now()));
+        assertNotNull(healthy.getDeliveredAt());
+        assertEquals(2.0, meterRegistry.counter("todo.outbox.failed").count());
+    }
+
+    @Test
+    void drain_shouldHoldBackMessagesQueuedBehindOneClaimedElsewhere() {
+        OutboxMessage behind = createTestMessage(3L, "/queue/notifications", "a");
+        behind.setRecipientId(1L);
+        OutboxMessage other = createTestMessage(4L, "/topic/notifications/2", "b");
+        when(outboxMessageRepository.claimPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(behind, other));
+        when(outboxMessageRepository.findPendingHeads(eq(4L), any(LocalDateTime.class),
+                eq(Set.of("/queue/notifications", "/topic/notifications/2")), eq(List.of(3L, 4L))))
+                .thenReturn(List.of(pendingHead("/queue/notifications", 1L, 2L)));
+
+        relay.drain();
+
+        verify(messagingTemplate, never()).convertAndSendToUser(any(), any(), any(), any(Map.class));
+        verify(sessionRegistry, never()).isOnline(1L);
+        assertNull(behind.getDeliveredAt());
+        assertEquals(0, behind.getAttempts());
+        assertNotNull(other.getDeliveredAt());
+    }
+
+    @Test
+    void drain_shouldSendUserQueueMessagesOnlyToOnlineRecipients() {
+        OutboxMessage online = createTestMessage(1L, "/queue/notifications", "a");
+        online.setRecipientId(1L);
+        OutboxMessage offline = createTestMessage(2L, "/queue/notifications", "b");
+        offline.setRecipientId(2L);
+        when(outboxMessageRepository.claimPending(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(online, offline));
+        when(sessionRegistry.isOnline(1L)).thenReturn(true);
+        when(sessionRegistry.isOnline(2L)).thenReturn(false);
+
+        relay.drain();
+
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/notifications", "a",
+                Map.<String, Object>of(OutboxRelay.DEDUP_HEADER, "dedup-1"));
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("2"), any(), any(), any(Map.class));
+        assertNotNull(offline.getDeliveredAt());
+        assertEquals(0, offline.getAttempts());
+        assertEquals(1.0, meterRegistry.counter("todo.outbox.delivered").count());
+        assertEquals(1.0, meterRegistry.counter("todo.outbox.skipped").count());
+    }
+
+    private PendingHead pendingHead(String destination, Long recipientId, Long firstId) {
+        return new PendingHead() {
+            @Override
+            public String getDestination() {
+                return destination;
+            }
+
+            @Override
+            public Long getRecipientId() {
+                return recipientId;
+            }
+
+            @Override
+            public Long getFirstId() {
+                return firstId;
+            }
+        };
+    }
+
+    private OutboxMessage createTestMessage(Long id, String destination, String payload) {
+        OutboxMessage message = new OutboxMessage();
+        message.setId(id);
+        message.setDedupId("dedup-" + id);
+        message.setDestination(destination);
+        message.setPayload(payload);
+        return message;
+    }
+}
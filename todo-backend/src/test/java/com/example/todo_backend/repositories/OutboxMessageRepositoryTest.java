@@ -0,0 +1,90 @@
+package com.example.todo_backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import com.example.todo_backend.entities.OutboxMessage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs the outbox claim queries against H2 in PostgreSQL mode, since which
+ * rows they leave out is the ordering guarantee.
+ */
+class OutboxMessageRepositoryTest {
+
+    private static final String QUEUE = "/queue/notifications";
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private OutboxMessageRepository outboxMessageRepository;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        Configuration configuration = new Configuration().addAnnotatedClass(OutboxMessage.class);
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+        configuration.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa");
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        entityManagerFactory = configuration.buildSessionFactory();
+        entityManager = entityManagerFactory.createEntityManager();
+        outboxMessageRepository = new JpaRepositoryFactory(entityManager).getRepository(OutboxMessageRepository.class);
+        now = LocalDateTime.now();
+        entityManager.getTransaction().begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void claimPending_shouldNotWaitForAScheduledDigest() {
+        OutboxMessage digest = persist(2L, now.plusSeconds(60), 0);
+        OutboxMessage boardDeleted = persist(2L, now.minusSeconds(1), 0);
+
+        assertEquals(List.of(boardDeleted), outboxMessageRepository.claimPending(now, PageRequest.of(0, 10)));
+        assertEquals(List.of(), outboxMessageRepository.findPendingHeads(boardDeleted.getId() + 1, now,
+                Set.of(QUEUE), List.of(boardDeleted.getId())));
+        assertEquals(0, digest.getAttempts());
+    }
+
+    @Test
+    void claimPending_shouldWaitForAnOlderMessageBackingOff() {
+        persist(3L, now.plusSeconds(4), 2);
+        persist(3L, now.minusSeconds(1), 0);
+        OutboxMessage otherRecipient = persist(4L, now.minusSeconds(1), 0);
+
+        assertEquals(List.of(otherRecipient), outboxMessageRepository.claimPending(now, PageRequest.of(0, 10)));
+    }
+
+    private OutboxMessage persist(Long recipientId, LocalDateTime availableAt, int attempts) {
+        OutboxMessage message = new OutboxMessage();
+        message.setDedupId(UUID.randomUUID().toString());
+        message.setDestination(QUEUE);
+        message.setRecipientId(recipientId);
+        message.setPayload("{}");
+        message.setAvailableAt(availableAt);
+        message.setAttempts(attempts);
+        entityManager.persist(message);
+        entityManager.flush();
+        return message;
+    }
+}
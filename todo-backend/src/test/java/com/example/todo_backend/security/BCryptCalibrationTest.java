@@ -0,0 +1,27 @@
+package com.example.todo_backend.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class BCryptCalibrationTest {
+
+    @Test
+    void strengthFor_shouldRaiseStrengthWhileDoubledCostFitsTarget() {
+        assertEquals(12, BCryptCalibration.strengthFor(Duration.ofMillis(250), Duration.ofMillis(60)));
+        assertEquals(13, BCryptCalibration.strengthFor(Duration.ofMillis(250), Duration.ofMillis(30)));
+    }
+
+    @Test
+    void strengthFor_shouldNeverGoBelowMinimumOnSlowHardware() {
+        assertEquals(BCryptCalibration.MIN_STRENGTH,
+                BCryptCalibration.strengthFor(Duration.ofMillis(250), Duration.ofMillis(400)));
+    }
+
+    @Test
+    void strengthFor_shouldCapStrength() {
+        assertEquals(BCryptCalibration.MAX_STRENGTH,
+                BCryptCalibration.strengthFor(Duration.ofSeconds(60), Duration.ofMillis(1)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.todo_backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.todo_backend.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock private PasswordEncoder delegate;
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void matches_shouldDelegateOnTheHashingPool() {
+        when(delegate.matches("secret", "hash")).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("password-hash-"));
+            return true;
+        });
+
+        assertTrue(encoder.matches("secret", "hash"));
+    }
+
+    @Test
+    void encode_shouldRejectWhenPoolAndQueueAreFull() throws Exception {
+        doAnswer(invocation -> {
+            hashing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        }).when(delegate).encode("secret");
+
+        Thread.ofVirtual().start(() -> encoder.encode("secret"));
+        assertTrue(hashing.await(1, TimeUnit.SECONDS));
+        Thread.ofVirtual().start(() -> encoder.encode("secret"));
+        waitForQueued(1);
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("secret"));
+        assertEquals(1.0, meterRegistry.get("todo.password-hash.rejected").counter().count());
+    }
+
+    @Test
+    void encode_shouldGiveUpAfterWaitTimeout() throws Exception {
+        encoder.close();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), meterRegistry);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        }).when(delegate).encode("secret");
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("secret"));
+    }
+
+    private void waitForQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("todo.password-hash.queued").gauge().value() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.todo_backend.services.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.example.todo_backend.dtos.AttachmentDTO;
+import com.example.todo_backend.entities.Attachment;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.PayloadTooLargeException;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.services.AuditService;
+import com.example.todo_backend.storage.BlobStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock private AttachmentRepository attachmentRepository;
+    @Mock private CardRepository cardRepository;
+    @Mock private AuditService auditService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlobStore blobStore;
+    private AttachmentServiceImpl attachmentService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        blobStore = new BlobStore(dir.toString());
+        attachmentService = new AttachmentServiceImpl(attachmentRepository, cardRepository, blobStore, auditService,
+                transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attachmentService.stop();
+    }
+
+    @Test
+    void uploadAttachment_shouldStoreBlobOnceAndRecordEachAttachment() {
+        when(cardRepository.findById(7L)).thenReturn(Optional.of(card()));
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AttachmentDTO first = attachmentService.uploadAttachment(7L, 2L, "C:\\Users\\alice\\notes.txt", "text/plain",
+                5, stream("hello"));
+        AttachmentDTO second = attachmentService.uploadAttachment(7L, 2L, "copy.txt", null, -1, stream("hello"));
+
+        assertEquals("notes.txt", first.fileName());
+        assertEquals(5, first.size());
+        assertEquals(first.contentHash(), second.contentHash());
+        assertEquals("application/octet-stream", second.contentType());
+        assertTrue(blobStore.exists(first.contentHash()));
+        assertEquals(1.0, meterRegistry.get("todo.attachments.deduplicated").counter().count());
+        ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditService, times(2)).record(event.capture());
+        assertEquals(AuditEventType.ATTACHMENT_ADDED, event.getValue().getType());
+    }
+
+    @Test
+    void uploadAttachment_shouldRejectDeclaredLengthOverLimitBeforeReading() {
+        ReflectionTestUtils.setField(attachmentService, "maxSize", DataSize.ofBytes(4));
+
+        assertThrows(PayloadTooLargeException.class,
+                () -> attachmentService.uploadAttachment(7L, 2L, "a.txt", "text/plain", 5, stream("hello")));
+        assertThrows(PayloadTooLargeException.class,
+                () -> attachmentService.uploadAttachment(7L, 2L, "a.txt", "text/plain", -1, stream("hello")));
+
+        verifyNoInteractions(cardRepository, attachmentRepository);
+    }
+
+    @Test
+    void uploadAttachment_shouldRejectFormsAndMissingNames() {
+        assertThrows(BadRequestException.class, () -> attachmentService.uploadAttachment(7L, 2L, "a.txt",
+                "application/x-www-form-urlencoded", 5, stream("hello")));
+        assertThrows(BadRequestException.class, () -> attachmentService.uploadAttachment(7L, 2L, "dir/",
+                "text/plain", 5, stream("hello")));
+
+        verifyNoInteractions(cardRepository, attachmentRepository);
+    }
+
+    @Test
+    void uploadAttachment_shouldRenderThumbnailOfImagesInBackground() throws Exception {
+        attachmentService.start();
+        when(cardRepository.findById(7L)).thenReturn(Optional.of(card()));
+        when(attachmentRepository.save(any(Attachment.class))).thenAnswer(invocation -> {
+            Attachment attachment = invocation.getArgument(0);
+            attachment.setId(5L);
+            return attachment;
+        });
+        byte[] image = png(1200, 600);
+
+        AttachmentDTO uploaded = attachmentService.uploadAttachment(7L, 2L, "photo.png", "image/png", image.length,
+                new ByteArrayInputStream(image));
+
+        ArgumentCaptor<String> thumbnailHash = ArgumentCaptor.forClass(String.class);
+        verify(attachmentRepository, timeout(5000)).setThumbnailHash(eq(5L),
+                thumbnailHash.capture());
+        BufferedImage thumbnail = ImageIO.read(Files.newInputStream(blobStore.path(thumbnailHash.getValue())));
+        assertEquals(256, thumbnail.getWidth());
+        assertEquals(128, thumbnail.getHeight());
+        assertFalse(uploaded.thumbnail());
+    }
+
+    @Test
+    void createThumbnail_shouldReuseThumbnailOfSameContent() {
+        String existing = "a".repeat(64);
+        when(attachmentRepository.findThumbnailHashes("b".repeat(64), Limit.of(1))).thenReturn(List.of(existing));
+
+        attachmentService.createThumbnail(5L, "b".repeat(64));
+
+        verify(attachmentRepository).setThumbnailHash(5L, existing);
+        assertEquals(1.0, meterRegistry.get("todo.attachments.thumbnails").tag("result", "created").counter().count());
+    }
+
+    @Test
+    void createThumbnail_shouldSkipFilesThatAreNotImages() throws Exception {
+        String hash = blobStore.store(stream("not an image"), 100).hash();
+
+        attachmentService.createThumbnail(5L, hash);
+
+        verify(attachmentRepository, never()).setThumbnailHash(any(), any());
+        assertEquals(1.0, meterRegistry.get("todo.attachments.thumbnails").tag("result", "skipped").counter().count());
+    }
+
+    private static Card card() {
+        Board board = new Board();
+        board.setId(1L);
+        ListEntity list = new ListEntity();
+        list.setId(3L);
+        list.setBoard(board);
+        Card card = new Card();
+        card.setId(7L);
+        card.setList(list);
+        return card;
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo_backend.dtos.AuditPageDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.AuditEventRepository;
+import com.example.todo_backend.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceImplTest {
+
+    @Mock private AuditEventRepository auditEventRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditServiceImpl auditService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditService = new AuditServiceImpl(auditEventRepository, userRepository, jdbcTemplate,
+                transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        auditService.stop();
+    }
+
+    @Test
+    void record_shouldAppendEventOnlyAfterCommit() {
+        List<AuditEvent> written = new CopyOnWriteArrayList<>();
+        when(auditEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            return List.of();
+        });
+        auditService.start();
+        AuditEvent event = event(1L, AuditEventType.CARD_CREATED, 2L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        auditService.record(event);
+        assertEquals(0.0, meterRegistry.get("todo.audit.queued").gauge().value());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(auditEventRepository, timeout(3000)).saveAll(anyList());
+        assertEquals(List.of(event), written);
+    }
+
+    @Test
+    void record_shouldDropEventWhenAppenderIsNotRunning() {
+        auditService.record(event(1L, AuditEventType.CARD_DELETED, 2L));
+
+        assertEquals(1.0, meterRegistry.get("todo.audit.dropped").counter().count());
+        verifyNoInteractions(auditEventRepository);
+    }
+
+    @Test
+    void getCardHistory_shouldReturnCursorWhenMoreEventsRemain() {
+        when(auditEventRepository.findByCardIdAndIdLessThanOrderByIdDesc(7L, 100L, Limit.of(3))).thenReturn(List.of(
+                event(90L, AuditEventType.CARD_MOVED, 2L),
+                event(80L, AuditEventType.CARD_UPDATED, 2L),
+                event(70L, AuditEventType.CARD_CREATED, 2L)));
+        User alice = new User();
+        alice.setId(2L);
+        alice.setUsername("alice");
+        when(userRepository.findAllById(Set.of(2L))).thenReturn(List.of(alice));
+
+        AuditPageDTO page = auditService.getCardHistory(7L, 100L, 2);
+
+        assertEquals(2, page.events().size());
+        assertEquals(AuditEventType.CARD_MOVED, page.events().get(0).type());
+        assertEquals("alice", page.events().get(1).actorName());
+        assertEquals(80L, page.nextBefore());
+    }
+
+    @Test
+    void getBoardHistory_shouldStartAtNewestAndEndOnLastPage() {
+        when(auditEventRepository.findByBoardIdAndIdLessThanOrderByIdDesc(1L, Long.MAX_VALUE, Limit.of(201)))
+                .thenReturn(List.of(event(5L, AuditEventType.BOARD_CREATED, null)));
+
+        AuditPageDTO page = auditService.getBoardHistory(1L, null, 1000);
+
+        assertEquals(1, page.events().size());
+        assertNull(page.events().get(0).actorName());
+        assertNull(page.nextBefore());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void dropExpiredPartitions_shouldDoNothingWhenPartitioningIsDisabled() {
+        assertEquals(0, auditService.dropExpiredPartitions());
+        auditService.preparePartitions();
+
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals(0.0, meterRegistry.get("todo.audit.written").counter().count());
+    }
+
+    private static AuditEvent event(Long id, AuditEventType type, Long actorId) {
+        AuditEvent event = AuditEvent.of(type, actorId, 1L, 3L, 7L, "Card");
+        event.setId(id);
+        return event;
+    }
+}
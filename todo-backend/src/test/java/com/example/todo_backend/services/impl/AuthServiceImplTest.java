@@ -1,18 +1,22 @@
 package com.example.todo_backend.services.impl;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +26,7 @@ import com.example.todo_backend.dtos.LoginRequest;
 import com.example.todo_backend.dtos.RegisterRequest;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.AuthenticationException;
+import com.example.todo_backend.exceptions.ConflictException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.repositories.UserRepository;
 
@@ -86,7 +91,7 @@ public class AuthServiceImplTest {
         savedUser.setPassword("encodedPassword");
 
         when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         User result = authService.register(request);
 
@@ -95,7 +100,29 @@ public class AuthServiceImplTest {
         assertEquals("newuser@example.com", result.getEmail());
         assertEquals("encodedPassword", result.getPassword());
         verify(passwordEncoder).encode("password");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void register_shouldThrowConflict_whenUsernameExists() {
+        RegisterRequest request = new RegisterRequest("taken", "new@example.com", "password");
+        when(userRepository.existsByUsername("taken")).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> authService.register(request));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void register_shouldThrowConflict_whenConcurrentRegistrationWinsTheUniqueIndex() {
+        RegisterRequest request = new RegisterRequest("newuser", "New@Example.com", "password");
+        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), User.UK_EMAIL)));
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> authService.register(request));
+
+        assertEquals("Email already exists: New@Example.com", ex.getMessage());
     }
 
     @Test
@@ -116,6 +143,28 @@ public class AuthServiceImplTest {
         assertEquals(user, result);
     }
 
+    @Test
+    void authenticate_shouldRehashPassword_whenStrengthIncreased() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("user1");
+        request.setPassword("pass");
+
+        User user = new User();
+        user.setUsername("user1");
+        user.setPassword("weakHash");
+
+        when(userRepository.findByUsername("user1")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("pass", "weakHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("weakHash")).thenReturn(true);
+        when(passwordEncoder.encode("pass")).thenReturn("strongHash");
+        when(userRepository.save(user)).thenReturn(user);
+
+        User result = authService.authenticate(request);
+
+        assertEquals("strongHash", result.getPassword());
+        verify(userRepository).save(user);
+    }
+
     @Test
     void authenticate_shouldThrow_whenUserNotFound() {
         LoginRequest request = new LoginRequest();
@@ -0,0 +1,172 @@
+package com.example.todo_backend.services.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.todo_backend.dtos.BoardChangesDTO;
+import com.example.todo_backend.dtos.BoardDTO;
+import com.example.todo_backend.dtos.CardDTO;
+import com.example.todo_backend.dtos.ListDTO;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChange;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.mappers.BoardMapper;
+import com.example.todo_backend.mappers.CardMapper;
+import com.example.todo_backend.mappers.ListMapper;
+import com.example.todo_backend.repositories.BoardChangeRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BoardChangeServiceImplTest {
+
+    @Mock private BoardChangeRepository boardChangeRepository;
+    @Mock private BoardRepository boardRepository;
+    @Mock private ListEntityRepository listRepository;
+    @Mock private CardRepository cardRepository;
+    @Mock private BoardMapper boardMapper;
+    @Mock private ListMapper listMapper;
+    @Mock private CardMapper cardMapper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BoardChangeServiceImpl boardChangeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(boardChangeService, "compactThreshold", 100L);
+    }
+
+    @Test
+    void recordUpsert_shouldStampEntryWithBumpedRevision() {
+        when(boardRepository.findRevision(1L)).thenReturn(Optional.of(8L));
+
+        boardChangeService.recordUpsert(1L, BoardChangeType.CARD, 40L);
+
+        ArgumentCaptor<BoardChange> entry = ArgumentCaptor.forClass(BoardChange.class);
+        var order = inOrder(boardRepository, boardChangeRepository);
+        order.verify(boardRepository).bumpRevision(1L);
+        order.verify(boardChangeRepository).save(entry.capture());
+        assertEquals(8L, entry.getValue().getRevision());
+        assertEquals(40L, entry.getValue().getEntityId());
+        assertFalse(entry.getValue().isDeleted());
+    }
+
+    @Test
+    void recordRemovals_shouldTombstoneAllAtOneRevision() {
+        when(boardRepository.findRevision(1L)).thenReturn(Optional.of(8L));
+
+        boardChangeService.recordRemovals(1L, BoardChangeType.CARD, List.of(40L, 41L));
+
+        ArgumentCaptor<List<BoardChange>> entries = ArgumentCaptor.captor();
+        verify(boardRepository).bumpRevision(1L);
+        verify(boardChangeRepository).saveAll(entries.capture());
+        assertEquals(List.of(40L, 41L), entries.getValue().stream().map(BoardChange::getEntityId).toList());
+        entries.getValue().forEach(entry -> {
+            assertEquals(8L, entry.getRevision());
+            assertTrue(entry.isDeleted());
+        });
+    }
+
+    @Test
+    void getChangesSince_shouldReturnLatestStatePerEntity() {
+        when(boardRepository.findRevision(1L)).thenReturn(Optional.of(9L));
+        when(boardChangeRepository.findByBoardIdAndRevisionGreaterThanOrderByRevision(1L, 5L)).thenReturn(List.of(
+                change(6, BoardChangeType.CARD, 40L, false),
+                change(7, BoardChangeType.CARD, 41L, false),
+                change(8, BoardChangeType.CARD, 40L, true),
+                change(9, BoardChangeType.LIST, 3L, true)));
+        when(boardRepository.findChangeLogFloor(1L)).thenReturn(Optional.of(2L));
+
+        Card card = new Card();
+        card.setId(41L);
+        CardDTO cardDto = new CardDTO();
+        when(cardRepository.findAllById(List.of(41L))).thenReturn(List.of(card));
+        when(cardMapper.toDto(card)).thenReturn(cardDto);
+        Board board = new Board();
+        BoardDTO boardDto = new BoardDTO();
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(boardMapper.toSimpleDto(board)).thenReturn(boardDto);
+        ListEntity list = new ListEntity();
+        ListDTO listDto = new ListDTO();
+        when(listRepository.findByBoardId(1L)).thenReturn(List.of(list));
+        when(listMapper.toSummaryDto(list)).thenReturn(listDto);
+
+        BoardChangesDTO changes = boardChangeService.getChangesSince(1L, 5L);
+
+        assertFalse(changes.isResync());
+        assertEquals(9L, changes.getRevision());
+        assertEquals(List.of(cardDto), changes.getCards());
+        assertEquals(List.of(40L), changes.getDeletedCardIds());
+        assertEquals(List.of(3L), changes.getDeletedListIds());
+        assertEquals(boardDto, changes.getBoard());
+        assertEquals(List.of(listDto), changes.getLists());
+    }
+
+    @Test
+    void getChangesSince_shouldAskForResyncWhenLogWasCompactedPastSince() {
+        when(boardRepository.findRevision(1L)).thenReturn(Optional.of(900L));
+        when(boardRepository.findChangeLogFloor(1L)).thenReturn(Optional.of(500L));
+
+        BoardChangesDTO changes = boardChangeService.getChangesSince(1L, 10L);
+
+        assertTrue(changes.isResync());
+        assertNull(changes.getBoard());
+        verify(cardRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getChangesSince_shouldReturnNothingWhenClientIsCurrent() {
+        when(boardRepository.findRevision(1L)).thenReturn(Optional.of(9L));
+
+        BoardChangesDTO changes = boardChangeService.getChangesSince(1L, 9L);
+
+        assertFalse(changes.isResync());
+        assertNull(changes.getBoard());
+        verify(boardChangeRepository, never()).findByBoardIdAndRevisionGreaterThanOrderByRevision(any(), any(Long.class));
+    }
+
+    @Test
+    void compactChangeLogs_shouldDropSupersededEntriesThenRaiseFloor() {
+        when(boardChangeRepository.findBoardIdsWithMoreThan(100L)).thenReturn(List.of(1L, 2L));
+        when(boardChangeRepository.deleteSuperseded(1L)).thenReturn(60);
+        when(boardChangeRepository.countByBoardId(1L)).thenReturn(80L);
+        when(boardChangeRepository.deleteSuperseded(2L)).thenReturn(10);
+        when(boardChangeRepository.countByBoardId(2L)).thenReturn(150L);
+        when(boardChangeRepository.findRevisionBeyond(2L, 50L)).thenReturn(Optional.of(700L));
+        when(boardChangeRepository.deleteUpTo(2L, 700L)).thenReturn(100);
+
+        assertEquals(170, boardChangeService.compactChangeLogs());
+
+        verify(boardRepository, never()).raiseChangeLogFloor(1L, 0L);
+        var order = inOrder(boardRepository, boardChangeRepository);
+        order.verify(boardRepository).raiseChangeLogFloor(2L, 700L);
+        order.verify(boardChangeRepository).deleteUpTo(2L, 700L);
+    }
+
+    private static BoardChange change(long revision, BoardChangeType type, Long entityId, boolean deleted) {
+        return new BoardChange(null, 1L, revision, type, entityId, deleted);
+    }
+}
@@ -5,27 +5,47 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.todo_backend.dtos.BoardCloneDTO;
 import com.example.todo_backend.dtos.BoardDTO;
 import com.example.todo_backend.dtos.BoardUpdateDTO;
 import com.example.todo_backend.entities.Board;
 import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.BoardMapper;
 import com.example.todo_backend.repositories.BoardMemberRepository;
 import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
 
 @ExtendWith(MockitoExtension.class)
 class BoardServiceImplTest {
@@ -42,6 +62,19 @@ class BoardServiceImplTest {
     private AuthService authService;
     @Mock 
     private BoardMapper boardMapper;
+    @Mock
+    private BoardChangeService boardChangeService;
+    @Mock
+    private ListEntityRepository listRepository;
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private CardMemberRepository cardMemberRepository;
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private UndoService undoService;
 
     @InjectMocks
     private BoardServiceImpl boardService;
@@ -58,7 +91,7 @@ class BoardServiceImplTest {
 
 @Test
 void updateBoard_shouldUpdateSuccessfullyEvenWithoutAdminPermission() {
-    BoardUpdateDTO updateDto = new BoardUpdateDTO(10L, "New Name", List.of(2L), "MEMBER");
+    BoardUpdateDTO updateDto = new BoardUpdateDTO(10L, "New Name", List.of(2L), "MEMBER", null);
 
     Board board = new Board();
     board.setId(10L);
@@ -75,17 +108,17 @@ void updateBoard_shouldUpdateSuccessfullyEvenWithoutAdminPermission() {
     when(userRepository.findById(1L)).thenReturn(Optional.of(memberUser));
     when(userRepository.findById(2L)).thenReturn(Optional.of(newUser));
     when(boardRepository.findById(10L)).thenReturn(Optional.of(board));
-    when(boardRepository.save(any())).thenReturn(board);
+    when(boardRepository.saveAndFlush(any())).thenReturn(board);
     
     BoardDTO mockDto = new BoardDTO();
     when(boardMapper.toSimpleDto(any())).thenReturn(mockDto);
 
     assertDoesNotThrow(() -> boardService.updateBoard(updateDto, 1L));
-    verify(boardRepository).save(any());
+    verify(boardRepository).saveAndFlush(any());
 }
     @Test
     void updateBoard_shouldUpdateNameAndMembers_ifAuthorized() {
-        BoardUpdateDTO updateDto = new BoardUpdateDTO(10L, "New Name", List.of(2L), "MEMBER");
+        BoardUpdateDTO updateDto = new BoardUpdateDTO(10L, "New Name", List.of(2L), "MEMBER", null);
 
         Board board = new Board();
         board.setId(10L);
@@ -99,13 +132,109 @@ void updateBoard_shouldUpdateSuccessfullyEvenWithoutAdminPermission() {
         User newUser = createTestUser(2L, "newuser", "new@email.com", "password");
         when(userRepository.findById(2L)).thenReturn(Optional.of(newUser));
         when(boardRepository.findById(10L)).thenReturn(Optional.of(board));
-        when(boardRepository.save(any())).thenReturn(board);
+        when(boardRepository.saveAndFlush(any())).thenReturn(board);
         
         BoardDTO mockDto = new BoardDTO();
         when(boardMapper.toSimpleDto(any())).thenReturn(mockDto);
 
         assertDoesNotThrow(() -> boardService.updateBoard(updateDto, 1L));
-        verify(boardRepository).save(any());
+        verify(boardRepository).saveAndFlush(any());
+    }
+
+    @Test
+    void deleteBoard_shouldOnlyMarkBoardDeleted() {
+        Board board = new Board();
+        board.setId(10L);
+        board.setName("Doomed");
+        when(boardRepository.findById(10L)).thenReturn(Optional.of(board));
+
+        boardService.deleteBoard(10L);
+
+        assertNotNull(board.getDeletedAt());
+        verify(boardChangeService).boardDeleted(10L);
+        verify(boardRepository).save(board);
+        verify(boardRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cloneBoard_shouldCopyListsCardsAndMembersWithOneNotification() {
+        User owner = createTestUser(1L, "testuser", "test@email.com", "password");
+        User teammate = createTestUser(2L, "teammate", "mate@email.com", "password");
+        Board source = new Board();
+        source.setId(10L);
+        source.setName("Sprint 1");
+        source.setMembers(new ArrayList<>(List.of(member(source, owner, "ADMIN"), member(source, teammate, "MEMBER"))));
+
+        ListEntity todo = new ListEntity();
+        todo.setId(20L);
+        todo.setName("To do");
+        todo.setColor("blue");
+        todo.setBoard(source);
+        Card first = card(30L, "Write tests", todo);
+        Card second = card(31L, "Ship it", todo);
+        CardMember assignee = new CardMember(40L, teammate, second);
+
+        when(boardMemberRepository.existsByBoardIdAndUserId(10L, 1L)).thenReturn(true);
+        when(boardRepository.findById(10L)).thenReturn(Optional.of(source));
+        when(listRepository.findByBoardId(10L)).thenReturn(List.of(todo));
+        when(cardRepository.findByBoardId(10L)).thenReturn(List.of(first, second));
+        when(cardMemberRepository.findByBoardId(10L)).thenReturn(List.of(assignee));
+        when(boardMapper.toSimpleDto(any())).thenReturn(new BoardDTO());
+
+        boardService.cloneBoard(10L, new BoardCloneDTO("Sprint 2", true), 1L);
+
+        ArgumentCaptor<Board> copy = ArgumentCaptor.forClass(Board.class);
+        verify(boardRepository).save(copy.capture());
+        assertEquals("Sprint 2", copy.getValue().getName());
+        assertEquals(2, copy.getValue().getCardCount());
+
+        ArgumentCaptor<Iterable<ListEntity>> lists = ArgumentCaptor.forClass(Iterable.class);
+        verify(listRepository).saveAll(lists.capture());
+        ListEntity listCopy = lists.getValue().iterator().next();
+        assertEquals("To do", listCopy.getName());
+        assertEquals(2, listCopy.getCardCount());
+        assertEquals(copy.getValue(), listCopy.getBoard());
+
+        ArgumentCaptor<Iterable<CardMember>> cardMembers = ArgumentCaptor.forClass(Iterable.class);
+        verify(cardMemberRepository).saveAll(cardMembers.capture());
+        CardMember assigneeCopy = cardMembers.getValue().iterator().next();
+        assertEquals("Ship it", assigneeCopy.getCard().getTitle());
+        assertEquals(listCopy, assigneeCopy.getCard().getList());
+
+        ArgumentCaptor<NotificationEvent> event = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationService).sendNotification(eq(List.of(teammate)), event.capture());
+        assertEquals(NotificationType.BOARD_CLONED, event.getValue().getType());
+        assertEquals("Sprint 1 with 1 lists and 2 cards", event.getValue().getTitle());
+    }
+
+    @Test
+    void cloneBoard_shouldRefuseNonMembersOfTheSourceBoard() {
+        reset(authService, userRepository);
+        when(boardMemberRepository.existsByBoardIdAndUserId(10L, 3L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> boardService.cloneBoard(10L, new BoardCloneDTO("Mine now", true), 3L));
+
+        verify(boardRepository, never()).findById(any());
+        verify(boardRepository, never()).save(any());
+        verify(notificationService, never()).sendNotification(any(), any());
+    }
+
+    private BoardMember member(Board board, User user, String role) {
+        BoardMember member = new BoardMember();
+        member.setBoard(board);
+        member.setUser(user);
+        member.setRole(role);
+        return member;
+    }
+
+    private Card card(Long id, String title, ListEntity list) {
+        Card card = new Card();
+        card.setId(id);
+        card.setTitle(title);
+        card.setList(list);
+        return card;
     }
 
     private User createTestUser(Long id, String username, String email, String password) {
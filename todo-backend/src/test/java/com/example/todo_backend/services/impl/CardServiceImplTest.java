@@ -3,32 +3,52 @@ package com.example.todo_backend.services.impl;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.todo_backend.dtos.CardDTO;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.entities.BoardMember;
 import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
 import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
 import com.example.todo_backend.mappers.CardMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.CardMemberRepository;
 import com.example.todo_backend.repositories.CardRepository;
 import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
+import com.example.todo_backend.services.WatcherService;
 @ExtendWith(MockitoExtension.class)
 public class CardServiceImplTest {
 
@@ -40,6 +60,11 @@ public class CardServiceImplTest {
     @Mock private AuthService authService;
     @Mock private NotificationService notificationService;
     @Mock private CardMapper cardMapper;
+    @Mock private CounterService counterService;
+    @Mock private BoardChangeService boardChangeService;
+    @Mock private AuditService auditService;
+    @Mock private UndoService undoService;
+    @Mock private WatcherService watcherService;
 
     @InjectMocks
     private CardServiceImpl cardService;
@@ -100,6 +125,7 @@ public class CardServiceImplTest {
 
         assertDoesNotThrow(() -> cardService.createCard(cardDto, 1L));
         verify(cardRepository).save(any());
+        verify(counterService).cardAdded(list);
     }
 
     @Test
@@ -123,6 +149,191 @@ public class CardServiceImplTest {
 
         assertDoesNotThrow(() -> cardService.deleteCard(10L));
         verify(cardRepository).deleteById(10L);
+        verify(counterService).cardRemoved(card);
+        verify(boardChangeService).recordRemoval(board.getId(), BoardChangeType.CARD, 10L);
+        verify(watcherService).getRecipients(card, Set.of(), 1L);
+        verify(watcherService).watchersChanged(10L);
+    }
+
+    @Test
+    void watchCard_shouldAddBoardMemberAsCardMember() {
+        User user = createTestUser(2L, "bob", "bob@email.com", "password");
+        Card card = createCardOnBoard(user);
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+        when(cardMemberRepository.existsByCardIdAndUserId(10L, 2L)).thenReturn(false);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+
+        cardService.watchCard(10L, 2L);
+
+        verify(cardMemberRepository).save(any(CardMember.class));
+        verify(watcherService).watchersChanged(10L);
+        verify(boardChangeService).recordUpsert(card.getList().getBoard().getId(), BoardChangeType.CARD, 10L);
+    }
+
+    @Test
+    void watchCard_shouldRejectUserOutsideTheBoard() {
+        Card card = createCardOnBoard(createTestUser(2L, "bob", "bob@email.com", "password"));
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+
+        assertThrows(BadRequestException.class, () -> cardService.watchCard(10L, 3L));
+
+        verify(cardMemberRepository, never()).save(any());
+    }
+
+    @Test
+    void unwatchCard_shouldDropCachedWatchersOnlyWhenSomethingWasRemoved() {
+        Card card = createCardOnBoard();
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+        when(cardMemberRepository.deleteByCardIdAndUserId(10L, 2L)).thenReturn(0);
+
+        cardService.unwatchCard(10L, 2L);
+
+        verify(watcherService, never()).watchersChanged(any());
+    }
+
+    private Card createCardOnBoard(User... members) {
+        Board board = new Board();
+        board.setId(5L);
+        List<BoardMember> boardMembers = new ArrayList<>();
+        for (User member : members) {
+            BoardMember boardMember = new BoardMember();
+            boardMember.setUser(member);
+            boardMembers.add(boardMember);
+        }
+        board.setMembers(boardMembers);
+        ListEntity list = new ListEntity();
+        list.setBoard(board);
+        Card card = new Card();
+        card.setId(10L);
+        card.setList(list);
+        return card;
+    }
+
+    @Test
+    void updateCard_shouldApplyConditionalUpdateWithoutLoadingFirst() {
+        CardDTO cardDto = createTestCard(10L, "Renamed", "Description", 1L);
+        cardDto.setVersion(3L);
+        when(cardRepository.findContentById(10L)).thenReturn(Optional.of(content("Card", "Description")));
+        when(cardRepository.updateContent(10L, 1L, 3L, "Renamed", "Description")).thenReturn(1);
+
+        Board board = new Board();
+        board.setId(5L);
+        ListEntity list = new ListEntity();
+        list.setId(1L);
+        list.setBoard(board);
+        Card card = new Card();
+        card.setId(10L);
+        card.setList(list);
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        CardDTO mockDto = new CardDTO();
+        when(cardMapper.toDto(card)).thenReturn(mockDto);
+
+        assertSame(mockDto, cardService.updateCard(10L, cardDto));
+        verify(cardRepository, never()).saveAndFlush(any());
+        verify(boardChangeService).recordUpsert(5L, BoardChangeType.CARD, 10L);
+        verify(undoService).cardUpdated(1L, card, "Card", "Description");
+    }
+
+    @Test
+    void updateCard_shouldRejectStaleVersion() {
+        CardDTO cardDto = createTestCard(10L, "Renamed", "Description", 1L);
+        cardDto.setVersion(2L);
+        when(cardRepository.findContentById(10L)).thenReturn(Optional.of(content("Card", "Description")));
+        when(cardRepository.updateContent(10L, 1L, 2L, "Renamed", "Description")).thenReturn(0);
+
+        ListEntity list = new ListEntity();
+        list.setId(1L);
+        Card card = new Card();
+        card.setId(10L);
+        card.setList(list);
+        card.setVersion(3L);
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+
+        assertThrows(PreconditionFailedException.class, () -> cardService.updateCard(10L, cardDto));
+        verify(cardRepository, never()).saveAndFlush(any());
+        verify(counterService, never()).cardMoved(any(), any(), any());
+    }
+
+    @Test
+    void updateCard_shouldAuditMoveToAnotherList() {
+        CardDTO cardDto = createTestCard(10L, "Card", "Description", 2L);
+        when(cardRepository.findContentById(10L)).thenReturn(Optional.of(content("Card", "Description")));
+        when(cardRepository.updateContent(10L, 2L, null, "Card", "Description")).thenReturn(0);
+
+        Board board = new Board();
+        board.setId(5L);
+        board.setMembers(new ArrayList<>());
+        ListEntity todo = new ListEntity();
+        todo.setId(1L);
+        todo.setName("Todo");
+        todo.setBoard(board);
+        ListEntity done = new ListEntity();
+        done.setId(2L);
+        done.setName("Done");
+        done.setBoard(board);
+        Card card = new Card();
+        card.setId(10L);
+        card.setList(todo);
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+        when(listRepository.findById(2L)).thenReturn(Optional.of(done));
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createTestUser(1L, "testuser", "test@email.com", "password")));
+        when(cardRepository.saveAndFlush(card)).thenReturn(card);
+
+        cardService.updateCard(10L, cardDto);
+
+        ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditService).record(event.capture());
+        assertEquals(AuditEventType.CARD_MOVED, event.getValue().getType());
+        assertEquals(1L, event.getValue().getActorId());
+        assertEquals(5L, event.getValue().getBoardId());
+        assertEquals(2L, event.getValue().getListId());
+        assertEquals("Todo -> Done", event.getValue().getDetail());
+    }
+
+    @Test
+    void updateCard_shouldHandMoveToBoardStreamWhenNoOtherWatcher() {
+        CardDTO cardDto = createTestCard(10L, "Card", "Description", 2L);
+        when(cardRepository.findContentById(10L)).thenReturn(Optional.of(content("Card", "Description")));
+        when(cardRepository.updateContent(10L, 2L, null, "Card", "Description")).thenReturn(0);
+
+        Board board = new Board();
+        board.setId(5L);
+        board.setMembers(new ArrayList<>());
+        ListEntity todo = new ListEntity();
+        todo.setId(1L);
+        todo.setName("Todo");
+        todo.setBoard(board);
+        ListEntity done = new ListEntity();
+        done.setId(2L);
+        done.setName("Done");
+        done.setBoard(board);
+        Card card = new Card();
+        card.setId(10L);
+        card.setTitle("Card");
+        card.setList(todo);
+        when(cardRepository.findById(10L)).thenReturn(Optional.of(card));
+        when(listRepository.findById(2L)).thenReturn(Optional.of(done));
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createTestUser(1L, "testuser", "test@email.com", "password")));
+        when(cardRepository.saveAndFlush(card)).thenReturn(card);
+        when(watcherService.getRecipients(card, Set.of(), 1L)).thenReturn(List.of());
+
+        cardService.updateCard(10L, cardDto);
+
+        ArgumentCaptor<NotificationEvent> event = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationService).sendNotification(eq(List.of()), event.capture());
+        assertEquals(NotificationType.CARD_MOVED, event.getValue().getType());
+        assertEquals(5L, event.getValue().getBoardId());
+        assertEquals(10L, event.getValue().getEntityId());
+    }
+
+    private static CardRepository.CardContent content(String title, String description) {
+        return new CardRepository.CardContent() {
+            public String getTitle() { return title; }
+            public String getDescription() { return description; }
+        };
     }
 
     private User createTestUser(Long id, String username, String email, String password) {
@@ -1,44 +1,64 @@
 package com.example.todo_backend.services.impl;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.example.todo_backend.dtos.CommentDTO;
+import com.example.todo_backend.dtos.CommentPageDTO;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardMember;
 import com.example.todo_backend.entities.Card;
 import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.CommentMention;
 import com.example.todo_backend.entities.ListEntity;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.mappers.CommentMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentMentionRepository;
 import com.example.todo_backend.repositories.CommentRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.WatcherService;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentServiceImplTest {
 
     @Mock private CommentRepository commentRepository;
+    @Mock private CommentMentionRepository commentMentionRepository;
     @Mock private CardRepository cardRepository;
     @Mock private UserRepository userRepository;
     @Mock private BoardRepository boardRepository;
     @Mock private AuthService authService;
     @Mock private NotificationService notificationService;
     @Mock private CommentMapper commentMapper;
+    @Mock private CounterService counterService;
+    @Mock private BoardChangeService boardChangeService;
+    @Mock private AuditService auditService;
+    @Mock private WatcherService watcherService;
 
     @InjectMocks
     private CommentServiceImpl commentService;
@@ -65,14 +85,14 @@ public class CommentServiceImplTest {
         comment2.setCard(card);
         comment2.setUser(user);
 
-        when(commentRepository.findByCardId(cardId)).thenReturn(List.of(comment1, comment2));
+        when(commentRepository.findWithUserByCardId(cardId)).thenReturn(List.of(comment1, comment2));
         List<CommentDTO> result = commentService.getCommentsByCardId(cardId);
         assertEquals(2, result.size());
     }
 
     @Test
     void createComment_shouldSaveAndReturnDto() {
-        CommentDTO commentDto = new CommentDTO(null, "Test comment", 1L, null, null);
+        CommentDTO commentDto = new CommentDTO(null, "Test comment", 1L, null, null, null, null, null, null);
         User user = createTestUser(1L, "testuser", "test@email.com", "password");
 
         Card card = new Card();
@@ -95,6 +115,146 @@ public class CommentServiceImplTest {
         
         assertDoesNotThrow(() -> commentService.createComment(commentDto, "testuser"));
         verify(commentRepository).save(any());
+        verify(counterService).commentAdded(card);
+        verify(commentMentionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createComment_shouldIndexMentionedBoardMembersAndThreadUnderRoot() {
+        User author = createTestUser(1L, "testuser", "test@email.com", "password");
+        User bob = createTestUser(2L, "Bob", "bob@email.com", "password");
+        Card card = createCardOnBoard(author, bob);
+        Comment root = new Comment();
+        root.setId(5L);
+        root.setCard(card);
+        Comment reply = new Comment();
+        reply.setId(6L);
+        reply.setCard(card);
+        reply.setParentId(5L);
+
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(author));
+        when(cardRepository.findById(1L)).thenReturn(Optional.of(card));
+        when(commentRepository.findById(6L)).thenReturn(Optional.of(reply));
+        when(commentRepository.save(any())).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            comment.setId(7L);
+            return comment;
+        });
+
+        CommentDTO result = commentService.createComment(
+                new CommentDTO(null, "Thanks @bob, cc @carol and bob@email.com", 1L, null, null, 6L, null, null, null), "testuser");
+
+        assertEquals(5L, result.getParentId());
+        ArgumentCaptor<List<CommentMention>> mentions = ArgumentCaptor.captor();
+        verify(commentMentionRepository).saveAll(mentions.capture());
+        assertEquals(List.of(CommentMention.of(2L, 7L, 9L)), mentions.getValue());
+        verify(watcherService).getRecipients(card, Set.of(2L), 1L);
+    }
+
+    @Test
+    void getCommentPage_shouldReturnCursorAndRepliesOfThePage() {
+        User user = createTestUser(1L, "testuser", "test@email.com", "password");
+        Card card = new Card();
+        card.setId(1L);
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Comment first = createComment(10L, card, user, time, null);
+        Comment second = createComment(11L, card, user, time.plusMinutes(1), null);
+        Comment extra = createComment(12L, card, user, time.plusMinutes(2), null);
+        Comment reply = createComment(13L, card, user, time.plusMinutes(3), 10L);
+
+        when(commentRepository.findPage(1L, LocalDateTime.of(1970, 1, 1, 0, 0), Long.MIN_VALUE, true, Limit.of(3)))
+                .thenReturn(List.of(first, second, extra));
+        when(commentRepository.findFirstReplies(List.of(10L, 11L), 10)).thenReturn(List.of(replySlot(13L, 10L, 1L)));
+        when(commentRepository.findWithUserByIdIn(List.of(13L))).thenReturn(List.of(reply));
+
+        CommentPageDTO page = commentService.getCommentPage(1L, null, 2, true);
+
+        assertEquals(2, page.comments().size());
+        assertEquals(13L, page.comments().get(0).getReplies().get(0).getId());
+        assertEquals(1L, page.comments().get(0).getReplyCount());
+        assertNull(page.comments().get(0).getRepliesCursor());
+        assertEquals(List.of(), page.comments().get(1).getReplies());
+        assertEquals(0L, page.comments().get(1).getReplyCount());
+
+        when(commentRepository.findPage(1L, time.plusMinutes(1), 11L, true, Limit.of(3))).thenReturn(List.of(extra));
+        when(commentRepository.findFirstReplies(List.of(12L), 10)).thenReturn(List.of());
+        CommentPageDTO next = commentService.getCommentPage(1L, page.nextCursor(), 2, true);
+
+        assertEquals(12L, next.comments().get(0).getId());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void getCommentPage_shouldCapRepliesAndContinueThemThroughReplyPages() {
+        User user = createTestUser(1L, "testuser", "test@email.com", "password");
+        Card card = new Card();
+        card.setId(1L);
+        LocalDateTime time = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Comment root = createComment(10L, card, user, time, null);
+        List<Comment> shown = new ArrayList<>();
+        List<CommentRepository.ReplySlot> slots = new ArrayList<>();
+        for (long id = 100; id < 110; id++) {
+            shown.add(createComment(id, card, user, time.plusMinutes(id), 10L));
+            slots.add(replySlot(id, 10L, 25L));
+        }
+        Comment eleventh = createComment(110L, card, user, time.plusMinutes(110), 10L);
+
+        when(commentRepository.findPage(1L, LocalDateTime.of(1970, 1, 1, 0, 0), Long.MIN_VALUE, true, Limit.of(51)))
+                .thenReturn(List.of(root));
+        when(commentRepository.findFirstReplies(List.of(10L), 10)).thenReturn(slots);
+        when(commentRepository.findWithUserByIdIn(slots.stream().map(CommentRepository.ReplySlot::getId).toList()))
+                .thenReturn(shown);
+
+        CommentDTO thread = commentService.getCommentPage(1L, null, 50, true).comments().get(0);
+
+        assertEquals(10, thread.getReplies().size());
+        assertEquals(25L, thread.getReplyCount());
+
+        when(commentRepository.findReplyPage(10L, time.plusMinutes(109), 109L, Limit.of(2)))
+                .thenReturn(List.of(eleventh, createComment(111L, card, user, time.plusMinutes(111), 10L)));
+        CommentPageDTO more = commentService.getReplyPage(10L, thread.getRepliesCursor(), 1);
+
+        assertEquals(List.of(110L), more.comments().stream().map(CommentDTO::getId).toList());
+        assertNotNull(more.nextCursor());
+    }
+
+    private static CommentRepository.ReplySlot replySlot(Long id, Long parent, Long total) {
+        return new CommentRepository.ReplySlot() {
+            public Long getId() { return id; }
+            public Long getParent() { return parent; }
+            public Long getTotal() { return total; }
+        };
+    }
+
+    private Card createCardOnBoard(User... members) {
+        Board board = new Board();
+        board.setId(9L);
+        List<BoardMember> boardMembers = new ArrayList<>();
+        for (User member : members) {
+            BoardMember boardMember = new BoardMember();
+            boardMember.setUser(member);
+            boardMember.setBoard(board);
+            boardMembers.add(boardMember);
+        }
+        board.setMembers(boardMembers);
+        ListEntity list = new ListEntity();
+        list.setBoard(board);
+        Card card = new Card();
+        card.setId(1L);
+        card.setTitle("Test Card");
+        card.setList(list);
+        return card;
+    }
+
+    private Comment createComment(Long id, Card card, User user, LocalDateTime createdAt, Long parentId) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setContent("Comment " + id);
+        comment.setCard(card);
+        comment.setUser(user);
+        comment.setCreatedAt(createdAt);
+        comment.setParentId(parentId);
+        return comment;
     }
 
     private User createTestUser(Long id, String username, String email, String password) {
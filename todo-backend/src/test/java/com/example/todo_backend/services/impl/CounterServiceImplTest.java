@@ -0,0 +1,68 @@
+package com.example.todo_backend.services.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo_backend.cache.EntityCacheEvictor;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CounterServiceImplTest {
+
+    @Mock private ListEntityRepository listRepository;
+    @Mock private BoardRepository boardRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private EntityCacheEvictor cacheEvictor;
+
+    @InjectMocks
+    private CounterServiceImpl counterService;
+
+    @Test
+    void cardMoved_shouldShiftCardAndCommentCountsBetweenBoards() {
+        ListEntity from = createTestList(1L, 10L);
+        ListEntity to = createTestList(2L, 20L);
+        Card card = new Card();
+        card.setId(5L);
+        card.setList(to);
+        when(commentRepository.countByCardId(5L)).thenReturn(3L);
+
+        counterService.cardMoved(card, from, to);
+
+        verify(listRepository).adjustCounters(1L, -1, -3);
+        verify(boardRepository).adjustCounters(10L, -1, -3);
+        verify(listRepository).adjustCounters(2L, 1, 3);
+        verify(boardRepository).adjustCounters(20L, 1, 3);
+        verify(cacheEvictor).evictAfterCompletion(ListEntity.class, 2L);
+        verify(cacheEvictor).evictAfterCompletion(Board.class, 20L);
+    }
+
+    @Test
+    void listRemoved_shouldSubtractListTotalsFromBoard() {
+        ListEntity list = createTestList(1L, 10L);
+        list.setCardCount(4);
+        list.setCommentCount(7);
+
+        counterService.listRemoved(list);
+
+        verify(boardRepository).adjustCounters(10L, -4, -7);
+    }
+
+    private ListEntity createTestList(Long id, Long boardId) {
+        Board board = new Board();
+        board.setId(boardId);
+        ListEntity list = new ListEntity();
+        list.setId(id);
+        list.setBoard(board);
+        return list;
+    }
+}
@@ -6,25 +6,34 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.todo_backend.dtos.ListDTO;
 import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.entities.Card;
 import com.example.todo_backend.entities.ListEntity;
 import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.PreconditionFailedException;
 import com.example.todo_backend.mappers.ListMapper;
 import com.example.todo_backend.repositories.BoardRepository;
 import com.example.todo_backend.repositories.ListEntityRepository;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
 import com.example.todo_backend.services.AuthService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
 import com.example.todo_backend.services.NotificationService;
+import com.example.todo_backend.services.UndoService;
 @ExtendWith(MockitoExtension.class)
 class ListServiceImplTest {
 
@@ -40,6 +49,15 @@ class ListServiceImplTest {
     private NotificationService notificationService;
     @Mock
     private ListMapper listMapper;
+    @Mock
+    private CounterService counterService;
+    @Mock
+    private BoardChangeService boardChangeService;
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private UndoService undoService;
 
     @InjectMocks
     private ListServiceImpl listService;
@@ -100,6 +118,49 @@ class ListServiceImplTest {
         verify(listRepository).save(any());
     }
 
+    @Test
+    void deleteList_shouldTombstoneTheListAndItsCards() {
+        Board board = new Board();
+        board.setId(1L);
+        board.setMembers(new ArrayList<>());
+        ListEntity list = new ListEntity();
+        list.setId(3L);
+        list.setName("Todo");
+        list.setBoard(board);
+        Card first = new Card();
+        first.setId(7L);
+        Card second = new Card();
+        second.setId(8L);
+        list.setCards(List.of(first, second));
+        when(listRepository.findById(3L)).thenReturn(Optional.of(list));
+        when(authService.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createTestUser(1L, "testuser", "test@email.com", "password")));
+
+        listService.deleteList(3L);
+
+        verify(boardChangeService).recordRemovals(1L, BoardChangeType.CARD, List.of(7L, 8L));
+        verify(boardChangeService).recordRemoval(1L, BoardChangeType.LIST, 3L);
+        verify(listRepository).delete(list);
+    }
+
+    @Test
+    void updateList_shouldRejectStaleVersion() {
+        ListDTO listDto = new ListDTO();
+        listDto.setId(1L);
+        listDto.setName("Renamed");
+        listDto.setVersion(1L);
+
+        ListEntity list = new ListEntity();
+        list.setId(1L);
+        list.setName("Todo");
+        list.setVersion(2L);
+        when(listRepository.findById(1L)).thenReturn(Optional.of(list));
+
+        assertThrows(PreconditionFailedException.class, () -> listService.updateList(listDto));
+        assertEquals("Todo", list.getName());
+        verify(listRepository, never()).saveAndFlush(any());
+    }
+
     private User createTestUser(Long id, String username, String email, String password) {
         User user = new User();
         user.setId(id);
@@ -0,0 +1,122 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MailServiceImplTest {
+
+    private SmtpStandIn smtp;
+    private SimpleMeterRegistry meterRegistry;
+    private MailServiceImpl mailService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new SmtpStandIn();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.connectiontimeout", "2000");
+        properties.setProperty("mail.smtp.timeout", "2000");
+        mailSender.setJavaMailProperties(properties);
+
+        meterRegistry = new SimpleMeterRegistry();
+        mailService = new MailServiceImpl(mailSender, meterRegistry);
+        ReflectionTestUtils.setField(mailService, "workers", 1);
+        ReflectionTestUtils.setField(mailService, "initialBackoff", Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mailService.stop();
+        smtp.close();
+    }
+
+    @Test
+    void send_shouldDeliverMailsQueuedDuringASendOverOneConnection() throws Exception {
+        mailService.start();
+        smtp.delayNextMessage(Duration.ofMillis(300));
+
+        mailService.send(mail("first@example.com"));
+        waitFor(() -> smtp.messages().size() == 1);
+        for (int i = 0; i < 4; i++) {
+            mailService.send(mail("user" + i + "@example.com"));
+        }
+        waitFor(() -> meterRegistry.get("todo.mail.sent").counter().count() == 5.0);
+
+        assertEquals(5, smtp.messages().size());
+        assertEquals(2, smtp.connections());
+        assertEquals(5.0, meterRegistry.get("todo.mail.sent").counter().count());
+    }
+
+    @Test
+    void send_shouldRetryWithBackoffWhileServerIsUnavailable() throws Exception {
+        mailService.start();
+        smtp.refuseNextConnections(2);
+
+        mailService.send(mail("user@example.com"));
+        waitFor(() -> meterRegistry.get("todo.mail.sent").counter().count() == 1.0);
+
+        assertEquals(1, smtp.messages().size());
+        assertTrue(smtp.messages().getFirst().contains("To: user@example.com"));
+        assertEquals(3, smtp.connections());
+        assertEquals(2.0, meterRegistry.get("todo.mail.retried").counter().count());
+    }
+
+    @Test
+    void send_shouldGiveUpAfterMaxAttempts() throws Exception {
+        ReflectionTestUtils.setField(mailService, "maxAttempts", 2);
+        mailService.start();
+        smtp.refuseNextConnections(Integer.MAX_VALUE);
+
+        mailService.send(mail("user@example.com"));
+        waitFor(() -> meterRegistry.get("todo.mail.failed").counter().count() == 1.0);
+
+        assertEquals(1.0, meterRegistry.get("todo.mail.failed").counter().count());
+        assertEquals(2, smtp.connections());
+        assertTrue(smtp.messages().isEmpty());
+    }
+
+    @Test
+    void send_shouldRejectMailWhenQueueIsFull() {
+        ReflectionTestUtils.setField(mailService, "workers", 0);
+        ReflectionTestUtils.setField(mailService, "queueCapacity", 2);
+        mailService.start();
+
+        for (int i = 0; i < 3; i++) {
+            mailService.send(mail("user" + i + "@example.com"));
+        }
+
+        assertEquals(2.0, meterRegistry.get("todo.mail.queued").gauge().value());
+        assertEquals(1.0, meterRegistry.get("todo.mail.rejected").counter().count());
+    }
+
+    private static SimpleMailMessage mail(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@example.com");
+        message.setTo(to);
+        message.setSubject("Password Reset Request");
+        message.setText("Click the link to reset your password");
+        return message;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
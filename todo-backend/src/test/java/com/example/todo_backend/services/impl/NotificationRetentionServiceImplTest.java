@@ -0,0 +1,94 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.todo_backend.repositories.NotificationEventRepository;
+import com.example.todo_backend.repositories.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceImplTest {
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationEventRepository notificationEventRepository;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private NotificationRetentionServiceImpl retentionService;
+
+    @BeforeEach
+    void setUp() {
+        retentionService = new NotificationRetentionServiceImpl(notificationRepository, notificationEventRepository,
+                jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(retentionService, "chunkSize", 2);
+        ReflectionTestUtils.setField(retentionService, "chunkPause", Duration.ZERO);
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteInChunksUntilAShortChunk() {
+        when(notificationRepository.deleteExpiredChunk(any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .thenReturn(2, 2, 1);
+
+        int purged = retentionService.purgeExpired();
+
+        assertEquals(5, purged);
+        verify(notificationRepository, times(3)).deleteExpiredChunk(any(LocalDateTime.class), any(LocalDateTime.class), eq(2));
+        verify(transactionManager, times(4)).commit(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteOrphanedEventsOlderThanShortestTtl() {
+        ArgumentCaptor<LocalDateTime> eventCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(notificationEventRepository.deleteOrphanedChunk(eventCutoff.capture(), eq(2))).thenReturn(2, 0);
+
+        int purged = retentionService.purgeExpired();
+
+        assertEquals(0, purged);
+        verify(notificationEventRepository, times(2)).deleteOrphanedChunk(any(LocalDateTime.class), eq(2));
+        assertEquals(30, Duration.between(eventCutoff.getValue(), LocalDateTime.now()).toDays());
+    }
+
+    @Test
+    void purgeExpired_shouldApplySeparateTtlsForSeenAndUnseen() {
+        ArgumentCaptor<LocalDateTime> seenCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> unseenCutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(notificationRepository.deleteExpiredChunk(seenCutoff.capture(), unseenCutoff.capture(), eq(2)))
+                .thenReturn(0);
+
+        retentionService.purgeExpired();
+
+        assertEquals(60, Duration.between(unseenCutoff.getValue(), seenCutoff.getValue()).toDays());
+    }
+
+    @Test
+    void purgeExpired_shouldDoNothingWhenDisabled() {
+        ReflectionTestUtils.setField(retentionService, "retentionEnabled", false);
+
+        assertEquals(0, retentionService.purgeExpired());
+        verifyNoInteractions(notificationRepository, notificationEventRepository);
+    }
+
+    @Test
+    void partitionName_shouldUseYearAndMonth() {
+        assertEquals("notifications_p202603", NotificationRetentionServiceImpl.partitionName(YearMonth.of(2026, 3)));
+    }
+}
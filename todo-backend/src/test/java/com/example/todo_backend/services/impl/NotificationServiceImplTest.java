@@ -0,0 +1,205 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo_backend.dtos.NotificationDTO;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.Notification;
+import com.example.todo_backend.entities.NotificationEvent;
+import com.example.todo_backend.entities.NotificationType;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.mappers.NotificationMapper;
+import com.example.todo_backend.mappers.NotificationRenderer;
+import com.example.todo_backend.repositories.NotificationEventRepository;
+import com.example.todo_backend.repositories.NotificationRepository;
+import com.example.todo_backend.services.OutboxService;
+import com.example.todo_backend.websocket.TopicBatcher;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationEventRepository notificationEventRepository;
+    @Mock private OutboxService outboxService;
+    @Mock private NotificationRenderer notificationRenderer;
+    @Mock private NotificationMapper notificationMapper;
+    @Mock private TopicBatcher topicBatcher;
+    @Spy private JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @InjectMocks
+    private NotificationServiceImpl notificationService;
+
+    @Test
+    void sendNotification_shouldStoreEventOnceAndReferenceItFromEachRecipient() {
+        User alice = createTestUser(1L, "alice");
+        User bob = createTestUser(2L, "bob");
+        User carol = createTestUser(3L, "carol");
+        NotificationEvent event = NotificationEvent.of(NotificationType.CARD_MOVED, alice, createTestBoard(), 7L, "A");
+        when(notificationEventRepository.save(event)).thenReturn(event);
+        when(notificationRepository.findOpenDigests(eq(10L), eq(List.of(2L, 3L)), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        stubRenderer();
+        when(outboxService.enqueue(anyString(), anyLong(), anyString(), any(LocalDateTime.class))).thenReturn(99L);
+
+        notificationService.sendNotification(List.of(bob, carol), event);
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.captor();
+        verify(notificationRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        saved.getValue().forEach(notification -> {
+            assertSame(event, notification.getEvent());
+            assertNull(notification.getMessage());
+            assertFalse(notification.isSeveralActors());
+            assertFalse(notification.isSeveralTypes());
+        });
+        verify(notificationEventRepository).save(event);
+        verify(topicBatcher).publish(eq("/topic/boards/10/events"), any());
+        verify(outboxService, never()).replacePending(anyLong(), anyString());
+    }
+
+    @Test
+    void sendNotification_shouldFoldSameActorAndTypeIntoCountedDigest() {
+        User alice = createTestUser(1L, "alice");
+        User bob = createTestUser(2L, "bob");
+        NotificationEvent event = NotificationEvent.of(NotificationType.CARD_MOVED, alice, createTestBoard(), 7L, "A");
+        Notification digest = createOpenDigest(bob, 1L, NotificationType.CARD_MOVED, 49);
+        when(notificationEventRepository.save(event)).thenReturn(event);
+        when(notificationRepository.findOpenDigests(eq(10L), eq(List.of(2L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(digest));
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        stubRenderer();
+        when(outboxService.replacePending(eq(77L), anyString())).thenReturn(true);
+
+        notificationService.sendNotification(List.of(bob), event);
+
+        assertEquals(50, digest.getEventCount());
+        assertFalse(digest.isSeveralActors());
+        assertFalse(digest.isSeveralTypes());
+        assertSame(event, digest.getEvent());
+        verify(outboxService, never()).enqueue(anyString(), anyLong(), anyString(), any(LocalDateTime.class));
+        verify(notificationRepository).saveAll(List.of());
+    }
+
+    @Test
+    void sendNotification_shouldScheduleDigestPushWhenFirstPushAlreadyDelivered() {
+        User carol = createTestUser(3L, "carol");
+        User bob = createTestUser(2L, "bob");
+        NotificationEvent event = NotificationEvent.of(NotificationType.COMMENT_ADDED, carol, createTestBoard(), 7L, "A");
+        Notification digest = createOpenDigest(bob, 1L, NotificationType.CARD_CREATED, 1);
+        when(notificationEventRepository.save(event)).thenReturn(event);
+        when(notificationRepository.findOpenDigests(eq(10L), eq(List.of(2L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(digest));
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        stubRenderer();
+        when(outboxService.replacePending(eq(77L), anyString())).thenReturn(false);
+        when(outboxService.enqueue(eq("/queue/notifications"), eq(2L), anyString(), eq(digest.getCreatedAt().plusSeconds(60))))
+                .thenReturn(78L);
+
+        notificationService.sendNotification(List.of(bob), event);
+
+        assertEquals(2, digest.getEventCount());
+        assertTrue(digest.isSeveralActors());
+        assertTrue(digest.isSeveralTypes());
+        assertEquals(78L, digest.getPendingOutboxId());
+    }
+
+    @Test
+    void sendNotification_shouldNotCoalesceEventsWithoutABoard() {
+        User alice = createTestUser(1L, "alice");
+        User bob = createTestUser(2L, "bob");
+        NotificationEvent event = NotificationEvent.of(NotificationType.ACTIVITY_CREATED, alice, null, 4L, "MEETING : Standup");
+        when(notificationEventRepository.save(event)).thenReturn(event);
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        stubRenderer();
+        when(outboxService.enqueue(eq("/queue/notifications"), eq(2L), anyString(), any(LocalDateTime.class)))
+                .thenReturn(99L);
+
+        notificationService.sendNotification(List.of(bob), event);
+
+        verify(notificationRepository, never()).findOpenDigests(any(), anyList(), any(LocalDateTime.class));
+        verifyNoInteractions(topicBatcher);
+    }
+
+    @Test
+    void sendNotification_shouldStillPublishBoardEventWithoutRecipients() {
+        User alice = createTestUser(1L, "alice");
+        NotificationEvent event = NotificationEvent.of(NotificationType.CARD_MOVED, alice, createTestBoard(), 7L, "A");
+        when(notificationEventRepository.save(event)).thenReturn(event);
+
+        notificationService.sendNotification(List.of(), event);
+
+        verify(topicBatcher).publish(eq("/topic/boards/10/events"), any());
+        verifyNoInteractions(notificationRepository, outboxService, notificationRenderer);
+    }
+
+    @Test
+    void sendNotification_shouldSkipEmptyRecipientListWithoutABoard() {
+        User alice = createTestUser(1L, "alice");
+
+        notificationService.sendNotification(List.of(),
+                NotificationEvent.of(NotificationType.ACTIVITY_CREATED, alice, null, 4L, "MEETING : Standup"));
+
+        verifyNoInteractions(notificationEventRepository, notificationRepository, outboxService, topicBatcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRenderer() {
+        when(notificationRenderer.render(anyList())).thenAnswer(invocation -> ((List<Notification>) invocation.getArgument(0))
+                .stream()
+                .map(notification -> new NotificationDTO(notification.getId(), false, "msg",
+                        notification.getUser().getId(), null, notification.getEvent().getType(),
+                        notification.getEvent().getActorId(), notification.getEvent().getBoardId(), null, null,
+                        notification.getEventCount()))
+                .toList());
+    }
+
+    private Notification createOpenDigest(User recipient, Long actorId, NotificationType type, int eventCount) {
+        Notification notification = new Notification();
+        notification.setId(5L);
+        notification.setUser(recipient);
+        notification.setEvent(NotificationEvent.of(type, createTestUser(actorId, null), createTestBoard(), 6L, "B"));
+        notification.setEventCount(eventCount);
+        notification.setPendingOutboxId(77L);
+        return notification;
+    }
+
+    private Board createTestBoard() {
+        Board board = new Board();
+        board.setId(10L);
+        board.setName("Sprint");
+        return board;
+    }
+
+    private User createTestUser(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
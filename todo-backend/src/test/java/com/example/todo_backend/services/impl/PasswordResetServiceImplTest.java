@@ -0,0 +1,100 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.todo_backend.entities.PasswordResetToken;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.PasswordResetTokenRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.MailService;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordResetServiceImplTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private PasswordResetTokenRepository passwordResetTokenRepository;
+    @Mock private MailService mailService;
+    @Mock private PasswordEncoder passwordEncoder;
+
+    @InjectMocks
+    private PasswordResetServiceImpl passwordResetService;
+
+    @Test
+    void createPasswordResetToken_shouldStoreOnlyTheHashAndMailTheRawToken() {
+        User user = user();
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        passwordResetService.createPasswordResetToken("user@example.com");
+
+        ArgumentCaptor<PasswordResetToken> stored = ArgumentCaptor.forClass(PasswordResetToken.class);
+        verify(passwordResetTokenRepository).deleteByUserId(1L);
+        verify(passwordResetTokenRepository).save(stored.capture());
+        ArgumentCaptor<SimpleMailMessage> mail = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailService).send(mail.capture());
+
+        String text = mail.getValue().getText();
+        String token = text.substring(text.indexOf("token=") + "token=".length());
+        assertEquals(PasswordResetServiceImpl.hash(token), stored.getValue().getTokenHash());
+        assertFalse(stored.getValue().getTokenHash().contains(token));
+        assertTrue(stored.getValue().getExpiresAt().isAfter(LocalDateTime.now()));
+        assertEquals(user, stored.getValue().getUser());
+    }
+
+    @Test
+    void resetPassword_shouldLookUpByHashAndRemoveTheUsersTokens() {
+        User user = user();
+        when(passwordResetTokenRepository.findByTokenHash(PasswordResetServiceImpl.hash("raw-token")))
+                .thenReturn(Optional.of(new PasswordResetToken(5L, "hash", user, LocalDateTime.now().plusMinutes(5))));
+        when(passwordEncoder.encode("new-password")).thenReturn("encoded");
+
+        passwordResetService.resetPassword("raw-token", "new-password");
+
+        assertEquals("encoded", user.getPassword());
+        verify(userRepository).save(user);
+        verify(passwordResetTokenRepository).deleteByUserId(1L);
+    }
+
+    @Test
+    void resetPassword_shouldRejectExpiredToken() {
+        when(passwordResetTokenRepository.findByTokenHash(any()))
+                .thenReturn(Optional.of(new PasswordResetToken(5L, "hash", user(), LocalDateTime.now().minusMinutes(1))));
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> passwordResetService.resetPassword("raw-token", "new-password"));
+
+        assertEquals("Token expired", ex.getMessage());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void purgeExpiredTokens_shouldDeleteTokensPastTheirExpiry() {
+        when(passwordResetTokenRepository.deleteExpired(any(LocalDateTime.class))).thenReturn(3);
+
+        assertEquals(3, passwordResetService.purgeExpiredTokens());
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.ActivityRepository;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.BoardMemberRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentMentionRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.repositories.NotificationRepository;
+import com.example.todo_backend.repositories.PasswordResetTokenRepository;
+import com.example.todo_backend.repositories.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeServiceImplTest {
+
+    @Mock private BoardRepository boardRepository;
+    @Mock private ListEntityRepository listRepository;
+    @Mock private CardRepository cardRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private CommentMentionRepository commentMentionRepository;
+    @Mock private AttachmentRepository attachmentRepository;
+    @Mock private CardMemberRepository cardMemberRepository;
+    @Mock private BoardMemberRepository boardMemberRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private PasswordResetTokenRepository passwordResetTokenRepository;
+    @Mock private ActivityRepository activityRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PurgeServiceImpl purgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new PurgeServiceImpl(boardRepository, listRepository, cardRepository, commentRepository,
+                commentMentionRepository, attachmentRepository, cardMemberRepository, boardMemberRepository, userRepository, notificationRepository,
+                passwordResetTokenRepository, activityRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(purgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(purgeService, "chunkPause", Duration.ZERO);
+    }
+
+    @Test
+    void purgeDeleted_shouldEmptyBoardDeepestFirstThenDeleteIt() {
+        when(boardRepository.findDeletedIds()).thenReturn(List.of(7L));
+        when(cardMemberRepository.deleteChunkByBoardId(7L, 2)).thenReturn(2, 1);
+        when(cardRepository.deleteChunkByBoardId(7L, 2)).thenReturn(2, 2, 0);
+        when(listRepository.deleteChunkByBoardId(7L, 2)).thenReturn(1);
+        when(boardMemberRepository.deleteChunkByBoardId(7L, 2)).thenReturn(1);
+
+        assertEquals(10, purgeService.purgeDeleted());
+
+        var order = inOrder(cardMemberRepository, commentMentionRepository, commentRepository, attachmentRepository,
+                cardRepository, listRepository, boardMemberRepository, boardRepository);
+        order.verify(cardMemberRepository, times(2)).deleteChunkByBoardId(7L, 2);
+        order.verify(commentMentionRepository).deleteChunkByBoardId(7L, 2);
+        order.verify(commentRepository).deleteChunkByBoardId(7L, 2);
+        order.verify(attachmentRepository).deleteChunkByBoardId(7L, 2);
+        order.verify(cardRepository, times(3)).deleteChunkByBoardId(7L, 2);
+        order.verify(listRepository).deleteChunkByBoardId(7L, 2);
+        order.verify(boardMemberRepository).deleteChunkByBoardId(7L, 2);
+        order.verify(boardRepository).deleteById(7L);
+        assertEquals(4.0, meterRegistry.get("todo.purge.deleted").tag("table", "cards").counter().count());
+        assertEquals(0.0, meterRegistry.get("todo.purge.pending").tag("kind", "board").gauge().value());
+    }
+
+    @Test
+    void purgeDeleted_shouldLeaveBoardForNextRunWhenChunkBudgetRunsOut() {
+        when(boardRepository.findDeletedIds()).thenReturn(List.of(7L));
+        when(cardRepository.deleteChunkByBoardId(7L, 2)).thenReturn(2);
+
+        assertEquals(1992, purgeService.purgeDeleted());
+
+        verify(listRepository, never()).deleteChunkByBoardId(anyLong(), any(Integer.class));
+        verify(boardRepository, never()).deleteById(anyLong());
+        verify(userRepository, never()).findIdsToPurge();
+        assertEquals(1.0, meterRegistry.get("todo.purge.pending").tag("kind", "board").gauge().value());
+    }
+
+    @Test
+    void purgeDeleted_shouldDeleteUserWithNothingPointingAtIt() {
+        User user = new User();
+        when(userRepository.findIdsToPurge()).thenReturn(List.of(3L));
+        when(boardMemberRepository.deleteChunkByUserId(3L, 2)).thenReturn(1);
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+
+        assertEquals(2, purgeService.purgeDeleted());
+
+        verify(boardRepository).bumpRevisionByMemberId(3L);
+        verify(commentMentionRepository).deleteChunkByUserId(3L, 2);
+        verify(notificationRepository).deleteChunkByUserId(3L, 2);
+        verify(activityRepository).deleteParticipationChunk(3L, 2);
+        verify(userRepository).delete(user);
+    }
+
+    @Test
+    void purgeDeleted_shouldKeepUserWithCommentsAsAnonymousAuthor() {
+        User user = new User();
+        when(userRepository.findIdsToPurge()).thenReturn(List.of(3L));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(user));
+        when(commentRepository.existsByUserId(3L)).thenReturn(true);
+
+        assertEquals(0, purgeService.purgeDeleted());
+
+        assertNotNull(user.getPurgedAt());
+        verify(userRepository, never()).delete(any(User.class));
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.todo_backend.services.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.todo_backend.dtos.UndoStateDTO;
+import com.example.todo_backend.entities.Attachment;
+import com.example.todo_backend.entities.AuditEvent;
+import com.example.todo_backend.entities.AuditEventType;
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardChangeType;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.CardMember;
+import com.example.todo_backend.entities.Comment;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.exceptions.ConflictException;
+import com.example.todo_backend.repositories.AttachmentRepository;
+import com.example.todo_backend.repositories.BoardRepository;
+import com.example.todo_backend.repositories.CardMemberRepository;
+import com.example.todo_backend.repositories.CardRepository;
+import com.example.todo_backend.repositories.CommentRepository;
+import com.example.todo_backend.repositories.ListEntityRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.AuditService;
+import com.example.todo_backend.services.BoardChangeService;
+import com.example.todo_backend.services.CounterService;
+import com.example.todo_backend.services.WatcherService;
+import com.example.todo_backend.storage.BlobStore;
+
+@ExtendWith(MockitoExtension.class)
+class UndoServiceImplTest {
+
+    @Mock private ListEntityRepository listRepository;
+    @Mock private CardRepository cardRepository;
+    @Mock private CardMemberRepository cardMemberRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private AttachmentRepository attachmentRepository;
+    @Mock private BlobStore blobStore;
+    @Mock private BoardRepository boardRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private CounterService counterService;
+    @Mock private BoardChangeService boardChangeService;
+    @Mock private AuditService auditService;
+    @Mock private WatcherService watcherService;
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private UndoServiceImpl undoService;
+    private Board board;
+    private ListEntity list;
+
+    @BeforeEach
+    void setUp() {
+        undoService = new UndoServiceImpl(listRepository, cardRepository, cardMemberRepository, commentRepository,
+                attachmentRepository, blobStore, boardRepository, userRepository, counterService, boardChangeService, auditService, watcherService, jdbcTemplate,
+                transactionManager, Duration.ofMinutes(30), 100);
+        board = new Board();
+        board.setId(1L);
+        board.setName("Board");
+        list = new ListEntity();
+        list.setId(3L);
+        list.setName("Doing");
+        list.setBoard(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void undo_shouldRestoreDeletedListWithItsCardsUnderTheirIds() {
+        User alice = new User();
+        alice.setId(2L);
+        Card card = new Card();
+        card.setId(7L);
+        card.setTitle("Card");
+        card.setList(list);
+        CardMember member = new CardMember(11L, alice, card);
+        Comment comment = new Comment();
+        comment.setId(13L);
+        comment.setContent("Hi");
+        comment.setCard(card);
+        comment.setUser(alice);
+        when(cardRepository.findByListId(3L)).thenReturn(List.of(card));
+        when(cardMemberRepository.findByListId(3L)).thenReturn(List.of(member));
+        when(commentRepository.findByListId(3L)).thenReturn(List.of(comment));
+        undoService.listDeleted(2L, list);
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(listRepository.existsById(3L)).thenReturn(false);
+        when(userRepository.findAllById(Set.of(2L))).thenReturn(List.of(alice));
+        when(listRepository.findById(3L)).thenReturn(Optional.of(list));
+
+        UndoStateDTO state = undoService.undo(2L);
+
+        verify(listRepository).insertRestored(3L, "Doing", null, 1, 1, 1L);
+        ArgumentCaptor<List<Object[]>> cards = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO cards (id, title, tag, description, version, list_id) VALUES (?, ?, ?, ?, 0, ?)"),
+                cards.capture());
+        assertEquals(7L, cards.getValue().get(0)[0]);
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO card_members (id, user_id, card_id) VALUES (?, ?, ?)"), anyList());
+        verify(counterService).listRestored(list);
+        verify(watcherService).watchersChanged(7L);
+        verify(boardChangeService).recordUpserts(1L, BoardChangeType.CARD, List.of(7L));
+        ArgumentCaptor<AuditEvent> event = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditService).record(event.capture());
+        assertEquals(AuditEventType.LIST_RESTORED, event.getValue().getType());
+        assertEquals("Restore list Doing with 1 cards", state.applied());
+        assertEquals(List.of(), state.undo());
+        assertEquals(List.of("Delete list Doing"), state.redo());
+    }
+
+    @Test
+    void undo_shouldLeaveOutAttachmentsWhoseBlobsWereSwept() throws IOException {
+        Card card = new Card();
+        card.setId(7L);
+        card.setTitle("Card");
+        card.setList(list);
+        String kept = "a".repeat(64);
+        String swept = "b".repeat(64);
+        String sweptThumbnail = "c".repeat(64);
+        LocalDateTime uploaded = LocalDateTime.of(2026, 3, 1, 12, 0);
+        when(cardRepository.findByListId(3L)).thenReturn(List.of(card));
+        when(attachmentRepository.findByListId(3L)).thenReturn(List.of(
+                new Attachment(21L, card, 2L, "kept.png", "image/png", 10, kept, sweptThumbnail, uploaded),
+                new Attachment(22L, card, 2L, "swept.png", "image/png", 10, swept, null, uploaded)));
+        undoService.listDeleted(2L, list);
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(listRepository.existsById(3L)).thenReturn(false);
+        when(listRepository.findById(3L)).thenReturn(Optional.of(list));
+        when(blobStore.retain(kept)).thenReturn(true);
+        when(blobStore.retain(swept)).thenReturn(false);
+        when(blobStore.retain(sweptThumbnail)).thenReturn(false);
+
+        undoService.undo(2L);
+
+        ArgumentCaptor<List<Object[]>> attachments = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO attachments (id, card_id, uploaded_by, file_name, content_type, size, "
+                + "content_hash, thumbnail_hash, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)"), attachments.capture());
+        assertEquals(1, attachments.getValue().size());
+        assertEquals(21L, attachments.getValue().get(0)[0]);
+        assertEquals(kept, attachments.getValue().get(0)[6]);
+        assertNull(attachments.getValue().get(0)[7]);
+    }
+
+    @Test
+    void undo_shouldTombstoneCardsOfTheListItDeletes() {
+        Card card = new Card();
+        card.setId(7L);
+        card.setTitle("Card");
+        card.setList(list);
+        undoService.listCreated(2L, list);
+        when(listRepository.findById(3L)).thenReturn(Optional.of(list));
+        when(cardRepository.findByListId(3L)).thenReturn(List.of(card));
+        when(cardMemberRepository.findByListId(3L)).thenReturn(List.of());
+        when(commentRepository.findByListId(3L)).thenReturn(List.of());
+
+        UndoStateDTO state = undoService.undo(2L);
+
+        verify(boardChangeService).recordRemovals(1L, BoardChangeType.CARD, List.of(7L));
+        verify(boardChangeService).recordRemoval(1L, BoardChangeType.LIST, 3L);
+        verify(listRepository).delete(list);
+        assertEquals(List.of("Restore list Doing with 1 cards"), state.redo());
+    }
+
+    @Test
+    void undo_shouldRevertCardTitleAndDescriptionAndRedoTheEdit() {
+        Card card = new Card();
+        card.setId(7L);
+        card.setTitle("Renamed");
+        card.setDescription("New text");
+        card.setList(list);
+        undoService.cardUpdated(2L, card, "Card", "Old text");
+        undoService.cardUpdated(2L, card, "Renamed", "New text");
+        when(cardRepository.findById(7L)).thenReturn(Optional.of(card));
+
+        UndoStateDTO state = undoService.undo(2L);
+
+        assertEquals("Card", card.getTitle());
+        assertEquals("Old text", card.getDescription());
+        verify(cardRepository).save(card);
+        verify(boardChangeService).recordUpsert(1L, BoardChangeType.CARD, 7L);
+        assertEquals("Edit card Card", state.applied());
+        assertEquals(List.of("Edit card Renamed"), state.redo());
+
+        undoService.redo(2L);
+
+        assertEquals("Renamed", card.getTitle());
+        assertEquals("New text", card.getDescription());
+    }
+
+    @Test
+    void undo_shouldRefuseToRestoreListOfDeletedBoard() {
+        when(cardRepository.findByListId(3L)).thenReturn(List.of());
+        when(cardMemberRepository.findByListId(3L)).thenReturn(List.of());
+        when(commentRepository.findByListId(3L)).thenReturn(List.of());
+        undoService.listDeleted(2L, list);
+        when(boardRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ConflictException.class, () -> undoService.undo(2L));
+
+        verify(listRepository, never()).insertRestored(any(), any(), any(), anyInt(), anyInt(), any());
+        assertEquals(List.of(), undoService.getState(2L).undo());
+    }
+
+    @Test
+    void undo_shouldKeepEntryWhenApplyFailsTransiently() {
+        undoService.boardRenamed(2L, board, "Old name");
+        when(boardRepository.findById(1L)).thenThrow(new QueryTimeoutException("statement timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> undoService.undo(2L));
+
+        assertEquals(List.of("Rename board to Old name"), undoService.getState(2L).undo());
+        assertEquals(List.of(), undoService.getState(2L).redo());
+    }
+
+    @Test
+    void record_shouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        undoService.boardRenamed(2L, board, "Old name");
+        assertEquals(List.of(), undoService.getState(2L).undo());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of("Rename board to Old name"), undoService.getState(2L).undo());
+        assertEquals(List.of(), undoService.getState(5L).undo());
+    }
+
+    @Test
+    void record_shouldKeepOnlyTheMostRecentEntries() {
+        ReflectionTestUtils.setField(undoService, "depth", 2);
+        undoService.boardRenamed(2L, board, "First");
+        undoService.boardRenamed(2L, board, "Second");
+        undoService.boardRenamed(2L, board, "Third");
+        undoService.boardRenamed(2L, board, "Board");
+
+        assertEquals(List.of("Rename board to Third", "Rename board to Second"), undoService.getState(2L).undo());
+    }
+
+    @Test
+    void redo_shouldFailWhenNothingWasUndone() {
+        assertThrows(ConflictException.class, () -> undoService.redo(2L));
+        assertThrows(ConflictException.class, () -> undoService.undo(2L));
+    }
+}
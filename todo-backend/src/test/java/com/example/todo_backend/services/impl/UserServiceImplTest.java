@@ -1,13 +1,18 @@
 package com.example.todo_backend.services.impl;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,9 +24,11 @@ import com.example.todo_backend.dtos.UserDTO;
 import com.example.todo_backend.dtos.UserUpdateDTO;
 import com.example.todo_backend.entities.User;
 import com.example.todo_backend.exceptions.BadRequestException;
+import com.example.todo_backend.exceptions.ConflictException;
 import com.example.todo_backend.exceptions.ResourceNotFoundException;
 import com.example.todo_backend.mappers.UserMapper;
 import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.services.BoardRevisionService;
 
 class UserServiceImplTest {
 
@@ -37,6 +44,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private BoardRevisionService boardRevisionService;
+
     private User mockUser;
 
     @BeforeEach
@@ -64,6 +74,16 @@ class UserServiceImplTest {
         assertEquals("new@example.com", mockUser.getEmail());
     }
 
+    @Test
+    void testUpdateProfile_EmailTakenIgnoringCase() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
+        when(userRepository.existsByEmailAndIdNot("taken@example.com", 1L)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () ->
+                userService.updateProfile(1L, new UserUpdateDTO("mariem", "Taken@Example.com")));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
     @Test
     void testUpdateProfile_UserNotFound() {
         when(userRepository.findById(99L)).thenReturn(Optional.empty());
@@ -102,7 +122,21 @@ class UserServiceImplTest {
 
         userService.deleteUser(1L, "encodedPassword");
 
-        verify(userRepository).delete(mockUser);
+        assertNotNull(mockUser.getDeletedAt());
+        assertNull(mockUser.getUsername());
+        assertNull(mockUser.getEmail());
+        assertNull(mockUser.getPassword());
+        verify(boardRevisionService).memberChanged(1L);
+        verify(userRepository).save(mockUser);
+        verify(userRepository, never()).delete(any(User.class));
+    }
+
+    @Test
+    void testGetUserById_DeletedUserIsNotFound() {
+        mockUser.setDeletedAt(LocalDateTime.now());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
+
+        assertThrows(ResourceNotFoundException.class, () -> userService.getUserById(1L));
     }
 
     @Test
@@ -0,0 +1,84 @@
+package com.example.todo_backend.services.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.todo_backend.entities.Board;
+import com.example.todo_backend.entities.BoardMember;
+import com.example.todo_backend.entities.Card;
+import com.example.todo_backend.entities.ListEntity;
+import com.example.todo_backend.entities.User;
+import com.example.todo_backend.repositories.CardMemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class WatcherServiceImplTest {
+
+    @Mock private CardMemberRepository cardMemberRepository;
+
+    private WatcherServiceImpl watcherService;
+
+    @BeforeEach
+    void setUp() {
+        watcherService = new WatcherServiceImpl(cardMemberRepository, new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void getRecipients_shouldPickWatchingAndMentionedBoardMembersExceptActor() {
+        Card card = cardOnBoardWith(user(1L), user(2L), user(3L), user(4L));
+        when(cardMemberRepository.findUserIdsByCardId(10L)).thenReturn(List.of(1L, 2L, 9L));
+
+        List<User> recipients = watcherService.getRecipients(card, Set.of(3L), 1L);
+
+        assertEquals(List.of(2L, 3L), recipients.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void getWatcherIds_shouldLoadOnceUntilWatchersChange() {
+        when(cardMemberRepository.findUserIdsByCardId(10L)).thenReturn(List.of(1L), List.of(1L, 2L));
+
+        assertEquals(Set.of(1L), watcherService.getWatcherIds(10L));
+        assertEquals(Set.of(1L), watcherService.getWatcherIds(10L));
+        watcherService.watchersChanged(10L);
+
+        assertEquals(Set.of(1L, 2L), watcherService.getWatcherIds(10L));
+        verify(cardMemberRepository, times(2)).findUserIdsByCardId(10L);
+    }
+
+    private static Card cardOnBoardWith(User... members) {
+        Board board = new Board();
+        List<BoardMember> boardMembers = new ArrayList<>();
+        for (User member : members) {
+            BoardMember boardMember = new BoardMember();
+            boardMember.setUser(member);
+            boardMembers.add(boardMember);
+        }
+        board.setMembers(boardMembers);
+        ListEntity list = new ListEntity();
+        list.setBoard(board);
+        Card card = new Card();
+        card.setId(10L);
+        card.setList(list);
+        return card;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.todo_backend.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.todo_backend.exceptions.PayloadTooLargeException;
+
+class BlobStoreTest {
+
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path dir;
+
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new BlobStore(dir.toString());
+    }
+
+    @Test
+    void store_shouldKeepOneFilePerContent() throws IOException {
+        BlobStore.StoredBlob first = blobStore.store(content("hello"), 100);
+        BlobStore.StoredBlob second = blobStore.store(content("hello"), 100);
+
+        assertEquals(new BlobStore.StoredBlob(HELLO_SHA256, 5, true), first);
+        assertFalse(second.created());
+        assertEquals(dir.resolve("2c/f2/" + HELLO_SHA256), blobStore.path(HELLO_SHA256));
+        assertEquals("hello", Files.readString(blobStore.path(HELLO_SHA256)));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    void store_shouldStopAtSizeLimitAndKeepNothing() throws IOException {
+        assertThrows(PayloadTooLargeException.class, () -> blobStore.store(content("hello"), 4));
+
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void path_shouldRejectAnythingButAHash() {
+        assertThrows(IllegalArgumentException.class, () -> blobStore.path("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> blobStore.path(HELLO_SHA256.toUpperCase()));
+    }
+
+    @Test
+    void deleteUnreferenced_shouldOnlyDeleteOldBlobsNobodyUses() throws IOException {
+        String used = blobStore.store(content("used"), 100).hash();
+        String unused = blobStore.store(content("unused"), 100).hash();
+
+        assertEquals(0, blobStore.deleteUnreferenced(Instant.now().minusSeconds(60), hashes -> Set.of()));
+        assertEquals(1, blobStore.deleteUnreferenced(Instant.now().plusSeconds(60), hashes -> Set.of(used)));
+
+        assertTrue(blobStore.exists(used));
+        assertFalse(blobStore.exists(unused));
+    }
+
+    @Test
+    void retain_shouldProtectABlobFromTheSweepUntilItIsGone() throws IOException {
+        String hash = blobStore.store(content("restored"), 100).hash();
+        Files.setLastModifiedTime(blobStore.path(hash), FileTime.from(Instant.now().minusSeconds(3600)));
+
+        assertTrue(blobStore.retain(hash));
+        assertEquals(0, blobStore.deleteUnreferenced(Instant.now().minusSeconds(60), hashes -> Set.of()));
+
+        Files.delete(blobStore.path(hash));
+        assertFalse(blobStore.retain(hash));
+    }
+
+    @Test
+    void deleteUnreferenced_shouldKeepABlobRetainedWhileItsBatchIsChecked() throws IOException {
+        String hash = blobStore.store(content("restored"), 100).hash();
+        Files.setLastModifiedTime(blobStore.path(hash), FileTime.from(Instant.now().minusSeconds(3600)));
+
+        assertEquals(0, blobStore.deleteUnreferenced(Instant.now().minusSeconds(60), hashes -> {
+            try {
+                assertTrue(blobStore.retain(hash));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Set.of();
+        }));
+
+        assertTrue(blobStore.exists(hash));
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.todo_backend.websocket;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.example.todo_backend.websocket.SlowConsumerProtection.Policy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SlowConsumerSessionDecoratorTest {
+
+    private static final String BOARD = "/topic/boards/1/events";
+    private static final String PRESENCE = "/topic/boards/1/presence";
+
+    @Mock private WebSocketSession session;
+
+    private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerProtection protection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        protection = new SlowConsumerProtection(meterRegistry);
+        ReflectionTestUtils.setField(protection, "bufferSizeLimit", DataSize.ofBytes(300));
+        doAnswer(invocation -> {
+            firstSendStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void dropOldest_shouldKeepBufferUnderLimitAndMarkTheNextFrameForResync() throws Exception {
+        ReflectionTestUtils.setField(protection, "policy", Policy.DROP_OLDEST);
+        SlowConsumerSessionDecorator decorator = startBlockedSend();
+
+        for (int i = 1; i <= 4; i++) {
+            decorator.sendMessage(frame(BOARD, "[" + i + "]"));
+        }
+        assertTrue(decorator.getBufferSize() <= 300);
+        release.countDown();
+
+        List<String> sent = sentFrames(3);
+        assertEquals(List.of("[3]", "[4]"), List.of(bodyOf(sent.get(1)), bodyOf(sent.get(2))));
+        assertTrue(sent.get(1).startsWith("MESSAGE\nresync:true\n"));
+        assertFalse(sent.get(2).contains("resync"));
+        assertEquals(2.0, meterRegistry.get("todo.websocket.slow.dropped").tag("policy", "drop_oldest").counter().count());
+    }
+
+    @Test
+    void coalesce_shouldKeepNewestFramePerDestination() throws Exception {
+        ReflectionTestUtils.setField(protection, "policy", Policy.COALESCE);
+        SlowConsumerSessionDecorator decorator = startBlockedSend();
+
+        decorator.sendMessage(frame(BOARD, "[1]"));
+        decorator.sendMessage(frame(PRESENCE, "[p]"));
+        decorator.sendMessage(frame(BOARD, "[2]"));
+        decorator.sendMessage(frame(BOARD, "[3]"));
+        release.countDown();
+
+        List<String> sent = sentFrames(3);
+        assertEquals(List.of("[p]", "[3]"), List.of(bodyOf(sent.get(1)), bodyOf(sent.get(2))));
+        assertTrue(sent.get(2).startsWith("MESSAGE\nresync:true\n"));
+        assertEquals(2.0, meterRegistry.get("todo.websocket.slow.dropped").tag("policy", "coalesce").counter().count());
+    }
+
+    @Test
+    void disconnect_shouldCloseSessionWithResyncStatusOnOverflow() throws Exception {
+        SlowConsumerSessionDecorator decorator = startBlockedSend();
+
+        for (int i = 1; i <= 4; i++) {
+            decorator.sendMessage(frame(BOARD, "[" + i + "]"));
+        }
+
+        verify(session, timeout(1000)).close(SlowConsumerSessionDecorator.RESYNC);
+        assertEquals(0, decorator.getBufferSize());
+        assertEquals(0, protection.getBufferedBytes());
+        assertEquals(1.0, meterRegistry.get("todo.websocket.slow.disconnected").tag("reason", "buffer").counter().count());
+    }
+
+    @Test
+    void sendMessage_shouldDisconnectWhenSendIsStuckPastTimeLimit() throws Exception {
+        ReflectionTestUtils.setField(protection, "policy", Policy.DROP_OLDEST);
+        ReflectionTestUtils.setField(protection, "sendTimeLimit", Duration.ofMillis(20));
+        SlowConsumerSessionDecorator decorator = startBlockedSend();
+
+        Thread.sleep(50);
+        decorator.sendMessage(frame(BOARD, "[1]"));
+
+        verify(session, timeout(1000)).close(SlowConsumerSessionDecorator.RESYNC);
+        verify(session, times(1)).sendMessage(any());
+        assertEquals(1.0, meterRegistry.get("todo.websocket.slow.disconnected").tag("reason", "time").counter().count());
+    }
+
+    @Test
+    void sendMessage_shouldNeverDropFramesOtherThanMessages() throws Exception {
+        ReflectionTestUtils.setField(protection, "policy", Policy.DROP_OLDEST);
+        SlowConsumerSessionDecorator decorator = startBlockedSend();
+        ReflectionTestUtils.setField(protection, "bufferSizeLimit", DataSize.ofBytes(1));
+
+        decorator.sendMessage(new TextMessage("RECEIPT\nreceipt-id:1\n\n\0"));
+        release.countDown();
+
+        List<String> sent = sentFrames(2);
+        assertTrue(sent.get(1).startsWith("RECEIPT\n"));
+        verify(session, never()).close(any());
+    }
+
+    private SlowConsumerSessionDecorator startBlockedSend() throws Exception {
+        SlowConsumerSessionDecorator decorator = new SlowConsumerSessionDecorator(session, protection);
+        decorator.sendMessage(frame(BOARD, "[0]"));
+        assertTrue(firstSendStarted.await(1, TimeUnit.SECONDS));
+        return decorator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> sentFrames(int count) throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, timeout(1000).times(count)).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(message -> ((TextMessage) message).getPayload()).toList();
+    }
+
+    private static TextMessage frame(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n"
+                + "subscription:sub-0\nmessage-id:m-1\ncontent-length:" + body.length() + "\n\n" + body + "\0");
+    }
+
+    private static String bodyOf(String frame) {
+        return frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1);
+    }
+}
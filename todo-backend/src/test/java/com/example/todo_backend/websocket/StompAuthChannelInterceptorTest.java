@@ -0,0 +1,73 @@
+package com.example.todo_backend.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.example.todo_backend.exceptions.AuthenticationException;
+import com.example.todo_backend.repositories.BoardMemberRepository;
+import com.example.todo_backend.repositories.UserRepository;
+import com.example.todo_backend.security.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    @Mock private JwtUtil jwtUtil;
+    @Mock private UserRepository userRepository;
+    @Mock private BoardMemberRepository boardMemberRepository;
+    @Mock private MessageChannel channel;
+
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthChannelInterceptor(jwtUtil, userRepository, boardMemberRepository);
+    }
+
+    @Test
+    void subscribe_shouldAllowOwnQueuesAndTopicsOfMemberBoards() {
+        when(boardMemberRepository.existsByBoardIdAndUserId(5L, 1L)).thenReturn(true);
+
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/user/queue/notifications"), channel));
+        assertDoesNotThrow(() -> interceptor.preSend(subscribe("/topic/boards/5/events"), channel));
+    }
+
+    @Test
+    void subscribe_shouldRejectBoardsOfOthers() {
+        when(boardMemberRepository.existsByBoardIdAndUserId(6L, 1L)).thenReturn(false);
+
+        assertThrows(AuthenticationException.class, () -> interceptor.preSend(subscribe("/topic/boards/6/events"), channel));
+    }
+
+    @Test
+    void subscribe_shouldRejectBrokerDestinationsOutsideUserQueuesAndBoards() {
+        for (String destination : new String[] {
+                "/queue/notifications-userabc123",
+                "/queue/notifications",
+                "/topic/notifications/2",
+                "/topic/boards",
+                "/user/2/queue/notifications"
+        }) {
+            assertThrows(AuthenticationException.class, () -> interceptor.preSend(subscribe(destination), channel),
+                    destination);
+        }
+    }
+
+    private static Message<byte[]> subscribe(String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(new StompPrincipal(1L, "alice"));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todo_backend.websocket;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TopicBatcherTest {
+
+    @Mock private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TopicBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batcher = new TopicBatcher(messagingTemplate, meterRegistry);
+        ReflectionTestUtils.setField(batcher, "flushWindow", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher.isRunning()) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void publish_shouldSendOneArrayFramePerDestinationAfterFlushWindow() throws Exception {
+        batcher.start();
+
+        batcher.publish("/topic/boards/1/events", "a");
+        batcher.publish("/topic/boards/2/events", "x");
+        batcher.publish("/topic/boards/1/events", "b");
+
+        verify(messagingTemplate, timeout(1000)).convertAndSend("/topic/boards/1/events", List.of("a", "b"));
+        verify(messagingTemplate, timeout(1000)).convertAndSend("/topic/boards/2/events", List.of("x"));
+        verifyNoMoreInteractions(messagingTemplate);
+        assertEquals(2, batchesRecorded(2));
+    }
+
+    @Test
+    void publish_shouldSendFullBatchRightAway() {
+        ReflectionTestUtils.setField(batcher, "flushWindow", Duration.ofMinutes(1));
+        batcher.start();
+
+        batcher.publish("/topic/boards/1/events", "a");
+        batcher.publish("/topic/boards/1/events", "b");
+        batcher.publish("/topic/boards/1/events", "c");
+
+        verify(messagingTemplate).convertAndSend("/topic/boards/1/events", List.of("a", "b", "c"));
+    }
+
+    @Test
+    void publish_shouldSendImmediatelyWhenNotRunning() {
+        batcher.publish("/topic/boards/1/events", "a");
+
+        verify(messagingTemplate).convertAndSend("/topic/boards/1/events", List.of("a"));
+    }
+
+    /** The batch size is recorded on the flush thread just after the send, so give it a moment. */
+    private long batchesRecorded(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (meterRegistry.get("todo.websocket.batch.size").summary().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return meterRegistry.get("todo.websocket.batch.size").summary().count();
+    }
+}
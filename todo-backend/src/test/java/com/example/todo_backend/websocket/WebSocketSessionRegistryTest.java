@@ -0,0 +1,103 @@
+package com.example.todo_backend.websocket;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WebSocketSessionRegistryTest {
+
+    private final StompPrincipal alice = new StompPrincipal(1L, "alice");
+    private final StompPrincipal bob = new StompPrincipal(2L, "bob");
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new WebSocketSessionRegistry(meterRegistry);
+    }
+
+    @Test
+    void isOnline_shouldFollowConnectAndDisconnectOfEverySession() {
+        connect("s1", alice);
+        connect("s2", alice);
+
+        disconnect("s1", alice);
+        assertTrue(registry.isOnline(1L));
+
+        disconnect("s2", alice);
+        assertFalse(registry.isOnline(1L));
+        assertEquals(0.0, meterRegistry.get("todo.websocket.sessions").gauge().value());
+    }
+
+    @Test
+    void getBoardViewers_shouldListEachSubscribedUserOnce() {
+        connect("s1", alice);
+        connect("s2", alice);
+        connect("s3", bob);
+        subscribe("s1", "sub-0", "/topic/boards/7/presence", alice);
+        subscribe("s2", "sub-0", "/topic/boards/7/presence", alice);
+        subscribe("s3", "sub-0", "/topic/boards/7/presence", bob);
+        subscribe("s3", "sub-1", "/user/queue/notifications", bob);
+
+        assertEquals(List.of(alice, bob), registry.getBoardViewers(7L));
+        assertEquals(List.of(), registry.getBoardViewers(8L));
+    }
+
+    @Test
+    void getBoardViewers_shouldDropViewersOnUnsubscribeAndDisconnect() {
+        connect("s1", alice);
+        connect("s2", bob);
+        subscribe("s1", "sub-0", "/topic/boards/7/presence", alice);
+        subscribe("s2", "sub-0", "/topic/boards/7/presence", bob);
+
+        unsubscribe("s1", "sub-0", alice);
+        assertEquals(List.of(bob), registry.getBoardViewers(7L));
+
+        disconnect("s2", bob);
+        assertEquals(List.of(), registry.getBoardViewers(7L));
+    }
+
+    private void connect(String sessionId, StompPrincipal user) {
+        registry.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId, null, null), user));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination, StompPrincipal user) {
+        registry.onSubscribe(new SessionSubscribeEvent(this,
+                message(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination), user));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId, StompPrincipal user) {
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                message(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId, null), user));
+    }
+
+    private void disconnect(String sessionId, StompPrincipal user) {
+        registry.onDisconnect(new SessionDisconnectEvent(this,
+                message(StompCommand.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL, user));
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -6,6 +6,7 @@ import { CardService } from '../../../core/services/card.service';
 import { CommentService } from '../../../core/services/comment.service';
 import { AuthService } from '../../../core/services/auth.service';
 import { UserService } from '../../../core/services/user.service';
+import { NotificationService } from '../../../core/services/notification.service';
 import { ActivatedRoute } from '@angular/router';
 import { of, throwError, forkJoin } from 'rxjs';
 import { BoardDTO } from '../../../core/models/board.model';
@@ -24,6 +25,11 @@ class MockBoardService {
   updateBoard = jasmine.createSpy('updateBoard').and.returnValue(of({}));
 }
 
+class MockNotificationService {
+  watchBoard = jasmine.createSpy('watchBoard').and.returnValue(() => {});
+  boardResync$ = of();
+}
+
 class MockListService {
   getLists = jasmine.createSpy('getLists').and.returnValue(of([]));
   createList = jasmine.createSpy('createList').and.returnValue(of({}));
@@ -120,6 +126,7 @@ describe('BoardDetailComponent', () => {
         { provide: CommentService, useClass: MockCommentService },
         { provide: AuthService, useClass: MockAuthService },
         { provide: UserService, useClass: MockUserService },
+        { provide: NotificationService, useClass: MockNotificationService },
         { provide: ActivatedRoute, useClass: MockActivatedRoute },
         { provide: ChangeDetectorRef, useClass: MockChangeDetectorRef },
         TitleTruncatePipe
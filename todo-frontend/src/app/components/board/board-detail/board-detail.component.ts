@@ -1,7 +1,7 @@
 import { Component, OnInit, inject, OnDestroy, HostListener, ChangeDetectorRef } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ActivatedRoute } from '@angular/router';
-import { forkJoin, Subject, takeUntil } from 'rxjs';
+import { filter, forkJoin, Subject, takeUntil } from 'rxjs';
 
 import { BoardDTO } from '../../../core/models/board.model';
 import { ListDTO } from '../../../core/models/list.model';
@@ -16,6 +16,7 @@ import { CommentService } from '../../../core/services/comment.service';
 import { BoardService } from '../../../core/services/board.service';
 import { AuthService } from '../../../core/services/auth.service';
 import { UserService } from '../../../core/services/user.service';
+import { NotificationService } from '../../../core/services/notification.service';
 
 import { ListComponent } from '../list/list.component';
 import { moveItemInArray, transferArrayItem, CdkDragDrop, CdkDropListGroup, DragDropModule } from '@angular/cdk/drag-drop';
@@ -49,8 +50,10 @@ export class BoardDetailComponent implements OnInit, OnDestroy {
   private commentService = inject(CommentService);
   private authService = inject(AuthService);
   private userService = inject(UserService);
+  private notificationService = inject(NotificationService);
   private changeDetectorRef = inject(ChangeDetectorRef);
   private destroy$ = new Subject<void>();
+  private stopWatchingBoard?: () => void;
 
 
   boardMembersWithDetails: BoardMemberWithDetails[] = [];
@@ -85,6 +88,10 @@ export class BoardDetailComponent implements OnInit, OnDestroy {
     this.boardId = Number(this.route.snapshot.paramMap.get('id'));
     this.loadCurrentUser();
     this.loadBoardData();
+    this.stopWatchingBoard = this.notificationService.watchBoard(this.boardId);
+    this.notificationService.boardResync$
+      .pipe(filter(boardId => boardId === this.boardId), takeUntil(this.destroy$))
+      .subscribe(() => this.loadBoardData());
 
     const savedViewMode = localStorage.getItem('boardViewMode');
     if (savedViewMode === 'grid' || savedViewMode === 'list') {
@@ -93,6 +100,7 @@ export class BoardDetailComponent implements OnInit, OnDestroy {
   }
 
   ngOnDestroy() {
+    this.stopWatchingBoard?.();
     this.destroy$.next();
     this.destroy$.complete();
   }
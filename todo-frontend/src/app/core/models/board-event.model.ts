@@ -0,0 +1,9 @@
+export interface BoardEventDTO {
+  id: number;
+  type: string;
+  actorId: number;
+  boardId: number;
+  entityId?: number;
+  title?: string;
+  timestamp: string;
+}
@@ -0,0 +1,4 @@
+export interface BoardViewerDTO {
+  userId: number;
+  username: string;
+}
@@ -4,4 +4,10 @@ export interface NotificationDTO {
   seen: boolean;
   createdAt: string;
   userId?: string
+  type?: string;
+  actorId?: number;
+  boardId?: number;
+  entityId?: number;
+  title?: string;
+  eventCount?: number;
 }
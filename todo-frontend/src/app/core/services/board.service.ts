@@ -3,6 +3,7 @@ import { HttpClient } from '@angular/common/http';
 import { environment } from '../../../environments/environment';
 import { BoardDTO } from '../models/board.model';
 import { BoardUpdateDTO } from '../models/board-update.model';
+import { BoardViewerDTO } from '../models/board-viewer.model';
 
 @Injectable({ providedIn: 'root' })
 export class BoardService {
@@ -39,6 +40,9 @@ export class BoardService {
   deleteBoard(id: number) {
     return this.http.delete(`${environment.apiUrl}/boards/deleteBoard/${id}`);
   }
+  getPresence(id: number) {
+    return this.http.get<BoardViewerDTO[]>(`${environment.apiUrl}/boards/${id}/presence`);
+  }
   updateBoard(payload: Partial<BoardUpdateDTO>) {
     return this.http.put<BoardUpdateDTO>(`${environment.apiUrl}/boards/updateBoard`, payload);
   }
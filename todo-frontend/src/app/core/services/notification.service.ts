@@ -1,11 +1,12 @@
 import { Injectable, inject } from '@angular/core';
-import { Client, IMessage } from '@stomp/stompjs';
+import { Client, IMessage, StompSubscription } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
-import { BehaviorSubject, map } from 'rxjs';
+import { BehaviorSubject, Subject, map } from 'rxjs';
 import { AuthService } from './auth.service';
 import { HttpClient } from '@angular/common/http';
 import { environment } from '../../../environments/environment';
 import { NotificationDTO } from '../models/notification.model';
+import { BoardEventDTO } from '../models/board-event.model';
 
 
 @Injectable({ providedIn: 'root' })
@@ -17,6 +18,14 @@ export class NotificationService {
     private http = inject(HttpClient);
     private isConnected = false;
     private panelOpenSubject = new BehaviorSubject<boolean>(false);
+    private seenDedupIds = new Set<string>();
+    private static readonly MAX_DEDUP_IDS = 500;
+    private boardSubscriptions = new Map<number, StompSubscription | null>();
+    private boardEventsSubject = new Subject<BoardEventDTO>();
+    public boardEvents$ = this.boardEventsSubject.asObservable();
+    private boardResyncSubject = new Subject<number>();
+    public boardResync$ = this.boardResyncSubject.asObservable();
+    private resyncOnConnect = false;
     public panelOpen$ = this.panelOpenSubject.asObservable();
 
     get unreadCount$() {
@@ -41,8 +50,14 @@ export class NotificationService {
                     console.log('Connected to WebSocket successfully');
                     this.isConnected = true;
                     this.subscribeToNotifications();
+                    this.resubscribeToBoards();
                     this.loadInitialNotifications();
                 },
+                onWebSocketClose: (event: CloseEvent) => {
+                    // The server closes sessions that cannot keep up with reason "resync";
+                    // watched boards are reloaded once the client has reconnected.
+                    this.resyncOnConnect = event.reason === 'resync';
+                },
                 onStompError: (frame) => {
                     console.error('STOMP error:', frame.headers['message'], frame.body);
                     this.isConnected = false;
@@ -68,33 +83,114 @@ export class NotificationService {
     }
 
     private subscribeToNotifications() {
-        const userId = this.authService.getCurrentUser()?.id;
-        if (userId && this.stompClient?.connected) {
+        if (this.stompClient?.connected) {
             this.stompClient.subscribe(
-                `/topic/notifications/${userId}`,
+                '/user/queue/notifications',
                 (message: IMessage) => {
+                    if (message.headers['resync']) {
+                        this.loadInitialNotifications();
+                    }
+                    if (this.isDuplicate(message.headers['dedup-id'])) {
+                        return;
+                    }
                     this.handleNotification(message.body);
                 }
             );
         }
     }
 
-    private handleNotification(message: string) {
+    /**
+     * Receives the board's live events on boardEvents$ and marks the current
+     * user as viewing the board until the returned function is called.
+     * Presence is tracked by the server from this subscription.
+     */
+    watchBoard(boardId: number): () => void {
+        this.boardSubscriptions.set(boardId, this.subscribeToBoard(boardId));
+        return () => {
+            this.boardSubscriptions.get(boardId)?.unsubscribe();
+            this.boardSubscriptions.delete(boardId);
+        };
+    }
+
+    private subscribeToBoard(boardId: number): StompSubscription | null {
+        if (!this.stompClient?.connected) {
+            return null;
+        }
+        return this.stompClient.subscribe(`/topic/boards/${boardId}/events`, (message: IMessage) => {
+            if (message.headers['resync']) {
+                this.boardResyncSubject.next(boardId);
+            }
+            try {
+                const events: BoardEventDTO[] = JSON.parse(message.body);
+                events.forEach(event => this.boardEventsSubject.next(event));
+            } catch (error) {
+                console.error('Error handling board events:', error);
+            }
+        });
+    }
+
+    private resubscribeToBoards() {
+        for (const boardId of this.boardSubscriptions.keys()) {
+            this.boardSubscriptions.set(boardId, this.subscribeToBoard(boardId));
+            if (this.resyncOnConnect) {
+                this.boardResyncSubject.next(boardId);
+            }
+        }
+        this.resyncOnConnect = false;
+    }
+
+    private isDuplicate(dedupId?: string): boolean {
+        if (!dedupId) {
+            return false;
+        }
+        if (this.seenDedupIds.has(dedupId)) {
+            return true;
+        }
+        this.seenDedupIds.add(dedupId);
+        if (this.seenDedupIds.size > NotificationService.MAX_DEDUP_IDS) {
+            const oldest = this.seenDedupIds.values().next().value;
+            if (oldest) {
+                this.seenDedupIds.delete(oldest);
+            }
+        }
+        return false;
+    }
+
+    private handleNotification(body: string) {
         try {
+            const pushed = this.parsePushedNotification(body);
             const newNotification: NotificationDTO = {
-                id: Date.now(),
-                message: message,
+                id: pushed?.id ?? Date.now(),
+                message: pushed?.message ?? body,
                 seen: false,
-                createdAt: new Date().toISOString()
+                createdAt: pushed?.timestamp ?? new Date().toISOString(),
+                type: pushed?.type,
+                actorId: pushed?.actorId,
+                boardId: pushed?.boardId,
+                entityId: pushed?.entityId,
+                title: pushed?.title,
+                eventCount: pushed?.eventCount
             };
 
-            const currentNotifications = this.notificationsSubject.value;
+            const currentNotifications = this.notificationsSubject.value
+                .filter(n => n.id !== newNotification.id);
             this.notificationsSubject.next([newNotification, ...currentNotifications]);
         } catch (error) {
             console.error('Error handling notification:', error);
         }
     }
 
+    private parsePushedNotification(body: string): (Omit<NotificationDTO, 'createdAt' | 'seen'> & { timestamp?: string }) | null {
+        if (!body.startsWith('{')) {
+            return null;
+        }
+        try {
+            return JSON.parse(body);
+        } catch {
+            return null;
+        }
+    }
+
     loadInitialNotifications() {
         const userId = this.authService.getCurrentUser()?.id;
         if (userId) {